@@ -0,0 +1,123 @@
+package dukono.minidsl.benchmarks;
+
+import dukono.minidsl.ComparatorEnum;
+import dukono.minidsl.FrozenDto;
+import dukono.minidsl.RemoveBy;
+import dukono.minidsl.example.generated.OrderApi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@code replace}, {@code modify} and every {@link RemoveBy} path of the
+ * generated {@link OrderApi.AnchorActions}.
+ *
+ * Each invocation thaws a fresh DTO from a {@link FrozenDto} snapshot: the
+ * copy-on-write copy made by the first mutation is included in the measure,
+ * the same for every path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActionsBenchmark {
+
+	private static final UnaryOperator<OrderApi.AnchorLogicalMain> PATTERN = api -> api.field(f -> f.ORDER_ID)
+			.equalTo("ORD-0");
+
+	@Param({"10", "100", "1000"})
+	public int filters;
+
+	private FrozenDto snapshot;
+
+	/**
+	 * Only the comparator paths are expanded over the comparators.
+	 */
+	@State(Scope.Benchmark)
+	public static class ComparatorParam {
+
+		/**
+		 * Comparators accepted by both {@link RemoveBy#fullLine()} and
+		 * {@link RemoveBy#comparatorMatch()}.
+		 */
+		@Param({"KEY", "KEY_VALUE", "KEY_OP", "OP", "FULL"})
+		public ComparatorEnum comparator;
+	}
+
+	@Setup
+	public void setUp() {
+		this.snapshot = Fixtures.dto(this.filters).freeze();
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto replace() {
+		return OrderApi.from(this.thaw())
+				.replace(PATTERN, api -> api.field(f -> f.CREATED_DATE).equalTo("2024-01-01")).getDto();
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto modify(final ComparatorParam param) {
+		return OrderApi.from(this.thaw())
+				.modify(api -> api.field(f -> f.STATUS).inValues(List.of(3, 1)), c -> param.comparator)
+				.getDto();
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto removeFullLine(final ComparatorParam param) {
+		return OrderApi.from(this.thaw()).remove(remove -> byComparator(remove.fullLine(), param.comparator))
+				.getDto();
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto removeComparatorMatch(final ComparatorParam param) {
+		return OrderApi.from(this.thaw()).remove(remove -> byComparator(remove.comparatorMatch(), param.comparator))
+				.getDto();
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto removeQueryMatch() {
+		return OrderApi.from(this.thaw()).remove(remove -> remove.queryMatch(PATTERN)).getDto();
+	}
+
+	// -----------------------------
+
+	private OrderApi.OrderDto thaw() {
+		return this.snapshot.thaw(OrderApi.OrderDto::new);
+	}
+
+	private static RemoveBy.Remover byComparator(
+			final RemoveBy.ComparatorFullByPattern<OrderApi.AnchorLogicalMain> by, final ComparatorEnum comparator) {
+		return switch (comparator) {
+			case KEY -> by.byKey(PATTERN);
+			case KEY_VALUE -> by.byKeyValue(PATTERN);
+			case KEY_OP -> by.byKeyOperation(PATTERN);
+			case OP -> by.byOperation(PATTERN);
+			default -> by.byFullMatch(PATTERN);
+		};
+	}
+
+	private static RemoveBy.Remover byComparator(final RemoveBy.ComparatorByPattern<OrderApi.AnchorLogicalMain> by,
+			final ComparatorEnum comparator) {
+		return switch (comparator) {
+			case KEY -> by.byKey(PATTERN);
+			case KEY_VALUE -> by.byKeyValue(PATTERN);
+			case KEY_OP -> by.byKeyOperation(PATTERN);
+			case OP -> by.byOperation(PATTERN);
+			default -> by.byFullMatch(PATTERN);
+		};
+	}
+}
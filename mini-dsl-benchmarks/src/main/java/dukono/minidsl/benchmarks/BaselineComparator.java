@@ -0,0 +1,207 @@
+package dukono.minidsl.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Checks a JMH JSON result ({@code -rf json}) against the committed baseline.
+ *
+ * A benchmark regresses when its score is worse than the baseline by more than
+ * the time tolerance (higher average time, or lower throughput), or when
+ * {@code gc.alloc.rate.norm} grows by more than the allocation tolerance. Both
+ * tolerances are relative: the check holds on slow and fast machines alike, as
+ * long as the baseline was recorded on the same one.
+ *
+ * Usage:
+ *
+ * <pre>
+ * BaselineComparator &lt;baseline.json&gt; &lt;jmh-result.json&gt; [timeTolerance] [allocTolerance] [update|strict]
+ * </pre>
+ *
+ * With {@code update} the result is written as the new baseline instead. With
+ * {@code strict} a benchmark that is not in the baseline fails the check too,
+ * so a new benchmark cannot go unchecked until someone records it. The process
+ * exits with 1 when something regressed.
+ */
+public final class BaselineComparator {
+
+	static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+
+	static final double DEFAULT_TIME_TOLERANCE = 0.20;
+
+	static final double DEFAULT_ALLOC_TOLERANCE = 0.05;
+
+	/**
+	 * Bytes per op ignored on top of the tolerance: a 16 byte object more on a
+	 * 40 byte benchmark is not a regression worth failing for.
+	 */
+	static final double ALLOC_SLACK = 64;
+
+	private static final String PACKAGE_PREFIX = BaselineComparator.class.getPackageName() + ".";
+
+	private static final ObjectMapper JSON_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+	/**
+	 * Score of one benchmark and parameter combination.
+	 *
+	 * @param mode
+	 *            JMH mode: {@code thrpt} is better when higher, every other mode
+	 *            when lower
+	 * @param alloc
+	 *            bytes per op, NaN when run without the GC profiler
+	 */
+	record Result(String mode, double score, String unit, double alloc) {
+
+		boolean higherIsBetter() {
+			return "thrpt".equals(this.mode);
+		}
+	}
+
+	private BaselineComparator() {
+	}
+
+	public static void main(final String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Usage: BaselineComparator <baseline.json> <jmh-result.json> [timeTolerance]"
+					+ " [allocTolerance] [update|strict]");
+			System.exit(2);
+		}
+		final Path baselineFile = Path.of(args[0]);
+		final Map<String, Result> current = read(Path.of(args[1]));
+		if (List.of(args).contains("update")) {
+			write(baselineFile, current);
+			System.out.printf("Baseline %s updated with %d results%n", baselineFile, current.size());
+			return;
+		}
+		final double timeTolerance = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TIME_TOLERANCE;
+		final double allocTolerance = args.length > 3 ? Double.parseDouble(args[3]) : DEFAULT_ALLOC_TOLERANCE;
+
+		final boolean strict = List.of(args).contains("strict");
+
+		final List<String> regressions = compare(read(baselineFile), current, timeTolerance, allocTolerance,
+				strict);
+		if (regressions.isEmpty()) {
+			System.out.printf("No regressions against %s (time +/-%.0f%%, alloc +%.0f%%)%n", baselineFile,
+					timeTolerance * 100, allocTolerance * 100);
+			return;
+		}
+		System.out.printf("%d regressions against %s:%n", regressions.size(), baselineFile);
+		regressions.forEach(regression -> System.out.println("  " + regression));
+		System.exit(1);
+	}
+
+	/**
+	 * @return one message per regression, empty when none. Benchmarks missing on
+	 *         either side are reported but do not count as regressions.
+	 */
+	static List<String> compare(final Map<String, Result> baseline, final Map<String, Result> current,
+			final double timeTolerance, final double allocTolerance) {
+		return compare(baseline, current, timeTolerance, allocTolerance, false);
+	}
+
+	/**
+	 * @param strict
+	 *            whether a benchmark run but missing in the baseline counts as a
+	 *            regression. Benchmarks in the baseline that were not run never
+	 *            do: a filtered run is legitimate.
+	 * @return one message per regression, empty when none
+	 */
+	static List<String> compare(final Map<String, Result> baseline, final Map<String, Result> current,
+			final double timeTolerance, final double allocTolerance, final boolean strict) {
+		final List<String> regressions = new ArrayList<>();
+		current.forEach((key, now) -> {
+			final Result before = baseline.get(key);
+			if (before == null) {
+				if (strict) {
+					regressions.add(key + ": not in baseline, record it with update");
+				} else {
+					System.out.println("New benchmark, not in baseline: " + key);
+				}
+				return;
+			}
+			final double change = (now.score() - before.score()) / before.score();
+			final boolean slower = now.higherIsBetter() ? change < -timeTolerance : change > timeTolerance;
+			if (slower) {
+				regressions.add(String.format("%s: %.3f -> %.3f %s (%+.1f%%)", key, before.score(), now.score(),
+						now.unit(), change * 100));
+			}
+			if (!Double.isNaN(before.alloc()) && !Double.isNaN(now.alloc())
+					&& now.alloc() > before.alloc() * (1 + allocTolerance) + ALLOC_SLACK) {
+				regressions.add(String.format("%s: %.1f -> %.1f B/op allocated", key, before.alloc(), now.alloc()));
+			}
+		});
+		baseline.keySet().stream().filter(key -> !current.containsKey(key))
+				.forEach(key -> System.out.println("Not run, kept in baseline: " + key));
+		return regressions;
+	}
+
+	/**
+	 * Reads either a JMH JSON result (array) or a baseline written by
+	 * {@link #write} (object).
+	 */
+	static Map<String, Result> read(final Path file) throws IOException {
+		final JsonNode root = JSON_MAPPER.readTree(file.toFile());
+		final Map<String, Result> results = new TreeMap<>();
+		if (root.isArray()) {
+			for (final JsonNode run : root) {
+				final JsonNode primary = run.path("primaryMetric");
+				final JsonNode alloc = run.path("secondaryMetrics").path(ALLOC_METRIC).path("score");
+				results.put(key(run), new Result(run.path("mode").asText(), primary.path("score").asDouble(),
+						primary.path("scoreUnit").asText(), alloc.isNumber() ? alloc.asDouble() : Double.NaN));
+			}
+			return results;
+		}
+		final Iterator<Map.Entry<String, JsonNode>> entries = root.fields();
+		while (entries.hasNext()) {
+			final Map.Entry<String, JsonNode> entry = entries.next();
+			final JsonNode node = entry.getValue();
+			final JsonNode alloc = node.path("alloc");
+			results.put(entry.getKey(), new Result(node.path("mode").asText(), node.path("score").asDouble(),
+					node.path("unit").asText(), alloc.isNumber() ? alloc.asDouble() : Double.NaN));
+		}
+		return results;
+	}
+
+	static void write(final Path file, final Map<String, Result> results) throws IOException {
+		final ObjectNode root = JSON_MAPPER.createObjectNode();
+		results.forEach((key, result) -> {
+			final ObjectNode node = root.putObject(key);
+			node.put("mode", result.mode());
+			node.put("score", result.score());
+			node.put("unit", result.unit());
+			if (!Double.isNaN(result.alloc())) {
+				node.put("alloc", result.alloc());
+			}
+		});
+		Files.writeString(file, JSON_MAPPER.writeValueAsString(root) + System.lineSeparator());
+	}
+
+	/**
+	 * {@code ParseBenchmark.parseQueries{filters=10}}: class and method without
+	 * the package, parameters sorted by name.
+	 */
+	private static String key(final JsonNode run) {
+		final String benchmark = run.path("benchmark").asText();
+		final StringBuilder key = new StringBuilder(
+				benchmark.startsWith(PACKAGE_PREFIX) ? benchmark.substring(PACKAGE_PREFIX.length()) : benchmark);
+		final Map<String, String> params = new TreeMap<>();
+		run.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+		if (!params.isEmpty()) {
+			key.append('{');
+			params.forEach((name, value) -> key.append(name).append('=').append(value).append(','));
+			key.setCharAt(key.length() - 1, '}');
+		}
+		return key.toString();
+	}
+}
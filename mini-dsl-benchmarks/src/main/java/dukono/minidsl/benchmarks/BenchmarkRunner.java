@@ -0,0 +1,25 @@
+package dukono.minidsl.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}: runs the benchmarks with the
+ * {@link GCProfiler} always attached, so every result carries
+ * {@code gc.alloc.rate.norm} (bytes allocated per operation).
+ *
+ * Accepts the regular JMH command line, e.g.
+ * {@code java -jar mini-dsl-benchmarks/target/benchmarks.jar Parse -p filters=100}.
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(final String[] args) throws Exception {
+		new Runner(new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build())
+				.run();
+	}
+}
@@ -0,0 +1,100 @@
+package dukono.minidsl.benchmarks;
+
+import dukono.minidsl.example.generated.OrderApi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fluent building through the generated {@link OrderApi}: one filter per field
+ * call and list collapsing, where {@code filters} is the list size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BuildBenchmark {
+
+	@Param({"1", "10", "100", "1000"})
+	public int filters;
+
+	private List<Fixtures.Line> lines;
+
+	@Setup
+	public void setUp() {
+		this.lines = Fixtures.lines(this.filters);
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto fluent() {
+		OrderApi.AnchorActions anchor = OrderApi.from();
+		for (int i = 0; i < this.filters; i++) {
+			// @formatter:off
+			anchor = anchor
+					.open()
+						.field(f -> f.ORDER_ID).equalTo("ORD-" + i)
+					.close()
+					.field(f -> f.STATUS).isNotNull()
+					.other();
+			// @formatter:on
+		}
+		return anchor.getDto();
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto fluentPooled() {
+		OrderApi.AnchorActions anchor = OrderApi.pooled();
+		for (int i = 0; i < this.filters; i++) {
+			// @formatter:off
+			anchor = anchor
+					.open()
+						.field(f -> f.ORDER_ID).equalTo("ORD-" + i)
+					.close()
+					.field(f -> f.STATUS).isNotNull()
+					.other();
+			// @formatter:on
+		}
+		return anchor.getDto();
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto listCollapseOr() {
+		return OrderApi.from()
+				.listCollapseOr(this.lines, one -> one.field(f -> f.ORDER_ID).equalTo(Fixtures.Line::orderId))
+				.getDto();
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto listCollapseOrGrouped() {
+		// @formatter:off
+		return OrderApi.from()
+				.listCollapseOr(this.lines, one -> one
+						.open()
+							.field(f -> f.ORDER_ID).equalTo(Fixtures.Line::orderId)
+							.field(f -> f.STATUS).equalTo(Fixtures.Line::status)
+						.close())
+				.getDto();
+		// @formatter:on
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto listCollapseOrParallel() {
+		return OrderApi.from()
+				.listCollapseOr(this.lines.stream(),
+						one -> one.field(f -> f.ORDER_ID).equalTo(Fixtures.Line::orderId), true)
+				.getDto();
+	}
+}
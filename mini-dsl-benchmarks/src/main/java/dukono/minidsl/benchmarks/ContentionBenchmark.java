@@ -0,0 +1,105 @@
+package dukono.minidsl.benchmarks;
+
+import dukono.minidsl.ConcurrentDto;
+import dukono.minidsl.Dto;
+import dukono.minidsl.Queries;
+import dukono.minidsl.example.generated.OrderApi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Several producers appending to one DTO while a reader takes sorted
+ * snapshots: {@link ConcurrentDto} against a plain DTO behind a lock.
+ *
+ * Each producer clears the DTO every {@code CAPACITY} appends, so it stays
+ * bounded and the reader sorts a comparable amount of filters in every
+ * iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ContentionBenchmark {
+
+	private static final int POOL = 1_024;
+
+	private static final int CAPACITY = 4_096;
+
+	@Param({"concurrent", "synchronized"})
+	public String dto;
+
+	private List<Queries> pool;
+
+	private Dto target;
+
+	/**
+	 * DTO that any number of threads can append to.
+	 */
+	public static class ConcurrentOrderDto extends ConcurrentDto {
+	}
+
+	/**
+	 * Appends done by one producer thread.
+	 */
+	@State(Scope.Thread)
+	public static class Producer {
+		int appended;
+	}
+
+	@Setup(Level.Trial)
+	public void setUpPool() {
+		final OrderApi.OrderDto source = Fixtures.dto(POOL);
+		// Strings y prefijos de orden calculados antes de compartir los filtros entre hilos
+		source.getFiltersSorted();
+		this.pool = List.copyOf(source.getFilters());
+	}
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		this.target = "concurrent".equals(this.dto) ? new ConcurrentOrderDto() : new OrderApi.OrderDto();
+	}
+
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(3)
+	public Dto append(final Producer producer) {
+		final int n = producer.appended++;
+		final Queries filter = this.pool.get(n & (POOL - 1));
+		final boolean full = (n & (CAPACITY - 1)) == CAPACITY - 1;
+		if (this.target instanceof ConcurrentDto) {
+			return full ? this.target.removeFilters() : this.target.addFilter(filter);
+		}
+		synchronized (this.target) {
+			return full ? this.target.removeFilters() : this.target.addFilter(filter);
+		}
+	}
+
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(1)
+	public List<Queries> getFiltersSorted() {
+		if (this.target instanceof ConcurrentDto) {
+			return this.target.getFiltersSorted();
+		}
+		synchronized (this.target) {
+			return this.target.getFiltersSorted();
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package dukono.minidsl.benchmarks;
+
+import dukono.minidsl.Query;
+import dukono.minidsl.example.generated.OrderApi;
+import dukono.minidsl.example.generated.OrderDomainDefinitionConfigConcise;
+import dukono.minidsl.util.ParseConfigFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic inputs of the Order domain shared by the benchmarks.
+ */
+final class Fixtures {
+
+	/**
+	 * Generic configuration built by reflection over the Order enums, the
+	 * baseline of the generated {@link OrderApi.Parser}.
+	 */
+	static final Query.ParseConfig GENERIC = ParseConfigFactory.fromOperationEnumWithFields(
+			OrderDomainDefinitionConfigConcise.OrderOperationsEnum.class,
+			OrderDomainDefinitionConfigConcise.OrderFields.class);
+
+	private static final String[] SHAPES = {"orderId eq ORD-%d", "customerName like name%d and status is_not_null",
+			"(status in 1|2|%d) or (items ge %d)", "totalAmount ge %d and createdDate eq 2024-01-01",
+			"orderId in A%d|B%d|C%d"};
+
+	/**
+	 * Order line used as list item by the collapse benchmarks.
+	 */
+	record Line(String orderId, int status, double price) {
+	}
+
+	private Fixtures() {
+	}
+
+	/**
+	 * @param size
+	 *            number of filters
+	 * @return distinct filter strings mixing every operator kind
+	 */
+	static List<String> inputs(final int size) {
+		final List<String> inputs = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			final String shape = SHAPES[i % SHAPES.length];
+			inputs.add(shape.replace("%d", Integer.toString(i)));
+		}
+		return inputs;
+	}
+
+	/**
+	 * @param size
+	 *            number of items
+	 * @return order lines with a few repeated statuses
+	 */
+	static List<Line> lines(final int size) {
+		final List<Line> lines = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			lines.add(new Line("ORD-" + i, i % 4, 10.5 * i));
+		}
+		return lines;
+	}
+
+	/**
+	 * @param size
+	 *            number of filters
+	 * @return a DTO holding the parsed {@link #inputs(int)}
+	 */
+	static OrderApi.OrderDto dto(final int size) {
+		return OrderApi.from(inputs(size)).getDto();
+	}
+}
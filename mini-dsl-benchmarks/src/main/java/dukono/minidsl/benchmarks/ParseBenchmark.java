@@ -0,0 +1,74 @@
+package dukono.minidsl.benchmarks;
+
+import dukono.minidsl.Query;
+import dukono.minidsl.example.generated.OrderApi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * String to {@link Query}: single strings, whole filter sets and the JSON
+ * round trip.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+	@Param({"10", "100", "1000"})
+	public int filters;
+
+	private List<String> inputs;
+
+	private String json;
+
+	@Setup
+	public void setUp() {
+		this.inputs = Fixtures.inputs(this.filters);
+		this.json = Fixtures.dto(this.filters).filtersAsJson();
+	}
+
+	@Benchmark
+	public void parseQueries(final Blackhole bh) {
+		for (final String input : this.inputs) {
+			bh.consume(Query.parseQueries(input, Fixtures.GENERIC));
+		}
+	}
+
+	@Benchmark
+	public void parseQueriesGenerated(final Blackhole bh) {
+		for (final String input : this.inputs) {
+			bh.consume(OrderApi.parse(input));
+		}
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto parseFilters() {
+		return new OrderApi.OrderDto().parseFilters(this.inputs, Fixtures.GENERIC);
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto parseFiltersGenerated() {
+		return new OrderApi.OrderDto().parseFilters(this.inputs, OrderApi.Parser.INSTANCE);
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto parseFiltersJson() {
+		return new OrderApi.OrderDto().parseFiltersJson(this.json, Fixtures.GENERIC);
+	}
+}
@@ -0,0 +1,79 @@
+package dukono.minidsl.benchmarks;
+
+import dukono.minidsl.Queries;
+import dukono.minidsl.example.generated.OrderApi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of an already parsed DTO. The DTO is shared across invocations:
+ * caches it keeps between calls count as part of the measured path, so the
+ * plain variants measure memo hits. The {@code AfterChange} variants mark the
+ * filters as changed first, which drops the sorted view and the memoized
+ * renderings, and measure rendering again.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RenderBenchmark {
+
+	@Param({"10", "100", "1000"})
+	public int filters;
+
+	private OrderApi.OrderDto dto;
+
+	@Setup
+	public void setUp() {
+		this.dto = Fixtures.dto(this.filters);
+	}
+
+	@Benchmark
+	public List<String> filtersAsString() {
+		return this.dto.filtersAsString();
+	}
+
+	@Benchmark
+	public String filtersAsJson() {
+		return this.dto.filtersAsJson();
+	}
+
+	@Benchmark
+	public List<String> filtersAsStringAfterChange() {
+		this.touch();
+		return this.dto.filtersAsString();
+	}
+
+	@Benchmark
+	public String filtersAsJsonAfterChange() {
+		this.touch();
+		return this.dto.filtersAsJson();
+	}
+
+	@Benchmark
+	public List<Queries> getFiltersSorted() {
+		return this.dto.getFiltersSorted();
+	}
+
+	/**
+	 * Same filters set again: the DTO treats it as a change and drops its
+	 * caches, the Queries keep their rendered strings.
+	 */
+	private void touch() {
+		this.dto.setFilters(this.dto.getFilters());
+	}
+}
@@ -0,0 +1,90 @@
+package dukono.minidsl.benchmarks;
+
+import dukono.minidsl.Queries;
+import dukono.minidsl.example.generated.OrderApi;
+import dukono.minidsl.example.generated.OrderDomainDefinitionConfigConcise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse and render over {@link WorkloadGenerator} corpora of the Order domain,
+ * realistic and adversarial, instead of the fixed {@link Fixtures} shapes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkloadBenchmark {
+
+	private static final WorkloadGenerator GENERATOR = WorkloadGenerator.of(
+			OrderDomainDefinitionConfigConcise.OrderOperationsEnum.class,
+			OrderDomainDefinitionConfigConcise.OrderFields.class);
+
+	private static final long SEED = 42L;
+
+	@Param({"realistic", "adversarial"})
+	public String workload;
+
+	@Param({"100", "1000"})
+	public int filters;
+
+	private List<String> inputs;
+
+	private String json;
+
+	private OrderApi.OrderDto dto;
+
+	@Setup
+	public void setUp() {
+		final WorkloadGenerator.Shape shape = "adversarial".equals(this.workload)
+				? WorkloadGenerator.ADVERSARIAL
+				: WorkloadGenerator.REALISTIC;
+		this.inputs = GENERATOR.strings(this.filters, shape, SEED);
+		this.json = GENERATOR.json(this.filters, shape, SEED);
+		this.dto = GENERATOR.dto(OrderApi.OrderDto::new, this.filters, shape, SEED);
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto parseFilters() {
+		return new OrderApi.OrderDto().parseFilters(this.inputs, Fixtures.GENERIC);
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto parseFiltersGenerated() {
+		return new OrderApi.OrderDto().parseFilters(this.inputs, OrderApi.Parser.INSTANCE);
+	}
+
+	@Benchmark
+	public OrderApi.OrderDto parseFiltersJson() {
+		return new OrderApi.OrderDto().parseFiltersJson(this.json, Fixtures.GENERIC);
+	}
+
+	@Benchmark
+	public List<String> filtersAsString() {
+		return this.dto.filtersAsString();
+	}
+
+	@Benchmark
+	public String filtersAsJson() {
+		return this.dto.filtersAsJson();
+	}
+
+	@Benchmark
+	public List<Queries> getFiltersSorted() {
+		return this.dto.getFiltersSorted();
+	}
+}
@@ -0,0 +1,335 @@
+package dukono.minidsl.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dukono.minidsl.Dto;
+import dukono.minidsl.Queries;
+import dukono.minidsl.Query;
+import dukono.minidsl.annotation.OperationDefinition;
+import dukono.minidsl.util.DomainRegistry;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Getter;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Seeded synthetic filter corpora for any domain, read from its Fields class
+ * and {@link OperationDefinition} enum.
+ *
+ * The same (domain, {@link Shape}, seed) always yields the same corpus, so
+ * benchmark runs and baselines compare like with like. Each filter is generated
+ * once as a list of {@link Query} and then rendered as a string, as the JSON
+ * read by {@link Dto#parseFiltersJson} or as a built DTO.
+ *
+ * Only operations with an operator are generated: {@code NO_OP_*} operations
+ * render without operator and the parser drops them unless unknown operators
+ * are allowed.
+ */
+public final class WorkloadGenerator {
+
+	private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+	private static final String[] NOISE = {"  ", "\t", " \n ", "   "};
+
+	/**
+	 * Shape of the generated filters. Every probability is between 0 and 1.
+	 */
+	@Getter
+	@Builder(toBuilder = true)
+	public static class Shape {
+
+		/**
+		 * Maximum nesting of parenthesized groups, 0 for flat filters.
+		 */
+		@Default
+		private final int depth = 1;
+
+		/**
+		 * Comparisons per filter.
+		 */
+		@Default
+		private final int atoms = 4;
+
+		@Default
+		private final int minListSize = 2;
+
+		@Default
+		private final int maxListSize = 5;
+
+		/**
+		 * Relative weight of each operator, e.g. {@code {"eq": 6, "in": 1}}.
+		 * Operators left out are not generated; empty for a uniform mix.
+		 */
+		@Default
+		private final Map<String, Integer> operatorMix = Map.of();
+
+		/**
+		 * Probability of joining two terms with {@code or} instead of {@code and}.
+		 */
+		@Default
+		private final double orRate = 0.3;
+
+		/**
+		 * Probability of opening a group at each term while depth is left.
+		 */
+		@Default
+		private final double groupRate = 0.3;
+
+		/**
+		 * Fraction of the filters that repeat an earlier filter of the corpus.
+		 */
+		@Default
+		private final double duplicationRate = 0;
+
+		/**
+		 * Distinct values per field. Values are skewed towards the low ones, as
+		 * hot keys are in real traffic.
+		 */
+		@Default
+		private final int valueCardinality = 1000;
+
+		/**
+		 * Probability of replacing a separator with extra whitespace: same filter,
+		 * different string.
+		 */
+		@Default
+		private final double whitespaceNoise = 0;
+	}
+
+	/**
+	 * Short filters, mostly conjunctions, few groups and small lists.
+	 */
+	public static final Shape REALISTIC = Shape.builder().build();
+
+	/**
+	 * Deep nesting, long filters, large lists, hot values, repeated filters and
+	 * whitespace variants of them.
+	 */
+	public static final Shape ADVERSARIAL = Shape.builder().depth(6).atoms(24).minListSize(50).maxListSize(200)
+			.orRate(0.5).groupRate(0.6).duplicationRate(0.3).valueCardinality(256).whitespaceNoise(0.2).build();
+
+	private final String[] fields;
+
+	private final OperationDefinition[] operations;
+
+	private WorkloadGenerator(final String[] fields, final OperationDefinition[] operations) {
+		this.fields = fields;
+		this.operations = operations;
+	}
+
+	/**
+	 * @param operationEnumClass
+	 *            operations of the domain
+	 * @param fieldsClass
+	 *            Fields class of the domain
+	 * @throws IllegalArgumentException
+	 *             when the domain has no fields or no operation with operator
+	 */
+	public static WorkloadGenerator of(final Class<? extends Enum<? extends OperationDefinition>> operationEnumClass,
+			final Class<?> fieldsClass) {
+		// Orden fijo: fieldNames() es un HashSet y la semilla no bastaría
+		final String[] fields = new TreeSet<>(DomainRegistry.of(fieldsClass).fieldNames()).toArray(String[]::new);
+		final OperationDefinition[] operations = Arrays.stream(operationEnumClass.getEnumConstants())
+				.map(OperationDefinition.class::cast)
+				.filter(op -> op.getOperator() != null && !op.getOperator().isEmpty())
+				.filter(op -> switch (op.getType()) {
+					case WITH_ARG, WITH_LIST, NO_VALUE -> true;
+					case NO_OP_WITH_ARG, NO_OP_WITH_LIST, NO_OP_NO_VALUE -> false;
+				}).toArray(OperationDefinition[]::new);
+		if (fields.length == 0 || operations.length == 0) {
+			throw new IllegalArgumentException("Domain without fields or operators: " + operationEnumClass.getName()
+					+ ", " + fieldsClass.getName());
+		}
+		return new WorkloadGenerator(fields, operations);
+	}
+
+	/**
+	 * @return the filters as lists of queries, parentheses and logical operators
+	 *         included
+	 */
+	public List<List<Query>> queries(final int count, final Shape shape, final long seed) {
+		final int[] weights = this.weights(shape);
+		final SplittableRandom random = new SplittableRandom(seed);
+		final List<List<Query>> corpus = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			if (i > 0 && random.nextDouble() < shape.getDuplicationRate()) {
+				corpus.add(corpus.get(random.nextInt(i)));
+			} else {
+				final List<Query> filter = new ArrayList<>();
+				this.expression(filter, shape.getAtoms(), shape.getDepth(), shape, weights, random);
+				corpus.add(filter);
+			}
+		}
+		return corpus;
+	}
+
+	/**
+	 * @return the filters as query strings, one per filter
+	 */
+	public List<String> strings(final int count, final Shape shape, final long seed) {
+		final List<List<Query>> corpus = this.queries(count, shape, seed);
+		// Semilla propia: el ruido no altera el corpus de la misma semilla
+		final SplittableRandom noise = new SplittableRandom(~seed);
+		final List<String> strings = new ArrayList<>(corpus.size());
+		for (final List<Query> filter : corpus) {
+			strings.add(render(filter, shape.getWhitespaceNoise(), noise));
+		}
+		return strings;
+	}
+
+	/**
+	 * @return the filters in the JSON format of {@link Dto#filtersAsJson()}
+	 */
+	public String json(final int count, final Shape shape, final long seed) {
+		final List<Map<String, Object>> nodes = new ArrayList<>();
+		for (final List<Query> filter : this.queries(count, shape, seed)) {
+			for (final Query q : filter) {
+				final Map<String, Object> node = new LinkedHashMap<>();
+				if (q.getKey() != null) {
+					node.put("key", q.getKey());
+				}
+				if (q.getOp() != null) {
+					node.put("op", q.getOp());
+				}
+				q.getValue().ifPresent(v -> node.put("value", v));
+				nodes.add(node);
+			}
+		}
+		try {
+			return JSON_MAPPER.writeValueAsString(nodes);
+		} catch (final JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Adds the filters to a new DTO without parsing them. Repeated filters are
+	 * kept, unlike {@link Dto#parseFilters}.
+	 */
+	public <T extends Dto> T dto(final Supplier<T> factory, final int count, final Shape shape, final long seed) {
+		final List<Queries> filters = new ArrayList<>(count);
+		for (final List<Query> filter : this.queries(count, shape, seed)) {
+			final List<Query> copy = new ArrayList<>(filter.size());
+			filter.forEach(q -> copy.add(Query.from(q.getKey(), q.getOp(), q.getValue())));
+			filters.add(Queries.builder().queries(copy).build());
+		}
+		return factory.get().addFilter(filters);
+	}
+
+	// -----------------------------
+
+	/**
+	 * Appends {@code atoms} comparisons joined by logical operators, opening
+	 * groups of at least two of them while depth is left.
+	 */
+	private void expression(final List<Query> out, final int atoms, final int depth, final Shape shape,
+			final int[] weights, final SplittableRandom random) {
+		int done = 0;
+		while (done < atoms) {
+			if (done > 0) {
+				out.add(Query.from(random.nextDouble() < shape.getOrRate() ? "or" : "and"));
+			}
+			final int remaining = atoms - done;
+			if (depth > 0 && remaining >= 2 && random.nextDouble() < shape.getGroupRate()) {
+				final int size = 2 + random.nextInt(remaining - 1);
+				out.add(Query.OPEN);
+				this.expression(out, size, depth - 1, shape, weights, random);
+				out.add(Query.CLOSE);
+				done += size;
+			} else {
+				out.add(this.atom(shape, weights, random));
+				done++;
+			}
+		}
+	}
+
+	private Query atom(final Shape shape, final int[] weights, final SplittableRandom random) {
+		final OperationDefinition op = this.operations[pick(weights, random)];
+		final String field = this.fields[random.nextInt(this.fields.length)];
+		return switch (op.getType()) {
+			case WITH_LIST -> Query.from(field, op.getOperator(), list(op, shape, random));
+			case NO_VALUE -> Query.from(field, op.getOperator(), Optional.empty());
+			default -> Query.from(field, op.getOperator(), value(shape, random));
+		};
+	}
+
+	/**
+	 * Distinct values, fewer when the cardinality is smaller than the list,
+	 * rendered as list operations render them: sorted as strings, joined with the
+	 * delimiter and wrapped in the brackets.
+	 */
+	private static String list(final OperationDefinition op, final Shape shape, final SplittableRandom random) {
+		final int size = shape.getMinListSize() + random.nextInt(shape.getMaxListSize() - shape.getMinListSize() + 1);
+		final int distinct = Math.min(size, shape.getValueCardinality());
+		final TreeSet<String> values = new TreeSet<>();
+		// Valores sesgados: se repiten, reintentos acotados para no girar sin fin
+		for (int attempts = 0; values.size() < distinct && attempts < distinct * 32; attempts++) {
+			values.add(value(shape, random));
+		}
+		final String joined = String.join(op.getListDelimiter(), values);
+		final String brackets = op.getListBrackets();
+		if (brackets == null || brackets.isEmpty()) {
+			return joined;
+		}
+		return brackets.charAt(0) + joined + brackets.charAt(brackets.length() - 1);
+	}
+
+	private static String value(final Shape shape, final SplittableRandom random) {
+		// u² sesga hacia los valores bajos: unos pocos valores calientes
+		final double u = random.nextDouble();
+		return Integer.toString((int) (u * u * shape.getValueCardinality()));
+	}
+
+	private static String render(final List<Query> filter, final double noise, final SplittableRandom random) {
+		final StringBuilder sb = new StringBuilder(filter.size() * 16);
+		for (final Query q : filter) {
+			if (!sb.isEmpty()) {
+				sb.append(noise > 0 && random.nextDouble() < noise ? NOISE[random.nextInt(NOISE.length)] : " ");
+			}
+			sb.append(q.formatString());
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * @return cumulative weights aligned with {@link #operations}
+	 */
+	private int[] weights(final Shape shape) {
+		if (shape.getAtoms() < 1 || shape.getMinListSize() < 1 || shape.getMaxListSize() < shape.getMinListSize()
+				|| shape.getValueCardinality() < 1) {
+			throw new IllegalArgumentException("Invalid shape: atoms, list sizes and cardinality must be positive");
+		}
+		final int[] cumulative = new int[this.operations.length];
+		int total = 0;
+		for (int i = 0; i < this.operations.length; i++) {
+			total += shape.getOperatorMix().isEmpty()
+					? 1
+					: Math.max(0, shape.getOperatorMix().getOrDefault(this.operations[i].getOperator(), 0));
+			cumulative[i] = total;
+		}
+		if (total == 0) {
+			throw new IllegalArgumentException("Operator mix matches no operator of the domain: "
+					+ shape.getOperatorMix().keySet());
+		}
+		return cumulative;
+	}
+
+	private static int pick(final int[] cumulative, final SplittableRandom random) {
+		final int target = random.nextInt(cumulative[cumulative.length - 1]);
+		int i = 0;
+		while (cumulative[i] <= target) {
+			i++;
+		}
+		return i;
+	}
+}
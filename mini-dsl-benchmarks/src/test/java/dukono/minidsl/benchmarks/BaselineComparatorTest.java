@@ -0,0 +1,77 @@
+package dukono.minidsl.benchmarks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BaselineComparatorTest {
+
+	private static final String JMH_RESULT = """
+			[
+			  {"benchmark": "dukono.minidsl.benchmarks.ParseBenchmark.parseQueries", "mode": "avgt",
+			   "params": {"filters": "10"},
+			   "primaryMetric": {"score": 2.0, "scoreUnit": "us/op"},
+			   "secondaryMetrics": {"gc.alloc.rate.norm": {"score": 1000.0, "scoreUnit": "B/op"}}},
+			  {"benchmark": "dukono.minidsl.benchmarks.RenderBenchmark.filtersAsJson", "mode": "thrpt",
+			   "params": {"filters": "10"},
+			   "primaryMetric": {"score": 500.0, "scoreUnit": "ops/ms"},
+			   "secondaryMetrics": {}}
+			]
+			""";
+
+	@Test
+	void when_jmh_result_then_baseline_round_trips(@TempDir final Path dir) throws Exception {
+		final Path result = Files.writeString(dir.resolve("jmh-result.json"), JMH_RESULT);
+		final Map<String, BaselineComparator.Result> current = BaselineComparator.read(result);
+
+		assertThat(current).containsOnlyKeys("ParseBenchmark.parseQueries{filters=10}",
+				"RenderBenchmark.filtersAsJson{filters=10}");
+		assertThat(current.get("RenderBenchmark.filtersAsJson{filters=10}").alloc()).isNaN();
+
+		final Path baseline = dir.resolve("baseline.json");
+		BaselineComparator.write(baseline, current);
+		assertThat(BaselineComparator.read(baseline)).isEqualTo(current);
+	}
+
+	@Test
+	void when_slower_or_allocating_more_beyond_tolerance_then_regression() {
+		final Map<String, BaselineComparator.Result> baseline = Map.of("parse",
+				new BaselineComparator.Result("avgt", 2.0, "us/op", 1000.0), "render",
+				new BaselineComparator.Result("thrpt", 500.0, "ops/ms", Double.NaN));
+
+		// Dentro de la tolerancia: ruido entre ejecuciones
+		assertThat(BaselineComparator.compare(baseline,
+				Map.of("parse", new BaselineComparator.Result("avgt", 2.3, "us/op", 1040.0), "render",
+						new BaselineComparator.Result("thrpt", 420.0, "ops/ms", Double.NaN)),
+				0.20, 0.05)).isEmpty();
+
+		assertThat(BaselineComparator.compare(baseline,
+				Map.of("parse", new BaselineComparator.Result("avgt", 2.5, "us/op", 1200.0), "render",
+						new BaselineComparator.Result("thrpt", 300.0, "ops/ms", Double.NaN)),
+				0.20, 0.05)).hasSize(3).anyMatch(message -> message.contains("B/op"));
+
+		// Más rápido nunca es regresión
+		assertThat(BaselineComparator.compare(baseline,
+				Map.of("parse", new BaselineComparator.Result("avgt", 0.5, "us/op", 10.0), "render",
+						new BaselineComparator.Result("thrpt", 5000.0, "ops/ms", Double.NaN)),
+				0.20, 0.05)).isEmpty();
+	}
+
+	@Test
+	void when_strict_then_benchmark_missing_in_baseline_is_regression() {
+		final BaselineComparator.Result result = new BaselineComparator.Result("avgt", 2.0, "us/op", 1000.0);
+		final Map<String, BaselineComparator.Result> baseline = Map.of("parse", result, "render", result);
+		final Map<String, BaselineComparator.Result> current = Map.of("parse", result, "workload", result);
+
+		assertThat(BaselineComparator.compare(baseline, current, 0.20, 0.05)).isEmpty();
+		// Solo cuenta lo que falta en la baseline: "render" no ejecutado no es regresión
+		assertThat(BaselineComparator.compare(baseline, current, 0.20, 0.05, true)).singleElement()
+				.asString().startsWith("workload");
+	}
+
+}
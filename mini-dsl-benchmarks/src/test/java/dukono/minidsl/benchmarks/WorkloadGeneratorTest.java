@@ -0,0 +1,66 @@
+package dukono.minidsl.benchmarks;
+
+import dukono.minidsl.Queries;
+import dukono.minidsl.Query;
+import dukono.minidsl.QueryParser;
+import dukono.minidsl.example.generated.OrderApi;
+import dukono.minidsl.example.generated.OrderDomainDefinitionConfigConcise;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkloadGeneratorTest {
+
+	private static final WorkloadGenerator GENERATOR = WorkloadGenerator.of(
+			OrderDomainDefinitionConfigConcise.OrderOperationsEnum.class,
+			OrderDomainDefinitionConfigConcise.OrderFields.class);
+
+	@Test
+	void when_same_seed_then_same_corpus_that_parses_back() {
+		final List<String> strings = GENERATOR.strings(200, WorkloadGenerator.REALISTIC, 7L);
+
+		assertThat(GENERATOR.strings(200, WorkloadGenerator.REALISTIC, 7L)).isEqualTo(strings);
+		assertThat(GENERATOR.strings(200, WorkloadGenerator.REALISTIC, 8L)).isNotEqualTo(strings);
+		final List<String> rendered = GENERATOR.dto(OrderApi.OrderDto::new, 200, WorkloadGenerator.REALISTIC, 7L)
+				.getFilters().stream().map(Queries::filtersAsString).toList();
+		assertThat(rendered).isEqualTo(strings);
+		strings.forEach(s -> assertThat(Queries.builder().queries(OrderApi.parse(s)).build().filtersAsString()).isEqualTo(s));
+	}
+
+	@Test
+	void when_shape_configured_then_corpus_follows_it() {
+		final WorkloadGenerator.Shape shape = WorkloadGenerator.Shape.builder().atoms(6).depth(2).groupRate(1)
+				.operatorMix(Map.of("in", 1)).minListSize(3).maxListSize(3).duplicationRate(0.5).build();
+		final List<List<Query>> corpus = GENERATOR.queries(100, shape, 1L);
+
+		assertThat(corpus).allSatisfy(filter -> {
+			final List<Query> atoms = filter.stream().filter(q -> q.getKey() != null).toList();
+			assertThat(atoms).hasSize(6)
+					.allSatisfy(q -> assertThat(q.getValue().orElseThrow().toString().split("\\|")).hasSize(3));
+			int open = 0;
+			int maxOpen = 0;
+			for (final Query q : filter) {
+				open += "(".equals(q.getOp()) ? 1 : ")".equals(q.getOp()) ? -1 : 0;
+				maxOpen = Math.max(maxOpen, open);
+			}
+			assertThat(maxOpen).isEqualTo(2);
+		});
+		assertThat(new HashSet<>(corpus).size()).isBetween(30, 70);
+	}
+
+	@Test
+	void when_adversarial_then_whitespace_variants_normalize_to_the_same_filter() {
+		final List<String> strings = GENERATOR.strings(50, WorkloadGenerator.ADVERSARIAL, 3L);
+		final List<String> clean = GENERATOR.strings(50,
+				WorkloadGenerator.ADVERSARIAL.toBuilder().whitespaceNoise(0).build(), 3L);
+
+		assertThat(strings).isNotEqualTo(clean);
+		assertThat(strings.stream().map(QueryParser::normalize).toList()).isEqualTo(clean);
+		assertThat(GENERATOR.json(50, WorkloadGenerator.ADVERSARIAL, 3L)).startsWith("[{").contains("\"op\":\"(\"")
+				.doesNotContain(":null");
+	}
+}
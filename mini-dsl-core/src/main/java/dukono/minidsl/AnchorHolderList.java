@@ -2,8 +2,13 @@ package dukono.minidsl;
 
 import static dukono.minidsl.Dto.QUERIES_COMPARATOR;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
@@ -33,6 +38,9 @@ public abstract class AnchorHolderList<
   // @formatter:on
 	private static final Predicate<Queries> CHECK_IF_ENDS_WITH_OP = s -> s.endWithSomeOf(Query.AND, Query.OR);
 
+	// ⚡ Items por chunk en el modo streaming: cada chunk se evalúa y ordena en paralelo
+	static final int STREAM_CHUNK_SIZE = 1024;
+
 	protected List<O> list;
 
 	protected S dto;
@@ -49,6 +57,8 @@ public abstract class AnchorHolderList<
 
 	private Queries queries;
 
+	protected ListCompaction compaction = ListCompaction.NONE;
+
 	protected AnchorHolderList(final TypeToken<N> oneClazz, final Class<A> objectClazz) {
 		this.oneClazz = oneClazz;
 		this.objectClazz = objectClazz;
@@ -88,7 +98,140 @@ public abstract class AnchorHolderList<
 		return collapse;
 	}
 
+	/**
+	 * Streaming variant of {@link #addForEachCollapsing(UnaryOperator, Query)} for
+	 * huge inputs. Items are read in chunks of {@value #STREAM_CHUNK_SIZE}; each
+	 * chunk runs the lambda on its own anchor in the common pool and is sorted
+	 * locally. The sorted runs are then k-way merged into a single pre-sized
+	 * Queries, joined with {@code andOr}. The lambda must therefore be safe to run
+	 * concurrently.
+	 *
+	 * @param items
+	 *            items to collapse, consumed once
+	 * @param a
+	 *            per-item builder
+	 * @param andOr
+	 *            logical operator placed between items
+	 * @param distinct
+	 *            if true, items rendering the same filter are kept only once
+	 * @return the collapsed queries, in the same order as the non-streaming path
+	 */
+	protected Queries addForEachCollapsing(final Iterator<O> items, final UnaryOperator<N> a, final Query andOr,
+			final boolean distinct) {
+		final List<CompletableFuture<List<Queries>>> runs = new ArrayList<>();
+		List<O> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+		while (items.hasNext()) {
+			chunk.add(items.next());
+			if (chunk.size() == STREAM_CHUNK_SIZE) {
+				final List<O> full = chunk;
+				runs.add(CompletableFuture.supplyAsync(() -> this.sortedRun(full, a)));
+				chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+			}
+		}
+		if (!chunk.isEmpty()) {
+			// El último chunk se procesa en el hilo llamante
+			runs.add(CompletableFuture.completedFuture(this.sortedRun(chunk, a)));
+		}
+		final List<List<Queries>> sorted = new ArrayList<>(runs.size());
+		try {
+			runs.forEach(run -> sorted.add(run.join()));
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof final RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+		final Queries compacted = this.compaction.compact(flatten(sorted), andOr, distinct);
+		return compacted != null ? compacted : merge(sorted, andOr, distinct);
+	}
+
+	private List<Queries> sortedRun(final List<O> chunk, final UnaryOperator<N> a) {
+		// Un anchor por chunk: los anchors no son thread-safe
+		final N one = AnchorHolderMain.newType((Class<? extends N>) this.oneClazz.getRawType());
+		final List<Queries> run = new ArrayList<>(chunk.size());
+		for (final O t : chunk) {
+			one.reset();
+			one.setItemUnit(t);
+			final Queries q = a.apply(one).getQueries();
+			if (q.notEmpty()) {
+				run.add(q);
+			}
+		}
+		run.sort(QUERIES_COMPARATOR);
+		return run;
+	}
+
+	private static List<Queries> flatten(final List<List<Queries>> runs) {
+		if (runs.size() == 1) {
+			return runs.getFirst();
+		}
+		final List<Queries> all = new ArrayList<>(runs.stream().mapToInt(List::size).sum());
+		runs.forEach(all::addAll);
+		return all;
+	}
+
+	private static Queries merge(final List<List<Queries>> runs, final Query andOr, final boolean distinct) {
+		int size = 0;
+		final PriorityQueue<Cursor> heap = new PriorityQueue<>(Math.max(1, runs.size()));
+		for (final List<Queries> run : runs) {
+			for (final Queries q : run) {
+				size += q.getQueries().size() + 1;
+			}
+			if (!run.isEmpty()) {
+				heap.add(new Cursor(run));
+			}
+		}
+		final List<Query> merged = new ArrayList<>(size);
+		Queries previous = null;
+		while (!heap.isEmpty()) {
+			final Cursor cursor = heap.poll();
+			final Queries q = cursor.next();
+			if (cursor.hasNext()) {
+				heap.add(cursor);
+			}
+			// Los duplicados quedan adyacentes tras el merge ordenado
+			if (distinct && previous != null && previous.equals(q)) {
+				continue;
+			}
+			if (previous != null && andOr != null && !CHECK_IF_ENDS_WITH_OP.test(previous)) {
+				merged.add(andOr);
+			}
+			merged.addAll(q.getQueries());
+			previous = q;
+		}
+		return new Queries(merged);
+	}
+
+	/**
+	 * Read position over one sorted run, ordered by its current head.
+	 */
+	private static final class Cursor implements Comparable<Cursor> {
+		private final List<Queries> run;
+		private int index;
+
+		Cursor(final List<Queries> run) {
+			this.run = run;
+		}
+
+		Queries next() {
+			return this.run.get(this.index++);
+		}
+
+		boolean hasNext() {
+			return this.index < this.run.size();
+		}
+
+		@Override
+		public int compareTo(final Cursor o) {
+			return QUERIES_COMPARATOR.compare(this.run.get(this.index), o.run.get(o.index));
+		}
+	}
+
 	protected Queries collapse(final List<Queries> obj, final Query andOr) {
+		final Queries compacted = this.compaction.compact(obj, andOr);
+		if (compacted != null) {
+			return compacted;
+		}
 		obj.sort(QUERIES_COMPARATOR);
 		final Queries neww = Queries.builder().build();
 		if (CollectionUtils.isNotEmpty(obj)) {
@@ -116,19 +259,13 @@ public abstract class AnchorHolderList<
 	}
 
 	protected N newOne(final O t) {
-		return this.oneClazzInstance.map(n -> {
-			n.setQueries(Queries.builder().build());
-			n.setItemUnit(t);
-			n.getDto().removeFilters();
-			return n;
-		}).orElseGet(() -> {
-			final Class<? extends N> rawType = (Class<? extends N>) this.oneClazz.getRawType();
-			final N n = AnchorHolderMain.newType(rawType);
-			this.oneClazzInstance = Optional.of(n);
-			n.setQueries(Queries.builder().build());
-			n.setItemUnit(t);
-			n.getDto().removeFilters();
-			return n;
+		final N n = this.oneClazzInstance.orElseGet(() -> {
+			final N created = AnchorHolderMain.newType((Class<? extends N>) this.oneClazz.getRawType());
+			this.oneClazzInstance = Optional.of(created);
+			return created;
 		});
+		n.reset();
+		n.setItemUnit(t);
+		return n;
 	}
 }
@@ -2,14 +2,15 @@ package dukono.minidsl;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import com.google.common.reflect.TypeToken;
 import dukono.minidsl.Field.FieldHolder;
+import dukono.minidsl.metrics.Metric;
+import dukono.minidsl.metrics.Metrics;
+import dukono.minidsl.util.DomainRegistry;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -29,8 +30,6 @@ public abstract class AnchorHolderMain<
     W extends AnchorOperationsBasic<X>> {
   // @formatter:on
 
-	private static final Map<Class<?>, Constructor<?>> CONSTRUCTOR_CACHE = new ConcurrentHashMap<>();
-
 	protected Queries queries;
 
 	protected TypeToken<S> dtoClazz;
@@ -41,6 +40,12 @@ public abstract class AnchorHolderMain<
 
 	protected F fields;
 
+	/**
+	 * Shared per-domain metadata, when the anchor was built from one. Lets the
+	 * instantiators skip the {@link TypeToken} raw type resolution.
+	 */
+	protected AnchorMetadata<F, S, W> metadata;
+
 	protected Optional<S> dtoClazzInstance = Optional.empty();
 	protected Optional<W> opClazzInstance = Optional.empty();
 
@@ -52,6 +57,11 @@ public abstract class AnchorHolderMain<
 		this.fields = fields;
 	}
 
+	protected AnchorHolderMain(final AnchorMetadata<F, S, W> metadata) {
+		this(metadata.getDtoClazz(), metadata.getListClazz(), metadata.getOpClazz(), metadata.getFields());
+		this.metadata = metadata;
+	}
+
 	public W field(final Function<F, FieldHolder> wwFunction) {
 		Objects.requireNonNull(wwFunction, "Field selector function cannot be null");
 
@@ -75,6 +85,22 @@ public abstract class AnchorHolderMain<
 		return (X) this;
 	}
 
+	/**
+	 * Clears the pending queries and the filters of the cached DTO so this anchor
+	 * can build a new filter. The DTO and operations instances are kept and
+	 * reused, so a reset anchor allocates nothing until values are added.
+	 *
+	 * Any DTO previously returned by {@link #getDto()} is the same instance and is
+	 * cleared too: consume it before resetting.
+	 *
+	 * @return this anchor, empty
+	 */
+	public X reset() {
+		this.queries = null;
+		this.dtoClazzInstance.ifPresent(Dto::removeFilters);
+		return (X) this;
+	}
+
 	// -----Getters and Setters
 	protected void addQuery(final Query query) {
 		this.getQueries().add(query);
@@ -96,19 +122,26 @@ public abstract class AnchorHolderMain<
 
 	// ----Instancietors
 	<L, V extends AnchorHolderList<F, ?, X, S, V, L>> V newList() {
+		if (this.metadata != null) {
+			return newType((Class<? extends V>) this.metadata.getListRawType());
+		}
 		return newType((Class<? extends V>) this.listClazz.getRawType());
 	}
 
 	S newDto() {
 		return this.dtoClazzInstance.orElseGet(() -> {
-			final S s = newType((Class<? extends S>) this.dtoClazz.getRawType());
+			final S s = newType(this.metadata != null
+					? this.metadata.getDtoRawType()
+					: (Class<? extends S>) this.dtoClazz.getRawType());
 			this.dtoClazzInstance = Optional.of(s);
 			return s;
 		});
 	}
 	W newOpClass() {
 		return this.opClazzInstance.orElseGet(() -> {
-			final W s = newType((Class<? extends W>) this.opClazz.getRawType());
+			final W s = newType(this.metadata != null
+					? this.metadata.getOpRawType()
+					: (Class<? extends W>) this.opClazz.getRawType());
 			this.opClazzInstance = Optional.of(s);
 			return s;
 		});
@@ -120,16 +153,13 @@ public abstract class AnchorHolderMain<
 
 	static <Y> Y newType(final Class<? extends Y> rawType) {
 		Objects.requireNonNull(rawType, "Target class cannot be null");
+		Metrics.increment(Metric.NEW_TYPE);
 		try {
-			@SuppressWarnings("unchecked")
-			final Constructor<Y> constructor = (Constructor<Y>) CONSTRUCTOR_CACHE.computeIfAbsent(rawType, clazz -> {
-				try {
-					return clazz.getDeclaredConstructor();
-				} catch (final NoSuchMethodException e) {
-					throw new DslInstantiationException(clazz, "No default (no-args) constructor found", e);
-				}
-			});
+			// ⚡ Constructor cacheado en el ClassValue del tipo: no fija su classloader
+			final Constructor<Y> constructor = DomainRegistry.of(rawType).constructor();
 			return constructor.newInstance();
+		} catch (final NoSuchMethodException e) {
+			throw new DslInstantiationException(rawType, "No default (no-args) constructor found", e);
 		} catch (final InstantiationException e) {
 			throw new DslInstantiationException(rawType, "Class is abstract or interface", e);
 		} catch (final IllegalAccessException e) {
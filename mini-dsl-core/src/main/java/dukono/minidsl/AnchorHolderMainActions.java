@@ -1,6 +1,8 @@
 package dukono.minidsl;
 
 import com.google.common.reflect.TypeToken;
+import dukono.minidsl.jfr.DslEvents;
+import dukono.minidsl.jfr.MutationEvent;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -34,8 +36,13 @@ public abstract class AnchorHolderMainActions<
 		super(ob, listClazz, opClazz, fields);
 	}
 
+	protected AnchorHolderMainActions(final AnchorMetadata<F, S, W> metadata) {
+		super(metadata);
+	}
+
 	protected <Y extends AnchorHolderMain<F, S, Y, ?>> X replace(final UnaryOperator<Y> find,
 			final UnaryOperator<Y> change, final TypeToken<Y> clazz) {
+		final MutationEvent event = this.beginMutation();
 		final List<Queries> filters = find.apply(this.newType(clazz)).getDto().getFilters();
 		final List<Queries> filtersChange = change.apply(this.newType(clazz)).getDto().getFilters();
 
@@ -47,20 +54,45 @@ public abstract class AnchorHolderMainActions<
 				.collect(Collectors.toMap(SimpleEntry::getKey, SimpleEntry::getValue));
 
 		this.getDto().replaceFilters(collect);
+		this.commit(event, "replace");
 		return (X) this;
 	}
 
 	protected <Y extends AnchorHolderMain<F, S, Y, ?>> X modify(final UnaryOperator<Y> change,
 			final Function<Comparator, ComparatorEnum> b, final TypeToken<Y> clazz) {
+		final MutationEvent event = this.beginMutation();
 		this.getDto().replaceFilters(change.apply(this.newType(clazz)).getDto(), b.apply(Comparator.INSTANCE));
+		this.commit(event, "modify");
 		return (X) this;
 	}
 
 	protected <A extends AnchorHolderMain<F, S, A, ?>> X remove(final Function<RemoveBy<A>, RemoveBy.Remover> toDo,
 			final TypeToken<A> clazz) {
-
+		final MutationEvent event = this.beginMutation();
 		toDo.apply(new RemoveBy<>(clazz)).accept(this.getDto());
+		this.commit(event, "remove");
 		return (X) this;
 	}
 
+	// -----------------------------
+
+	private MutationEvent beginMutation() {
+		final MutationEvent event = new MutationEvent();
+		if (event.isEnabled()) {
+			// Solo se cuenta con una grabación activa: filtersView no copia
+			event.filtersBefore = this.getDto().filtersView().size();
+		}
+		event.begin();
+		return event;
+	}
+
+	private void commit(final MutationEvent event, final String operation) {
+		if (event.shouldCommit()) {
+			event.domain = DslEvents.domain(this.getDto().getClass());
+			event.operation = operation;
+			event.filtersAfter = this.getDto().filtersView().size();
+			event.commit();
+		}
+	}
+
 }
@@ -2,8 +2,11 @@ package dukono.minidsl;
 
 import java.util.List;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import com.google.common.reflect.TypeToken;
+import dukono.minidsl.jfr.CollapseEvent;
+import dukono.minidsl.jfr.DslEvents;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -29,6 +32,10 @@ public abstract class AnchorHolderMainLogical<
 		super(ob, listClazz, opClazz, fields);
 	}
 
+	protected AnchorHolderMainLogical(final AnchorMetadata<F, S, W> metadata) {
+		super(metadata);
+	}
+
 	public X and() {
 		this.addQuery(Query.AND);
 		return (X) this;
@@ -64,14 +71,38 @@ public abstract class AnchorHolderMainLogical<
 
 	// -----------------------------
 
+	private ListCompaction listCompaction() {
+		return this.metadata != null ? this.metadata.getCompaction() : ListCompaction.NONE;
+	}
+
 	// @formatter:off
   protected  <L, N extends AnchorHolderOne<F, S, N, L,?>,
       T extends AnchorHolderList<F, N, X, S, T, L>> X collapse(
       final List<L> list, final UnaryOperator<N> a, final Query query) {
     // @formatter:on
+		final CollapseEvent event = new CollapseEvent();
+		event.begin();
 		final T holder = this.newList();
 		holder.setList(list);
-		this.getQueries().addAll(holder.addForEachCollapsing(a, query));
+		holder.setCompaction(this.listCompaction());
+		final Queries collapsed = holder.addForEachCollapsing(a, query);
+		this.getQueries().addAll(collapsed);
+		this.commit(event, query, list.size(), collapsed);
+		return (X) this;
+	}
+
+	// @formatter:off
+  protected  <L, N extends AnchorHolderOne<F, S, N, L,?>,
+      T extends AnchorHolderList<F, N, X, S, T, L>> X collapse(
+      final Stream<L> items, final UnaryOperator<N> a, final Query query, final boolean distinct) {
+    // @formatter:on
+		final CollapseEvent event = new CollapseEvent();
+		event.begin();
+		final T holder = this.newList();
+		holder.setCompaction(this.listCompaction());
+		final Queries collapsed = holder.addForEachCollapsing(items.iterator(), a, query, distinct);
+		this.getQueries().addAll(collapsed);
+		this.commit(event, query, -1, collapsed);
 		return (X) this;
 	}
 
@@ -93,8 +124,12 @@ public abstract class AnchorHolderMainLogical<
 			 return (X)this;
 		 }
     // @formatter:on
+		final CollapseEvent event = new CollapseEvent();
+		event.begin();
+		final int items = this.getDto().getFilters().size();
 		final T newlist = this.newList();
 		newlist.setList(List.of());
+		newlist.setCompaction(this.listCompaction());
 		final Queries collapse;
 		if (val == null) {
 			collapse = newlist.collapse(this.getDto().getFilters());
@@ -103,7 +138,18 @@ public abstract class AnchorHolderMainLogical<
 		}
 
 		this.getDto().resetFilter(collapse);
+		this.commit(event, val, items, collapse);
 		return (X) this;
 	}
 
+	private void commit(final CollapseEvent event, final Query operator, final int items, final Queries collapsed) {
+		if (event.shouldCommit()) {
+			event.domain = DslEvents.domain(this.getDto().getClass());
+			event.operator = operator == null ? null : operator.getOp();
+			event.items = items;
+			event.atoms = collapsed == null ? 0 : collapsed.getQueries().size();
+			event.commit();
+		}
+	}
+
 }
@@ -32,6 +32,10 @@ public abstract class AnchorHolderOne<
 		this.opClazz = opClazz;
 	}
 
+	protected AnchorHolderOne(final AnchorMetadata<F, S, W> metadata) {
+		super(metadata);
+	}
+
 	@Override
 	public void addQuery(final Query query) {
 		this.getQueries().add(query);
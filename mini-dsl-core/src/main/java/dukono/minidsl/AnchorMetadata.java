@@ -0,0 +1,61 @@
+package dukono.minidsl;
+
+import com.google.common.reflect.TypeToken;
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * Immutable, per-domain type metadata shared by every anchor of the same kind.
+ * 
+ * The generated anchors keep one instance of this class in a
+ * {@code static final} field, so starting a new DSL chain no longer resolves
+ * {@link TypeToken}s or builds a new {@link Field} instance: the tokens, their
+ * raw classes and the (immutable) fields instance are computed once per domain.
+ *
+ * @param <F>
+ *            the domain fields type
+ * @param <S>
+ *            the domain DTO type
+ * @param <W>
+ *            the operations type used by the anchor
+ */
+@Getter
+@SuppressWarnings("unchecked")
+public final class AnchorMetadata<F extends Field, S extends Dto, W> {
+
+	private final TypeToken<S> dtoClazz;
+
+	private final TypeToken<?> listClazz;
+
+	private final TypeToken<W> opClazz;
+
+	private final F fields;
+
+	private final ListCompaction compaction;
+
+	// ⚡ Raw types resueltos una sola vez (TypeToken#getRawType no es gratuito)
+	private final Class<? extends S> dtoRawType;
+
+	private final Class<?> listRawType;
+
+	private final Class<? extends W> opRawType;
+
+	public AnchorMetadata(final TypeToken<S> dtoClazz, final TypeToken<?> listClazz, final TypeToken<W> opClazz,
+			final F fields) {
+		this(dtoClazz, listClazz, opClazz, fields, ListCompaction.NONE);
+	}
+
+	public AnchorMetadata(final TypeToken<S> dtoClazz, final TypeToken<?> listClazz, final TypeToken<W> opClazz,
+			final F fields, final ListCompaction compaction) {
+		this.compaction = compaction == null ? ListCompaction.NONE : compaction;
+		this.dtoClazz = Objects.requireNonNull(dtoClazz, "DTO type cannot be null");
+		this.listClazz = listClazz;
+		this.opClazz = Objects.requireNonNull(opClazz, "Operations type cannot be null");
+		this.fields = Objects.requireNonNull(fields, "Fields instance cannot be null");
+		this.dtoRawType = (Class<? extends S>) dtoClazz.getRawType();
+		this.listRawType = listClazz == null ? null : listClazz.getRawType();
+		this.opRawType = (Class<? extends W>) opClazz.getRawType();
+	}
+
+}
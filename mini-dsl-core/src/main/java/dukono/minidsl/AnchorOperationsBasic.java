@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
@@ -21,6 +22,17 @@ import java.util.stream.Collectors;
 public abstract class AnchorOperationsBasic<
 		H extends AnchorHolderMain<? extends Field, ? extends Dto, H, ? extends AnchorOperationsBasic<H>>> {
 	// @formatter:off
+	/**
+	 * Largest buffer {@link #openList} presizes, the usual maximum array length
+	 * of the VM.
+	 */
+	static final int MAX_LIST_CAPACITY = Integer.MAX_VALUE - 8;
+
+	/**
+	 * Capacity used when the estimate does not fit, the buffer grows on demand.
+	 */
+	static final int DEFAULT_LIST_CAPACITY = 16;
+
 	protected String name;
 
 	protected H holder;
@@ -34,23 +46,110 @@ public abstract class AnchorOperationsBasic<
 	}
 
 	protected Optional<Object> listFormatting(final Collection<?> arg, final String delimiter, final String brackets) {
-		return Optional.ofNullable(arg).map(ar -> {
-			final String joined = ar.stream().filter(Objects::nonNull).map(Object::toString).sorted()
-					.collect(Collectors.joining(delimiter));
+		return Optional.ofNullable(arg).map(ar -> formatList(ar, delimiter, brackets));
+	}
 
-			if (brackets == null || brackets.isEmpty()) {
-				return joined;
+	/**
+	 * Primitive variant of {@link #listFormatting(Collection, String, String)}: no
+	 * boxing nor string sort. Values are sorted numerically (so 9 comes before
+	 * 10) on a copy of the array, or kept in the given order when {@code sort} is
+	 * false, and written into a pre-sized buffer.
+	 */
+	protected Optional<Object> listFormatting(final int[] arg, final String delimiter, final String brackets,
+			final boolean sort) {
+		return Optional.ofNullable(arg).map(ar -> {
+			final int[] values = sort ? sortedCopy(ar) : ar;
+			final StringBuilder sb = openList(values.length, 11, delimiter, brackets);
+			for (int i = 0; i < values.length; i++) {
+				if (i > 0) {
+					sb.append(delimiter);
+				}
+				sb.append(values[i]);
 			}
+			return closeList(sb, brackets);
+		});
+	}
 
-			// Parse brackets: first char is opening, last char is closing
-			if (brackets.length() == 1) {
-				return brackets + joined + brackets;
-			} else if (brackets.length() >= 2) {
-				return brackets.charAt(0) + joined + brackets.charAt(brackets.length() - 1);
+	/**
+	 * {@code long[]} variant of
+	 * {@link #listFormatting(int[], String, String, boolean)}.
+	 */
+	protected Optional<Object> listFormatting(final long[] arg, final String delimiter, final String brackets,
+			final boolean sort) {
+		return Optional.ofNullable(arg).map(ar -> {
+			final long[] values = sort ? sortedCopy(ar) : ar;
+			final StringBuilder sb = openList(values.length, 20, delimiter, brackets);
+			for (int i = 0; i < values.length; i++) {
+				if (i > 0) {
+					sb.append(delimiter);
+				}
+				sb.append(values[i]);
 			}
+			return closeList(sb, brackets);
+		});
+	}
+
+	private static int[] sortedCopy(final int[] values) {
+		final int[] copy = values.clone();
+		Arrays.sort(copy);
+		return copy;
+	}
 
+	private static long[] sortedCopy(final long[] values) {
+		final long[] copy = values.clone();
+		Arrays.sort(copy);
+		return copy;
+	}
+
+	private static StringBuilder openList(final int size, final int maxDigits, final String delimiter,
+			final String brackets) {
+		// ⚡ Estimación por arriba: nunca re-dimensiona el buffer
+		final StringBuilder sb = new StringBuilder(listCapacity(size, maxDigits, delimiter));
+		if (brackets != null && !brackets.isEmpty()) {
+			sb.append(brackets.charAt(0));
+		}
+		return sb;
+	}
+
+	/**
+	 * Upper bound of the rendered length of {@code size} values of at most
+	 * {@code maxDigits} characters, or {@link #DEFAULT_LIST_CAPACITY} when the
+	 * bound exceeds {@link #MAX_LIST_CAPACITY}.
+	 */
+	static int listCapacity(final int size, final int maxDigits, final String delimiter) {
+		final int delimiterLength = delimiter == null ? 0 : delimiter.length();
+		// En long: con listas de ~100M elementos el producto desborda int
+		final long estimate = (long) size * (maxDigits + delimiterLength) + 2;
+		return estimate > MAX_LIST_CAPACITY ? DEFAULT_LIST_CAPACITY : (int) estimate;
+	}
+
+	private static String closeList(final StringBuilder sb, final String brackets) {
+		if (brackets != null && !brackets.isEmpty()) {
+			sb.append(brackets.charAt(brackets.length() - 1));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Formats list values the way list operations render them: non-null values,
+	 * sorted as strings, joined with the delimiter and wrapped in the brackets.
+	 */
+	static String formatList(final Collection<?> arg, final String delimiter, final String brackets) {
+		final String joined = arg.stream().filter(Objects::nonNull).map(Object::toString).sorted()
+				.collect(Collectors.joining(delimiter));
+
+		if (brackets == null || brackets.isEmpty()) {
 			return joined;
-		});
+		}
+
+		// Parse brackets: first char is opening, last char is closing
+		if (brackets.length() == 1) {
+			return brackets + joined + brackets;
+		} else if (brackets.length() >= 2) {
+			return brackets.charAt(0) + joined + brackets.charAt(brackets.length() - 1);
+		}
+
+		return joined;
 	}
 
 	protected H create(final Query addon) {
@@ -0,0 +1,45 @@
+package dukono.minidsl;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Thread-confined pool of reusable anchors for one DSL domain.
+ *
+ * Each thread owns a single anchor that is {@linkplain AnchorHolderMain#reset()
+ * reset} on every {@link #acquire()}, so request handlers build filters without
+ * allocating holders, DTOs or operation instances in steady state. The
+ * generated {@code XxxApi.pooled()} keeps one pool per domain.
+ *
+ * The anchor (and its DTO) is reused by the next {@link #acquire()} on the same
+ * thread: it must not be shared with other threads nor kept after the filter
+ * has been consumed.
+ *
+ * @param <A>
+ *            the anchor type of the domain
+ */
+public final class AnchorPool<A extends AnchorHolderMain<?, ?, A, ?>> {
+
+	private final ThreadLocal<A> local;
+
+	public AnchorPool(final Supplier<A> factory) {
+		Objects.requireNonNull(factory, "Anchor factory cannot be null");
+		this.local = ThreadLocal.withInitial(factory);
+	}
+
+	/**
+	 * @return the anchor of the current thread, reset and ready to use
+	 */
+	public A acquire() {
+		return this.local.get().reset();
+	}
+
+	/**
+	 * Drops the anchor of the current thread (e.g. before returning a pooled
+	 * thread to a container), a new one is created on the next acquire.
+	 */
+	public void release() {
+		this.local.remove();
+	}
+
+}
@@ -0,0 +1,262 @@
+package dukono.minidsl;
+
+import dukono.minidsl.jfr.DslEvents;
+import dukono.minidsl.jfr.ParseEvent;
+import dukono.minidsl.metrics.Metric;
+import dukono.minidsl.metrics.Metrics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Parses UTF-8 query bytes without decoding the whole input into a
+ * {@link String}: same queries as {@link QueryParser#parse} over the decoded
+ * text.
+ *
+ * Separators and parentheses are ASCII, and UTF-8 never uses ASCII bytes inside
+ * a multi-byte sequence, so tokens are found on the raw bytes. Short tokens are
+ * decoded once and interned in a small table owned by the parser: fields,
+ * operators and repeated values come back as the same String with no new
+ * allocation, only new tokens are decoded.
+ *
+ * Filter dumps hold one filter per line. {@link #parseFile} maps the file in
+ * windows through {@link FileChannel#map}, cut at line ends, so files larger
+ * than 2 GB are read without copying them to the heap.
+ *
+ * Instances keep mutable state (intern table, scratch buffer): use one per
+ * thread.
+ */
+public final class ByteQueryParser {
+
+	/**
+	 * Bytes mapped at once by {@link #parseFile}.
+	 */
+	static final int MAP_WINDOW = 1 << 28;
+
+	private static final int MAX_INTERNED_LENGTH = 32;
+
+	private static final int INTERN_CAPACITY = 1 << 10;
+
+	private final QueryParser.TokenClassifier classifier;
+
+	private final byte[][] internBytes = new byte[INTERN_CAPACITY][];
+
+	private final String[] internStrings = new String[INTERN_CAPACITY];
+
+	private int interned;
+
+	private byte[] scratch = new byte[256];
+
+	private final List<String> tokens = new ArrayList<>();
+
+	public ByteQueryParser(final QueryParser.TokenClassifier classifier) {
+		this.classifier = Objects.requireNonNull(classifier, "Token classifier cannot be null");
+	}
+
+	/**
+	 * Parses the bytes between position and limit as one query. The buffer
+	 * position and limit are not modified.
+	 *
+	 * @param input
+	 *            UTF-8 bytes
+	 * @return parsed queries
+	 */
+	public List<Query> parse(final ByteBuffer input) {
+		Objects.requireNonNull(input, "Input buffer cannot be null");
+		return this.parseRange(input, input.position(), input.limit());
+	}
+
+	/**
+	 * Parses each line between position and limit as one query and hands the
+	 * non-empty results to the sink. The buffer position and limit are not
+	 * modified.
+	 *
+	 * @param input
+	 *            UTF-8 bytes, lines separated by {@code \n}
+	 * @param sink
+	 *            receives the queries of each line
+	 * @return number of lines that produced queries
+	 */
+	public long parseLines(final ByteBuffer input, final Consumer<List<Query>> sink) {
+		Objects.requireNonNull(input, "Input buffer cannot be null");
+		Objects.requireNonNull(sink, "Sink cannot be null");
+		long count = 0;
+		int start = input.position();
+		final int limit = input.limit();
+		for (int i = start; i <= limit; i++) {
+			if (i == limit || input.get(i) == '\n') {
+				final List<Query> queries = this.parseRange(input, start, i);
+				if (!queries.isEmpty()) {
+					sink.accept(queries);
+					count++;
+				}
+				start = i + 1;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Memory-maps the file and parses it line by line, see
+	 * {@link #parseLines(ByteBuffer, Consumer)}. The mapped windows are released
+	 * by the garbage collector.
+	 *
+	 * @param file
+	 *            UTF-8 file, one filter per line
+	 * @param sink
+	 *            receives the queries of each line
+	 * @return number of lines that produced queries
+	 * @throws IOException
+	 *             when the file cannot be read or a line does not fit in 2 GB
+	 */
+	public long parseFile(final Path file, final Consumer<List<Query>> sink) throws IOException {
+		return this.parseFile(file, sink, MAP_WINDOW);
+	}
+
+	long parseFile(final Path file, final Consumer<List<Query>> sink, final int initialWindow) throws IOException {
+		Objects.requireNonNull(file, "File cannot be null");
+		Objects.requireNonNull(sink, "Sink cannot be null");
+		long count = 0;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			final long size = channel.size();
+			long offset = 0;
+			int window = initialWindow;
+			while (offset < size) {
+				final long length = Math.min(window, size - offset);
+				final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+				int end = (int) length;
+				if (offset + length < size) {
+					// Cortar la ventana en el último fin de línea
+					end = lastLineEnd(mapped, end);
+					if (end < 0) {
+						if (window == Integer.MAX_VALUE) {
+							throw new IOException("Line longer than " + Integer.MAX_VALUE + " bytes at " + offset);
+						}
+						window = (int) Math.min(Integer.MAX_VALUE, 2L * window);
+						continue;
+					}
+				}
+				count += this.parseLines(mapped.limit(end), sink);
+				offset += end;
+			}
+		}
+		return count;
+	}
+
+	// -----------------------------
+
+	private List<Query> parseRange(final ByteBuffer input, final int from, final int to) {
+		final ParseEvent event = new ParseEvent();
+		event.begin();
+		final long begin = Metrics.start();
+		this.tokens.clear();
+		int start = -1;
+		for (int i = from; i < to; i++) {
+			final byte b = input.get(i);
+			if (QueryParser.isSeparator(b)) {
+				if (start >= 0) {
+					this.tokens.add(this.decode(input, start, i));
+					start = -1;
+				}
+			} else if (b == '(' || b == ')') {
+				if (start >= 0) {
+					this.tokens.add(this.decode(input, start, i));
+					start = -1;
+				}
+				this.tokens.add(b == '(' ? "(" : ")");
+			} else if (start < 0) {
+				start = i;
+			}
+		}
+		if (start >= 0) {
+			this.tokens.add(this.decode(input, start, to));
+		}
+		final List<Query> queries = QueryParser.parseTokens(this.tokens, this.classifier);
+		if (Metrics.ENABLED && !this.tokens.isEmpty()) {
+			Metrics.stop(Metric.PARSE_TIME, begin);
+			Metrics.record(Metric.PARSE_TOKENS, this.tokens.size());
+		}
+		if (!this.tokens.isEmpty() && event.shouldCommit()) {
+			event.domain = DslEvents.domain(this.classifier.getClass());
+			event.inputLength = to - from;
+			event.tokens = this.tokens.size();
+			event.atoms = queries.size();
+			event.commit();
+		}
+		return queries;
+	}
+
+	private String decode(final ByteBuffer input, final int from, final int to) {
+		final int length = to - from;
+		if (length > MAX_INTERNED_LENGTH) {
+			return this.newString(input, from, length);
+		}
+		int hash = 0x811c9dc5;
+		for (int i = from; i < to; i++) {
+			hash = (hash ^ input.get(i)) * 0x01000193;
+		}
+		final int mask = INTERN_CAPACITY - 1;
+		int slot = hash & mask;
+		while (this.internBytes[slot] != null) {
+			if (sameBytes(this.internBytes[slot], input, from, length)) {
+				return this.internStrings[slot];
+			}
+			slot = (slot + 1) & mask;
+		}
+		final String decoded = this.newString(input, from, length);
+		// Tabla a media carga como máximo: después solo se decodifica
+		if (this.interned < INTERN_CAPACITY / 2) {
+			final byte[] bytes = new byte[length];
+			input.get(from, bytes, 0, length);
+			this.internBytes[slot] = bytes;
+			this.internStrings[slot] = decoded;
+			this.interned++;
+		}
+		return decoded;
+	}
+
+	private String newString(final ByteBuffer input, final int from, final int length) {
+		if (input.hasArray()) {
+			return new String(input.array(), input.arrayOffset() + from, length, StandardCharsets.UTF_8);
+		}
+		if (this.scratch.length < length) {
+			this.scratch = Arrays.copyOf(this.scratch, Math.max(length, 2 * this.scratch.length));
+		}
+		input.get(from, this.scratch, 0, length);
+		return new String(this.scratch, 0, length, StandardCharsets.UTF_8);
+	}
+
+	private static boolean sameBytes(final byte[] bytes, final ByteBuffer input, final int from, final int length) {
+		if (bytes.length != length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (bytes[i] != input.get(from + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return index after the last {@code \n} before end, or -1 when there is none
+	 */
+	private static int lastLineEnd(final ByteBuffer input, final int end) {
+		for (int i = end - 1; i >= 0; i--) {
+			if (input.get(i) == '\n') {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+}
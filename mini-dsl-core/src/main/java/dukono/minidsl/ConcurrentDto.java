@@ -0,0 +1,269 @@
+package dukono.minidsl;
+
+import dukono.minidsl.metrics.Metric;
+import dukono.minidsl.metrics.Metrics;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * {@link Dto} for multi-producer filter assembly: several threads can call
+ * {@code addFilter} on the same instance without external locking.
+ *
+ * Filters are appended lock-free to one of several stripes (chosen by thread),
+ * each a {@link ConcurrentLinkedQueue}. Mutations ({@code removeFilters*},
+ * {@code replaceFilters}) take the stripe locks one at a time; reset-like
+ * operations take all of them. Reads merge the stripes into a sorted snapshot
+ * that is cached until the next change, so {@link #getFiltersSorted()} and
+ * {@link #filtersAsString()} produce the same output as the sequential DTO.
+ *
+ * {@link #getFilters()} and {@link #getFiltersSorted()} return copies of the
+ * filters: modifying them does not change the DTO.
+ */
+@SuperBuilder
+@NoArgsConstructor
+@SuppressWarnings("unchecked")
+public abstract class ConcurrentDto extends Dto {
+
+	private static final int STRIPES = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()))
+			<< 1;
+
+	private final Stripe[] stripes = newStripes();
+
+	// ⚡ Snapshot ordenado, válido mientras no cambie la versión
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+	private static Stripe[] newStripes() {
+		final Stripe[] stripes = new Stripe[STRIPES];
+		for (int i = 0; i < stripes.length; i++) {
+			stripes[i] = new Stripe();
+		}
+		return stripes;
+	}
+
+	private Stripe localStripe() {
+		return this.stripes[(int) Thread.currentThread().threadId() & (this.stripes.length - 1)];
+	}
+
+	// -----------------------------Appends (lock-free)
+
+	@Override
+	public <T extends Dto> T addFilter(final Queries filter) {
+		if (filter != null && filter.notEmpty()) {
+			final Stripe stripe = this.localStripe();
+			stripe.filters.add(filter);
+			stripe.version.incrementAndGet();
+		}
+		return (T) this;
+	}
+
+	@Override
+	public <T extends Dto> T addFilter(final List<Queries> filters) {
+		if (CollectionUtils.isNotEmpty(filters)) {
+			final Stripe stripe = this.localStripe();
+			filters.stream().filter(q -> q != null && q.notEmpty()).forEach(stripe.filters::add);
+			stripe.version.incrementAndGet();
+		}
+		return (T) this;
+	}
+
+	// -----------------------------Mutations (striped locking)
+
+	@Override
+	public <T extends Dto> T replaceFilters(final Map<Queries, Queries> requestValues) {
+		this.eachStripe(stripe -> requestValues
+				.forEach((toFind, newValue) -> stripe.filters.forEach(core -> core.replace(toFind, newValue))));
+		return (T) this;
+	}
+
+	@Override
+	public <T extends Dto> T replaceFilters(final Dto requestValues, final ComparatorEnum compareBy) {
+		final List<Queries> values = requestValues.filtersView();
+		this.eachStripe(stripe -> values.forEach(
+				queries -> stripe.filters.forEach(core -> core.replace(queries.getQueries(), compareBy.getValue()))));
+		return (T) this;
+	}
+
+	@Override
+	public <T extends Dto> T removeFiltersExactMatch(final List<Queries> requestValues) {
+		this.eachStripe(stripe -> requestValues.forEach(toFind -> {
+			stripe.filters.forEach(core -> core.replace(toFind, null));
+			stripe.filters.removeIf(Queries::empty);
+		}));
+		return (T) this;
+	}
+
+	@Override
+	public <T extends Dto> T removeFiltersQuery(final List<Queries> requestValues, final ComparatorEnum compareBy) {
+		this.eachStripe(stripe -> requestValues
+				.forEach(toFind -> stripe.filters.forEach(core -> core.remove(toFind.getQueries(), compareBy.getValue()))));
+		return (T) this;
+	}
+
+	@Override
+	public <T extends Dto> T removeFiltersFull(final List<Queries> requestValues, final ComparatorEnum compareBy) {
+		this.eachStripe(stripe -> requestValues.forEach(
+				toFind -> stripe.filters.removeIf(core -> core.match(toFind.getQueries(), compareBy.getValue()))));
+		return (T) this;
+	}
+
+	@Override
+	public <T extends Dto> T removeFilters() {
+		this.eachStripe(stripe -> stripe.filters.clear());
+		return (T) this;
+	}
+
+	@Override
+	public <T extends Dto> T resetFilter(final Queries filter) {
+		Optional.ofNullable(filter).filter(Queries::notEmpty).ifPresent(s -> this.replaceAll(List.of(s)));
+		return (T) this;
+	}
+
+	@Override
+	public void setFilters(final List<Queries> filters) {
+		if (CollectionUtils.isNotEmpty(filters)) {
+			this.replaceAll(filters);
+		}
+	}
+
+	/**
+	 * Parses right away: the stripes are the only storage of this DTO, so
+	 * deferring the parse would leave the inputs out of every read and
+	 * mutation.
+	 */
+	@Override
+	public <T extends Dto> T parseFiltersLazy(final Collection<String> inputs,
+			final QueryParser.TokenClassifier classifier) {
+		return this.parseFilters(inputs, classifier);
+	}
+
+	@Override
+	void shareFrozen(final List<Queries> frozenFilters) {
+		// Sin copy-on-write: los productores pueden añadir en cualquier momento
+		final List<Queries> copy = new ArrayList<>(frozenFilters.size());
+		frozenFilters.forEach(q -> copy.add(q.copy()));
+		this.replaceAll(copy);
+	}
+
+	private void replaceAll(final List<Queries> filters) {
+		this.lockAll();
+		try {
+			for (final Stripe stripe : this.stripes) {
+				stripe.filters.clear();
+			}
+			this.localStripe().filters.addAll(filters);
+			for (final Stripe stripe : this.stripes) {
+				stripe.version.incrementAndGet();
+			}
+		} finally {
+			this.unlockAll();
+		}
+	}
+
+	private void eachStripe(final Consumer<Stripe> action) {
+		for (final Stripe stripe : this.stripes) {
+			stripe.lock.lock();
+			try {
+				action.accept(stripe);
+				stripe.version.incrementAndGet();
+			} finally {
+				stripe.lock.unlock();
+			}
+		}
+	}
+
+	private void lockAll() {
+		for (final Stripe stripe : this.stripes) {
+			stripe.lock.lock();
+		}
+	}
+
+	private void unlockAll() {
+		for (int i = this.stripes.length - 1; i >= 0; i--) {
+			this.stripes[i].lock.unlock();
+		}
+	}
+
+	// -----------------------------Reads
+
+	@Override
+	public List<Queries> getFiltersSorted() {
+		final long current = this.version();
+		final Snapshot cached = this.snapshot.get();
+		if (cached != null && cached.version() == current) {
+			Metrics.increment(Metric.SORTED_CACHE_HIT);
+			return cached.sorted();
+		}
+		Metrics.increment(Metric.SORTED_CACHE_MISS);
+		final List<Queries> merged = this.merged();
+		merged.sort(QUERIES_COMPARATOR);
+		final List<Queries> sorted = Collections.unmodifiableList(merged);
+		// Si hubo escrituras durante la copia, la versión ya no coincide y se recalcula
+		this.snapshot.set(new Snapshot(current, sorted));
+		return sorted;
+	}
+
+	@Override
+	public List<Queries> getFilters() {
+		return this.merged();
+	}
+
+	@Override
+	List<Queries> filtersView() {
+		return this.merged();
+	}
+
+	/**
+	 * Sum of the stripe versions: each stripe only grows, so any change makes the
+	 * sum grow. Per-stripe counters keep producers from contending on one
+	 * counter.
+	 */
+	private long version() {
+		long version = 0;
+		for (final Stripe stripe : this.stripes) {
+			version += stripe.version.get();
+		}
+		return version;
+	}
+
+	/**
+	 * Copies of the filters of every stripe, taken under the stripe lock.
+	 * {@code replace*} and {@code remove*} change the filters in place under
+	 * that lock, so sorting or handing out the live instances could see them
+	 * change half way; the copies never change.
+	 */
+	private List<Queries> merged() {
+		final List<Queries> merged = new ArrayList<>();
+		for (final Stripe stripe : this.stripes) {
+			stripe.lock.lock();
+			try {
+				stripe.filters.forEach(q -> merged.add(q.copy()));
+			} finally {
+				stripe.lock.unlock();
+			}
+		}
+		return merged;
+	}
+
+	private static final class Stripe {
+		private final ConcurrentLinkedQueue<Queries> filters = new ConcurrentLinkedQueue<>();
+		private final ReentrantLock lock = new ReentrantLock();
+		private final AtomicLong version = new AtomicLong();
+	}
+
+	private record Snapshot(long version, List<Queries> sorted) {
+	}
+
+}
@@ -3,7 +3,13 @@ package dukono.minidsl;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dukono.minidsl.annotation.OperationDefinition;
+import dukono.minidsl.metrics.Metric;
+import dukono.minidsl.metrics.Metrics;
+import dukono.minidsl.util.FingerprintIndex;
 import dukono.minidsl.util.ParseConfigFactory;
+import dukono.minidsl.util.RenderCache;
+import dukono.minidsl.util.Shapes;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder.Default;
 import lombok.Getter;
@@ -14,11 +20,10 @@ import org.apache.commons.collections4.CollectionUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @SuppressWarnings("unchecked")
 @SuperBuilder
@@ -40,6 +45,47 @@ public abstract class Dto {
 	private transient List<Queries> sortedFiltersCache = null;
 	private transient boolean filtersDirty = true;
 
+	// Copy-on-write: filters compartidos con un FrozenDto hasta la primera mutación
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private transient boolean copyOnWrite;
+
+	// Modo lazy y render memoizado. Final e inicializado: fuera del builder y del constructor
+	@Getter(AccessLevel.NONE)
+	private final transient State state = new State();
+
+	/**
+	 * Internal state that is not a property of the DTO. Each field is a single
+	 * reference, replaced as a whole and never modified in place.
+	 */
+	private static final class State {
+		// Modo lazy: entradas sin parsear hasta que se necesite la estructura
+		private Pending pending;
+		// ⚡ Render memoizado: válido mientras el fingerprint del contenido no cambie
+		private Rendered<List<String>> strings;
+		private Rendered<String> json;
+
+		void dropRendered() {
+			this.strings = null;
+			this.json = null;
+		}
+	}
+
+	/**
+	 * Inputs stored by {@link #parseFiltersLazy} and the classifier to parse
+	 * them with.
+	 */
+	private record Pending(Collection<String> inputs, QueryParser.TokenClassifier classifier) {
+	}
+
+	/**
+	 * A rendering and the content fingerprint of the filters it was rendered
+	 * from. Immutable, so a DTO read by several threads never sees it half
+	 * built.
+	 */
+	private record Rendered<V>(long fingerprint, V value) {
+	}
+
 	/**
 	 * Marks filters as dirty to invalidate sorted cache. Call this after any
 	 * modification to filters list.
@@ -47,10 +93,93 @@ public abstract class Dto {
 	private void markFiltersDirty() {
 		this.filtersDirty = true;
 		this.sortedFiltersCache = null;
+		this.state.dropRendered();
+	}
+
+	/**
+	 * Copies the filters shared with a {@link FrozenDto} before the first
+	 * mutation. No-op for a regular DTO.
+	 */
+	private void ensureWritable() {
+		this.materialize();
+		if (this.copyOnWrite) {
+			final List<Queries> copy = new ArrayList<>(this.filters.size());
+			this.filters.forEach(q -> copy.add(q.copy()));
+			this.filters = copy;
+			this.copyOnWrite = false;
+			// Las copias ya están ordenadas; la vista ordenada no comparte la lista
+			this.sortedFiltersCache = Collections.unmodifiableList(new ArrayList<>(copy));
+			this.filtersDirty = false;
+		}
+	}
+
+	/**
+	 * Parses the inputs stored by {@link #parseFiltersLazy}, if any. Every read
+	 * or write of the structure goes through here first.
+	 */
+	private void materialize() {
+		final Pending pending = this.state.pending;
+		if (pending != null) {
+			this.dropPending();
+			this.parseFilters(pending.inputs(), pending.classifier());
+		}
+	}
+
+	private void dropPending() {
+		this.state.pending = null;
+	}
+
+	/**
+	 * Shares the (sorted, immutable) filters of a frozen snapshot.
+	 */
+	void shareFrozen(final List<Queries> frozenFilters) {
+		this.dropPending();
+		this.filters = frozenFilters;
+		this.copyOnWrite = true;
+		this.sortedFiltersCache = frozenFilters;
+		this.filtersDirty = false;
+		this.state.dropRendered();
+	}
+
+	/**
+	 * Returns the mutable filter list, in insertion order. On a DTO thawed from a
+	 * {@link FrozenDto} this triggers the copy, as callers may modify the list;
+	 * for the same reason the sorted view is computed again on its next use.
+	 * 
+	 * @return the filters
+	 */
+	public List<Queries> getFilters() {
+		this.ensureWritable();
+		this.filtersDirty = true;
+		return this.filters;
+	}
+
+	/**
+	 * Read-only view of the current filters, in insertion order. Unlike
+	 * {@link #getFilters()} it never copies nor exposes a list meant to be
+	 * modified.
+	 */
+	List<Queries> filtersView() {
+		this.materialize();
+		return this.filters;
+	}
+
+	/**
+	 * Creates an immutable, thread-safe snapshot of the current filters: sorted,
+	 * with strings, JSON and fingerprints pre-rendered. The JSON lists the
+	 * filters in sorted order, the order a DTO thawed from the snapshot holds
+	 * them in.
+	 * 
+	 * @return the frozen snapshot
+	 */
+	public FrozenDto freeze() {
+		final List<Queries> sorted = this.getFiltersSorted();
+		return new FrozenDto(sorted, renderJson(sorted));
 	}
 
 	public <T extends Dto> T addFilter(final Queries filter) {
 		Optional.ofNullable(filter).filter(Queries::notEmpty).ifPresent(s -> {
+			this.ensureWritable();
 			this.filters.add(s);
 			this.markFiltersDirty();
 		});
@@ -58,6 +187,8 @@ public abstract class Dto {
 	}
 	public <T extends Dto> T resetFilter(final Queries filter) {
 		Optional.ofNullable(filter).filter(Queries::notEmpty).ifPresent(s -> {
+			this.dropPending();
+			this.ensureWritable();
 			this.filters.clear();
 			this.filters.add(s);
 			this.markFiltersDirty();
@@ -67,6 +198,7 @@ public abstract class Dto {
 
 	public <T extends Dto> T addFilter(final List<Queries> filters) {
 		Optional.ofNullable(filters).filter(CollectionUtils::isNotEmpty).ifPresent(s -> {
+			this.ensureWritable();
 			this.filters.addAll(s);
 			this.markFiltersDirty();
 		});
@@ -75,14 +207,16 @@ public abstract class Dto {
 
 	// replaceFilters-----------------------------------------
 	public <T extends Dto> T replaceFilters(final Map<Queries, Queries> requestValues) {
+		this.ensureWritable();
 		requestValues.forEach((toFind, newValue) -> this.filters.forEach(core -> core.replace(toFind, newValue)));
 		this.markFiltersDirty();
 		return (T) this;
 	}
 
 	public <T extends Dto> T replaceFilters(final Dto requestValues, final ComparatorEnum compareBy) {
+		this.ensureWritable();
 
-		requestValues.filters.forEach(
+		requestValues.filtersView().forEach(
 				queries -> this.filters.forEach(core -> core.replace(queries.getQueries(), compareBy.getValue())));
 		this.markFiltersDirty();
 
@@ -91,6 +225,7 @@ public abstract class Dto {
 
 	// removeFilters-----------------------------------------
 	public <T extends Dto> T removeFiltersExactMatch(final List<Queries> requestValues) {
+		this.ensureWritable();
 
 		// ⚡ Acceso directo a filters sin ordenar
 		requestValues.forEach(toFind -> {
@@ -103,6 +238,7 @@ public abstract class Dto {
 	}
 
 	public <T extends Dto> T removeFiltersQuery(final List<Queries> requestValues, final ComparatorEnum compareBy) {
+		this.ensureWritable();
 
 		requestValues.forEach(
 				toFind -> this.filters.forEach(core -> core.remove(toFind.getQueries(), compareBy.getValue())));
@@ -112,6 +248,7 @@ public abstract class Dto {
 	}
 
 	public <T extends Dto> T removeFiltersFull(final List<Queries> requestValues, final ComparatorEnum compareBy) {
+		this.ensureWritable();
 
 		requestValues.forEach(
 				toFind -> this.filters.removeIf(core -> core.match(toFind.getQueries(), compareBy.getValue())));
@@ -121,6 +258,12 @@ public abstract class Dto {
 	}
 
 	public <T extends Dto> T removeFilters() {
+		this.dropPending();
+		if (this.copyOnWrite) {
+			// ⚡ Nada que copiar: se descarta la vista compartida
+			this.filters = new ArrayList<>();
+			this.copyOnWrite = false;
+		}
 		Optional.ofNullable(this.filters).ifPresent(values -> {
 			this.filters.clear();
 			this.markFiltersDirty();
@@ -129,49 +272,95 @@ public abstract class Dto {
 	}
 
 	public List<String> filtersAsString() {
-		// ⚡ Usa getFilters() que ya está optimizado con cache
-		return Optional.ofNullable(this.getFiltersSorted()).stream().flatMap(Collection::stream)
-				.map(Queries::filtersAsString).toList();
+		Metrics.increment(Metric.RENDER_STRING);
+		final Pending pending = this.state.pending;
+		if (pending != null && this.filters.isEmpty()) {
+			// ⚡ DTO lazy sin tocar: la entrada normalizada, sin parsear
+			return pending.inputs().stream().map(QueryParser::normalize).filter(s -> !s.isEmpty()).distinct()
+					.sorted().toList();
+		}
+		final List<Queries> sorted = Optional.ofNullable(this.getFiltersSorted()).orElse(List.of());
+		// ⚡ Validar el memo cuesta un long por filtro, cacheado en cada Queries
+		final long fingerprint = RenderCache.fingerprint(sorted);
+		final Rendered<List<String>> memo = this.state.strings;
+		if (memo != null && memo.fingerprint() == fingerprint) {
+			Metrics.increment(Metric.RENDER_CACHE_HIT);
+			return memo.value();
+		}
+		final List<String> strings = RenderCache.strings(sorted, fingerprint);
+		this.state.strings = new Rendered<>(fingerprint, strings);
+		return strings;
 	}
 
 	/**
 	 * Gets sorted filters with lazy sorting and caching. ⚡ Performance: Only sorts
 	 * when filters are modified (dirty flag).
 	 * 
-	 * @return sorted list of filters (cached)
+	 * The sort works on a copy: the list of {@link #getFilters()}, and any list
+	 * given to {@link #setFilters}, keeps its insertion order.
+	 * 
+	 * @return sorted, unmodifiable list of filters (cached)
 	 */
 	public List<Queries> getFiltersSorted() {
+		this.materialize();
 		if (this.filtersDirty || this.sortedFiltersCache == null) {
-			// ⚡ Sort in-place usando Comparator estático
-			this.filters.sort(QUERIES_COMPARATOR);
-			this.sortedFiltersCache = this.filters;
+			Metrics.increment(Metric.SORTED_CACHE_MISS);
+			// ⚡ Comparator estático; cada Queries compara primero su prefijo empaquetado
+			final List<Queries> sorted = new ArrayList<>(this.filters);
+			sorted.sort(QUERIES_COMPARATOR);
+			this.sortedFiltersCache = Collections.unmodifiableList(sorted);
 			this.filtersDirty = false;
+		} else {
+			Metrics.increment(Metric.SORTED_CACHE_HIT);
 		}
 		return this.sortedFiltersCache;
 	}
 
 	public void setFilters(final List<Queries> filters) {
 		if (CollectionUtils.isNotEmpty(filters)) {
+			this.dropPending();
 			this.markFiltersDirty();
 			this.filters = filters;
+			this.copyOnWrite = false;
 		}
 	}
 
+	/**
+	 * JSON array of the queries of every filter, in insertion order. Memoized
+	 * like {@link #filtersAsString()}: rendered again only when the filters
+	 * change.
+	 *
+	 * @return the JSON, {@code []} when it cannot be written
+	 */
 	public String filtersAsJson() {
+		Metrics.increment(Metric.RENDER_JSON);
+		// ⚡ Lectura directa: no dispara la copia de un DTO copy-on-write
+		final List<Queries> view = Optional.ofNullable(this.filtersView()).orElse(List.of());
+		final long fingerprint = RenderCache.fingerprint(view);
+		final Rendered<String> memo = this.state.json;
+		if (memo != null && memo.fingerprint() == fingerprint) {
+			Metrics.increment(Metric.RENDER_CACHE_HIT);
+			return memo.value();
+		}
+		final String json = renderJson(view);
+		this.state.json = new Rendered<>(fingerprint, json);
+		return json;
+	}
+
+	private static String renderJson(final List<Queries> filters) {
 		final List<Map<String, Object>> jsonEntries = new ArrayList<>();
-		Optional.ofNullable(this.getFilters()).stream().flatMap(Collection::stream)
-				.forEach(qs -> qs.getQueries().forEach(q -> {
-					final Map<String, Object> node = new java.util.LinkedHashMap<>();
-					if (q.getKey() != null) {
-						node.put("key", q.getKey());
-					}
-					if (q.getOp() != null) {
-						node.put("op", q.getOp());
-					}
-					// value solo si presente
-					q.getValue().ifPresent(v -> node.put("value", v));
-					jsonEntries.add(node);
-				}));
+		filters.forEach(qs -> qs.getQueries().forEach(q -> {
+			final Map<String, Object> node = new java.util.LinkedHashMap<>();
+			if (q.getKey() != null) {
+				node.put("key", q.getKey());
+			}
+			if (q.getOp() != null) {
+				node.put("op", q.getOp());
+			}
+			// value solo si presente
+			q.getValue().ifPresent(v -> node.put("value", v));
+			jsonEntries.add(node);
+		}));
 		try {
 			return JSON_MAPPER.writeValueAsString(jsonEntries);
 		} catch (final Exception e) {
@@ -217,15 +406,157 @@ public abstract class Dto {
 	}
 
 	public <T extends Dto> T parseFilters(final Collection<String> inputs, final Query.ParseConfig config) {
-		Optional.ofNullable(inputs).filter(strings -> !strings.isEmpty()).map(HashSet::new).ifPresent(strings -> {
-			this.setFilters(strings.stream().map(input -> Query.parseQueries(input, config))
-					.filter(requestDynamicQuery -> !requestDynamicQuery.isEmpty()).map(Queries::new)
-					.collect(Collectors.toCollection(ArrayList::new)));
+		return this.parseFilters(inputs, (QueryParser.TokenClassifier) config);
+	}
+
+	/**
+	 * Parses the inputs with a domain classifier, such as the {@code Parser}
+	 * generated with {@code generateParser = true}.
+	 */
+	public <T extends Dto> T parseFilters(final Collection<String> inputs,
+			final QueryParser.TokenClassifier classifier) {
+		Optional.ofNullable(inputs).filter(strings -> !strings.isEmpty()).ifPresent(strings -> {
+			Metrics.record(Metric.PARSE_FILTERS_BATCH, inputs.size());
+			this.setFilters(parseDistinct(strings, classifier));
 			this.markFiltersDirty();
 		});
 		return (T) this;
 	}
 
+	/**
+	 * Parses each input and keeps the first of the filters that render the same,
+	 * in input order: {@code a eq 1} and {@code a  eq 1} are one filter.
+	 */
+	private static List<Queries> parseDistinct(final Collection<String> inputs,
+			final QueryParser.TokenClassifier classifier) {
+		final List<Queries> parsed = new ArrayList<>(inputs.size());
+		// ⚡ Fingerprints en arrays primitivos, sin hashear ni guardar los strings
+		final FingerprintIndex seen = new FingerprintIndex(inputs.size());
+		for (final String input : inputs) {
+			final List<Query> queries = QueryParser.parse(input, classifier);
+			if (queries.isEmpty()) {
+				continue;
+			}
+			final Queries filter = new Queries(queries);
+			final int first = seen.putIfAbsent(filter.fingerprint(), parsed.size());
+			// Mismo fingerprint: se confirma con el texto, una colisión no descarta el filtro
+			if (first < 0 || !seenBefore(parsed, first, filter)) {
+				parsed.add(filter);
+			}
+		}
+		return parsed;
+	}
+
+	/**
+	 * Whether a filter rendering the same as {@code filter} is already parsed.
+	 * The index only keeps the first position of each fingerprint, so when that
+	 * one differs (a fingerprint collision) the later ones with the same
+	 * fingerprint are checked too.
+	 *
+	 * @param first
+	 *            position of the first parsed filter with the fingerprint of
+	 *            {@code filter}
+	 */
+	static boolean seenBefore(final List<Queries> parsed, final int first, final Queries filter) {
+		if (parsed.get(first).equals(filter)) {
+			return true;
+		}
+		final long fingerprint = filter.fingerprint();
+		for (int i = first + 1; i < parsed.size(); i++) {
+			final Queries other = parsed.get(i);
+			if (other.fingerprint() == fingerprint && other.equals(filter)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Stores the inputs and parses them on the first call that needs the
+	 * structure: {@link #getFilters()}, {@link #getFiltersSorted()},
+	 * {@link #filtersAsJson()}, {@code replace*}, {@code remove*} or adding
+	 * filters. Until then {@link #filtersAsString()} returns the inputs with the
+	 * whitespace normalized, sorted, without parsing them.
+	 *
+	 * That shortcut assumes well-formed inputs, such as the output of
+	 * {@link #filtersAsString()} being forwarded: fields or operators the
+	 * classifier would reject are only dropped once the inputs are parsed.
+	 *
+	 * @param inputs
+	 *            raw filters, one per string
+	 * @param classifier
+	 *            token roles of the domain, e.g. a ParseConfig
+	 * @return this DTO
+	 */
+	public <T extends Dto> T parseFiltersLazy(final Collection<String> inputs,
+			final QueryParser.TokenClassifier classifier) {
+		Optional.ofNullable(inputs).filter(strings -> !strings.isEmpty()).ifPresent(strings -> {
+			this.materialize();
+			if (this.filters.isEmpty() && !this.copyOnWrite) {
+				this.state.pending = new Pending(new ArrayList<>(strings), classifier);
+			} else {
+				this.parseFilters(strings, classifier);
+			}
+		});
+		return (T) this;
+	}
+
+	/**
+	 * Shape fingerprint of the filters, every value counted as a single value.
+	 * See {@link #shapeFingerprint(ListArity)}.
+	 */
+	public long shapeFingerprint() {
+		return this.shapeFingerprint(ListArity.NONE);
+	}
+
+	/**
+	 * Fingerprint of the structure of the filters, see
+	 * {@link Queries#shapeFingerprint(ListArity)}. The filters are combined in
+	 * {@link #filtersByShape} order, so it does not depend on the order they were
+	 * added in.
+	 *
+	 * @param arity
+	 *            list arity of the domain, see {@link ListArity}
+	 * @return shape fingerprint
+	 */
+	public long shapeFingerprint(final ListArity arity) {
+		return Shapes.combine(this.filtersByShape(arity), arity);
+	}
+
+	/**
+	 * @return the values left out of {@link #shapeFingerprint(ListArity)}, in
+	 *         {@link #filtersByShape} order
+	 */
+	public List<Object> shapeValues(final ListArity arity) {
+		final List<Object> values = new ArrayList<>();
+		this.filtersByShape(arity).forEach(filter -> values.addAll(filter.shapeValues()));
+		return values;
+	}
+
+	/**
+	 * The filters ordered by shape fingerprint, ties in insertion order: two
+	 * DTOs with filters of the same shapes list them in the same order whatever
+	 * their values, unlike {@link #getFiltersSorted()}.
+	 *
+	 * @return a new list, the DTO is not modified
+	 */
+	public List<Queries> filtersByShape(final ListArity arity) {
+		final List<Queries> ordered = new ArrayList<>(this.filtersView());
+		// ⚡ List.sort es estable y la forma de cada filtro está cacheada
+		ordered.sort((a, b) -> Long.compare(a.shapeFingerprint(arity), b.shapeFingerprint(arity)));
+		return ordered;
+	}
+
+	/**
+	 * Compiles the current filters, built with {@link PreparedFilter#SLOT} and
+	 * {@link PreparedFilter#LIST_SLOT} placeholders, into a reusable template.
+	 *
+	 * @return immutable template with bind slots
+	 */
+	public PreparedFilter prepare() {
+		return PreparedFilter.of(this);
+	}
+
 	<T extends Dto> void update(final T val) {
 		this.addFilter(val.getFilters());
 	}
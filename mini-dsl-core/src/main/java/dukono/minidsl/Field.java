@@ -12,7 +12,7 @@ public class Field {
 	@Builder
 	@Getter
 	public static class FieldHolder {
-		String name;
+		private final String name;
 	}
 
 }
@@ -0,0 +1,252 @@
+package dukono.minidsl;
+
+import dukono.minidsl.util.Fingerprints;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Immutable snapshot of a {@link Dto}, created by {@link Dto#freeze()}.
+ *
+ * Filters are deep-copied into read-only {@link Queries} and {@link Query}
+ * instances, whose mutators throw {@link UnsupportedOperationException}, sorted
+ * and wrapped in unmodifiable lists; strings, JSON and fingerprints are
+ * rendered once at freeze time. Nothing is computed
+ * lazily afterwards, so any number of threads (virtual threads included) can
+ * read and render a snapshot without locking.
+ *
+ * {@link #thaw(Supplier)} gives a mutable DTO that shares the snapshot until
+ * its first mutation (copy-on-write).
+ */
+public final class FrozenDto {
+
+	private final List<Queries> filters;
+
+	private final List<String> filtersAsString;
+
+	private final String filtersAsJson;
+
+	private final long[] fingerprints;
+
+	private final long fingerprint;
+
+	FrozenDto(final List<Queries> sortedFilters, final String filtersAsJson) {
+		final List<Queries> frozen = new ArrayList<>(sortedFilters.size());
+		final List<String> strings = new ArrayList<>(sortedFilters.size());
+		this.fingerprints = new long[sortedFilters.size()];
+		long combined = sortedFilters.size();
+		for (int i = 0; i < sortedFilters.size(); i++) {
+			final Queries source = sortedFilters.get(i);
+			final List<Query> queries = new ArrayList<>(source.getQueries().size());
+			source.getQueries().forEach(q -> queries.add(new ReadOnlyQuery(q)));
+			final String rendered = source.filtersAsString();
+			final Queries immutable = new ReadOnlyQueries(Collections.unmodifiableList(queries), rendered);
+			// ⚡ Se calculan ahora: después del freeze no hay escrituras lazy
+			immutable.hashCode();
+			immutable.shapeFingerprint();
+			immutable.sortPrefix();
+			this.fingerprints[i] = immutable.fingerprint();
+			combined = Fingerprints.combine(combined, this.fingerprints[i]);
+			frozen.add(immutable);
+			strings.add(rendered);
+		}
+		this.filters = Collections.unmodifiableList(frozen);
+		this.filtersAsString = Collections.unmodifiableList(strings);
+		this.filtersAsJson = filtersAsJson;
+		this.fingerprint = combined;
+	}
+
+	/**
+	 * @return the sorted filters; neither the list nor its filters can be
+	 *         modified
+	 */
+	public List<Queries> getFilters() {
+		return this.filters;
+	}
+
+	/**
+	 * @return the pre-rendered filters, same as {@link Dto#filtersAsString()}
+	 */
+	public List<String> filtersAsString() {
+		return this.filtersAsString;
+	}
+
+	/**
+	 * @return the pre-rendered JSON of the sorted filters, same as
+	 *         {@link Dto#filtersAsJson()} of a DTO thawed from this snapshot
+	 */
+	public String filtersAsJson() {
+		return this.filtersAsJson;
+	}
+
+	/**
+	 * @param index
+	 *            filter position in {@link #getFilters()}
+	 * @return the fingerprint of that filter
+	 */
+	public long fingerprint(final int index) {
+		return this.fingerprints[index];
+	}
+
+	/**
+	 * @return fingerprint of the whole snapshot (order of the sorted filters)
+	 */
+	public long fingerprint() {
+		return this.fingerprint;
+	}
+
+	public int size() {
+		return this.filters.size();
+	}
+
+	/**
+	 * Creates a mutable DTO backed by this snapshot. The filters are only copied
+	 * when the DTO is first mutated or its filter list is requested, so thawing to
+	 * read or render is cheap.
+	 *
+	 * @param factory
+	 *            DTO factory
+	 * @return a copy-on-write DTO with the same filters
+	 */
+	public <S extends Dto> S thaw(final Supplier<S> factory) {
+		Objects.requireNonNull(factory, "DTO factory cannot be null");
+		final S dto = factory.get();
+		dto.shareFrozen(this.filters);
+		return dto;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof final FrozenDto other)) {
+			return false;
+		}
+		return this.fingerprint == other.fingerprint && this.filtersAsString.equals(other.filtersAsString);
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(this.fingerprint);
+	}
+
+	@Override
+	public String toString() {
+		return "FrozenDto" + this.filtersAsString;
+	}
+
+	private static UnsupportedOperationException readOnly() {
+		return new UnsupportedOperationException("Frozen filters are read-only, thaw the snapshot to modify them");
+	}
+
+	/**
+	 * Filter of a snapshot: shared by every DTO thawed from it, so it rejects
+	 * every mutation. A thawed DTO copies it into a regular {@link Queries}
+	 * before its first change.
+	 */
+	private static final class ReadOnlyQueries extends Queries {
+
+		ReadOnlyQueries(final List<Query> queries, final String filterString) {
+			super(queries, filterString);
+		}
+
+		@Override
+		public void add(final Query filter) {
+			throw readOnly();
+		}
+
+		@Override
+		public void addAll(final Queries filter) {
+			throw readOnly();
+		}
+
+		@Override
+		public void addFirst(final Query filter) {
+			throw readOnly();
+		}
+
+		@Override
+		public void addLast(final Query filter) {
+			throw readOnly();
+		}
+
+		@Override
+		public void replace(final Query toFind, final Query newValue,
+				final Function<Query, Predicate<Query>> compareBy) {
+			throw readOnly();
+		}
+
+		@Override
+		public void replace(final Queries toFind, final Queries newValue) {
+			throw readOnly();
+		}
+
+		@Override
+		public void replace(final List<Query> request, final Function<Query, Predicate<Query>> compareBy) {
+			throw readOnly();
+		}
+
+		@Override
+		public void remove(final List<Query> request, final Function<Query, Predicate<Query>> compareBy) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setQueries(final List<Query> queries) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setCachedFilterString(final String cachedFilterString) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setCachedHashCode(final int cachedHashCode) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setHashCodeCached(final boolean hashCodeCached) {
+			throw readOnly();
+		}
+	}
+
+	/**
+	 * Token of a {@link ReadOnlyQueries}: key, operator and value are fixed.
+	 */
+	private static final class ReadOnlyQuery extends Query {
+
+		ReadOnlyQuery(final Query source) {
+			super(source.getKey(), source.getOp(), source.getValue());
+		}
+
+		@Override
+		public void set(final Query newVal) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setKey(final String key) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setOp(final String op) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setValue(final Optional<Object> value) {
+			throw readOnly();
+		}
+	}
+
+}
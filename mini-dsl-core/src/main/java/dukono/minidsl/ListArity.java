@@ -0,0 +1,23 @@
+package dukono.minidsl;
+
+/**
+ * Tells how many values a list query holds, so shape fingerprints can tell
+ * {@code in a|b} from {@code in a|b|c|d|e} while ignoring the values.
+ *
+ * Queries carry their list as a single rendered value; only the domain knows
+ * the delimiter and brackets of each list operation. Get the one of a domain
+ * from {@code DomainRegistry.of(operationsEnum).listArity()}.
+ */
+@FunctionalInterface
+public interface ListArity {
+
+	/**
+	 * No list operations: every value counts as a single value.
+	 */
+	ListArity NONE = query -> -1;
+
+	/**
+	 * @return number of values of the query, -1 when it is not a list query
+	 */
+	int arity(Query query);
+}
@@ -0,0 +1,142 @@
+package dukono.minidsl;
+
+import dukono.minidsl.annotation.OperationDefinition;
+import dukono.minidsl.annotation.OperationType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * IN-list compaction table of a domain.
+ *
+ * When a list is collapsed with OR and every item produced a single atom with
+ * the same key and an operator that declares a
+ * {@linkplain OperationDefinition#getListOperator() list operator}, the N atoms
+ * and N-1 "or" tokens are replaced by one atom of the WITH_LIST operation, with
+ * its configured delimiter and brackets:
+ *
+ * <pre>
+ * ORDER_ID eq 1 or ORDER_ID eq 2 or ORDER_ID eq 3  -&gt;  ORDER_ID in [1,2,3]
+ * </pre>
+ */
+public final class ListCompaction {
+
+	/**
+	 * Compaction table without entries: nothing is compacted.
+	 */
+	public static final ListCompaction NONE = new ListCompaction(Map.of());
+
+	private final Map<String, Target> targets;
+
+	private ListCompaction(final Map<String, Target> targets) {
+		this.targets = targets;
+	}
+
+	/**
+	 * Builds the compaction table from an operations enum.
+	 *
+	 * @param operationEnumClass
+	 *            enum implementing {@link OperationDefinition}
+	 * @return the table, {@link #NONE} if no operation declares a list operator
+	 */
+	public static ListCompaction of(final Class<? extends Enum<? extends OperationDefinition>> operationEnumClass) {
+		Objects.requireNonNull(operationEnumClass, "Operation enum class cannot be null");
+		final Map<String, OperationDefinition> listOperations = new HashMap<>();
+		for (final Enum<? extends OperationDefinition> constant : operationEnumClass.getEnumConstants()) {
+			final OperationDefinition op = (OperationDefinition) constant;
+			if (op.getType() == OperationType.WITH_LIST && op.getOperator() != null) {
+				listOperations.putIfAbsent(key(op.getOperator()), op);
+			}
+		}
+		final Map<String, Target> targets = new HashMap<>();
+		for (final Enum<? extends OperationDefinition> constant : operationEnumClass.getEnumConstants()) {
+			final OperationDefinition op = (OperationDefinition) constant;
+			if (op.getType() != OperationType.WITH_ARG || op.getOperator() == null || op.getListOperator() == null) {
+				continue;
+			}
+			final OperationDefinition list = listOperations.get(key(op.getListOperator()));
+			if (list == null) {
+				throw new IllegalArgumentException("Operation " + op.getName() + " declares list operator '"
+						+ op.getListOperator() + "' but " + operationEnumClass.getSimpleName()
+						+ " has no WITH_LIST operation with that operator");
+			}
+			targets.put(key(op.getOperator()),
+					new Target(list.getOperator(), list.getListDelimiter(), list.getListBrackets()));
+		}
+		return targets.isEmpty() ? NONE : new ListCompaction(Map.copyOf(targets));
+	}
+
+	/**
+	 * Compacts the items when possible.
+	 *
+	 * @param items
+	 *            the per-item queries about to be collapsed
+	 * @param andOr
+	 *            the logical operator used to join them
+	 * @return a single-atom Queries, or null when the items cannot be compacted
+	 */
+	Queries compact(final List<Queries> items, final Query andOr) {
+		return this.compact(items, andOr, false);
+	}
+
+	/**
+	 * Compacts the items when possible.
+	 *
+	 * @param items
+	 *            the per-item queries about to be collapsed
+	 * @param andOr
+	 *            the logical operator used to join them
+	 * @param distinct
+	 *            whether repeated values are written once in the list
+	 * @return a single-atom Queries, or null when the items cannot be compacted
+	 */
+	Queries compact(final List<Queries> items, final Query andOr, final boolean distinct) {
+		if (this.targets.isEmpty() || andOr == null || !Query.OR.getOp().equalsIgnoreCase(andOr.getOp())
+				|| items == null || items.size() < 2) {
+			return null;
+		}
+		final Query first = single(items.getFirst());
+		if (first == null || first.getKey() == null || first.getOp() == null) {
+			return null;
+		}
+		final Target target = this.targets.get(key(first.getOp()));
+		if (target == null) {
+			return null;
+		}
+		// La lista se ordena al formatear: con distinct basta un set
+		final Collection<String> values = distinct ? new HashSet<>(items.size() * 2) : new ArrayList<>(items.size());
+		for (final Queries item : items) {
+			final Query q = single(item);
+			if (q == null || !first.getKey().equals(q.getKey()) || !first.getOp().equalsIgnoreCase(q.getOp())) {
+				return null;
+			}
+			values.add(q.getValueAsString());
+		}
+		final List<Query> atom = new ArrayList<>(1);
+		atom.add(Query.from(first.getKey(), target.operator,
+				AnchorOperationsBasic.formatList(values, target.delimiter, target.brackets)));
+		return new Queries(atom);
+	}
+
+	private static Query single(final Queries item) {
+		if (item == null || item.getQueries() == null || item.getQueries().size() != 1) {
+			return null;
+		}
+		final Query q = item.getQueries().getFirst();
+		return q.getValue() != null && q.getValue().isPresent() ? q : null;
+	}
+
+	private static String key(final String operator) {
+		return operator.toLowerCase(Locale.ROOT);
+	}
+
+	private record Target(String operator, String delimiter, String brackets) {
+	}
+
+}
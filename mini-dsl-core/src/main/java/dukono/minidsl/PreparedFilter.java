@@ -0,0 +1,267 @@
+package dukono.minidsl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Immutable filter template with bind slots.
+ *
+ * The shape is built once through the generated API, using {@link #SLOT} for
+ * single values and {@link #LIST_SLOT} for list operations:
+ *
+ * <pre>
+ * final PreparedFilter byOrder = OrderApi.from()
+ * 		.field(f -&gt; f.ORDER_ID).equalTo(PreparedFilter.SLOT).and()
+ * 		.field(f -&gt; f.STATUS).inValues(PreparedFilter.LIST_SLOT)
+ * 		.getDto().prepare();
+ *
+ * byOrder.render(42, List.of("NEW", "PAID")); // [ORDER_ID eq 42 and STATUS in NEW,PAID]
+ * </pre>
+ *
+ * Binding walks the precompiled fragments once per filter, so no holders,
+ * Optionals or intermediate strings are created. Slots are numbered in the
+ * order they appear in {@link Dto#filtersAsString()} of the shape; the order
+ * of the filters is the one of the shape and is not recomputed with the bound
+ * values.
+ */
+public final class PreparedFilter {
+
+	private static final char SLOT_MARK = '\uE000';
+
+	private static final char LIST_SLOT_MARK = '\uE001';
+
+	/**
+	 * Placeholder for a single value slot.
+	 */
+	public static final Object SLOT = new Placeholder(SLOT_MARK);
+
+	/**
+	 * Placeholder for a list slot. The delimiter of the list operation is captured
+	 * from the shape and reused when a {@link Collection} is bound.
+	 */
+	public static final List<Object> LIST_SLOT = List.of(new Placeholder(LIST_SLOT_MARK),
+			new Placeholder(LIST_SLOT_MARK));
+
+	private final List<Template> templates;
+
+	private final int slotCount;
+
+	private PreparedFilter(final List<Template> templates, final int slotCount) {
+		this.templates = templates;
+		this.slotCount = slotCount;
+	}
+
+	/**
+	 * Compiles the current filters of the given shape into a template.
+	 *
+	 * @param shape
+	 *            DTO built with placeholder values
+	 * @return the compiled template
+	 */
+	public static PreparedFilter of(final Dto shape) {
+		Objects.requireNonNull(shape, "Shape DTO cannot be null");
+		final List<Template> templates = new ArrayList<>();
+		int slots = 0;
+		for (final Queries queries : shape.getFiltersSorted()) {
+			final Template template = Template.compile(queries, slots);
+			slots += template.filter.slotCount();
+			templates.add(template);
+		}
+		return new PreparedFilter(List.copyOf(templates), slots);
+	}
+
+	public int getSlotCount() {
+		return this.slotCount;
+	}
+
+	/**
+	 * Renders the template with the given values, same output as
+	 * {@link Dto#filtersAsString()}.
+	 *
+	 * @param values
+	 *            one value per slot, in slot order
+	 * @return rendered filters
+	 */
+	public List<String> render(final Object... values) {
+		final String[] bound = this.bind(values);
+		final List<String> result = new ArrayList<>(this.templates.size());
+		for (final Template template : this.templates) {
+			result.add(template.filter.render(bound));
+		}
+		return result;
+	}
+
+	/**
+	 * Builds a DTO with the bound values. The filter strings are pre-rendered so
+	 * sorting and comparing the result does not render them again.
+	 *
+	 * @param factory
+	 *            DTO factory
+	 * @param values
+	 *            one value per slot, in slot order
+	 * @return a new DTO holding the bound filters
+	 */
+	public <S extends Dto> S toDto(final Supplier<S> factory, final Object... values) {
+		Objects.requireNonNull(factory, "DTO factory cannot be null");
+		final String[] bound = this.bind(values);
+		final List<Queries> filters = new ArrayList<>(this.templates.size());
+		for (final Template template : this.templates) {
+			filters.add(template.toQueries(bound));
+		}
+		final S dto = factory.get();
+		dto.removeFilters();
+		return dto.addFilter(filters);
+	}
+
+	private String[] bind(final Object[] values) {
+		final int given = values == null ? 0 : values.length;
+		if (given != this.slotCount) {
+			throw new IllegalArgumentException(
+					"Expected " + this.slotCount + " bind values but got " + given);
+		}
+		final String[] bound = new String[given];
+		for (final Template template : this.templates) {
+			template.filter.bind(values, bound);
+		}
+		return bound;
+	}
+
+	// -----------------------------
+
+	private record Placeholder(char mark) {
+		@Override
+		public String toString() {
+			return String.valueOf(this.mark);
+		}
+	}
+
+	/**
+	 * A string split around its slots: {@code fragments.length == slots + 1}. A
+	 * {@code null} delimiter marks a single value slot.
+	 */
+	private record Fragments(String[] fragments, int[] slots, String[] delimiters, int literalLength) {
+
+		static Fragments compile(final String text, final int firstSlot) {
+			final List<String> fragments = new ArrayList<>();
+			final List<String> delimiters = new ArrayList<>();
+			int start = 0;
+			int i = 0;
+			while (i < text.length()) {
+				final char c = text.charAt(i);
+				if (c == SLOT_MARK) {
+					fragments.add(text.substring(start, i));
+					delimiters.add(null);
+					start = ++i;
+				} else if (c == LIST_SLOT_MARK) {
+					final int close = text.indexOf(LIST_SLOT_MARK, i + 1);
+					if (close < 0) {
+						throw new IllegalArgumentException("Unbalanced list slot in: " + text);
+					}
+					fragments.add(text.substring(start, i));
+					delimiters.add(text.substring(i + 1, close));
+					start = i = close + 1;
+				} else {
+					i++;
+				}
+			}
+			fragments.add(text.substring(start));
+			final int[] slots = new int[delimiters.size()];
+			for (int s = 0; s < slots.length; s++) {
+				slots[s] = firstSlot + s;
+			}
+			int literal = 0;
+			for (final String fragment : fragments) {
+				literal += fragment.length();
+			}
+			return new Fragments(fragments.toArray(String[]::new), slots, delimiters.toArray(String[]::new),
+					literal);
+		}
+
+		int slotCount() {
+			return this.slots.length;
+		}
+
+		void bind(final Object[] values, final String[] bound) {
+			for (int s = 0; s < this.slots.length; s++) {
+				final int slot = this.slots[s];
+				bound[slot] = format(values[slot], this.delimiters[s]);
+			}
+		}
+
+		String render(final String[] bound) {
+			if (this.slots.length == 0) {
+				return this.fragments[0];
+			}
+			int length = this.literalLength;
+			for (final int slot : this.slots) {
+				length += bound[slot].length();
+			}
+			final StringBuilder sb = new StringBuilder(length);
+			for (int s = 0; s < this.slots.length; s++) {
+				sb.append(this.fragments[s]).append(bound[this.slots[s]]);
+			}
+			return sb.append(this.fragments[this.slots.length]).toString();
+		}
+
+		/**
+		 * Same formatting as {@link Query#formatString()} for single values and
+		 * {@code listFormatting} for collections.
+		 */
+		private static String format(final Object value, final String delimiter) {
+			if (delimiter != null && value instanceof final Collection<?> collection) {
+				final List<String> items = new ArrayList<>(collection.size());
+				for (final Object item : collection) {
+					if (item != null) {
+						items.add(item.toString());
+					}
+				}
+				items.sort(null);
+				return String.join(delimiter, items);
+			}
+			return String.valueOf(value).trim();
+		}
+	}
+
+	/**
+	 * Compiled form of one {@link Queries}: the whole filter string plus, for each
+	 * query holding a slot, its value fragments.
+	 */
+	private record Template(Fragments filter, List<Query> queries, Fragments[] values) {
+
+		static Template compile(final Queries queries, final int firstSlot) {
+			final Fragments filter = Fragments.compile(queries.filtersAsString(), firstSlot);
+			final List<Query> copy = new ArrayList<>(queries.getQueries().size());
+			final Fragments[] values = new Fragments[queries.getQueries().size()];
+			int slot = firstSlot;
+			for (int i = 0; i < values.length; i++) {
+				final Query query = queries.getQueries().get(i);
+				copy.add(Query.from(query.getKey(), query.getOp(), query.getValue()));
+				final Optional<Object> value = query.getValue();
+				if (value != null && value.isPresent()) {
+					final Fragments fragments = Fragments.compile(value.get().toString().trim(), slot);
+					if (fragments.slotCount() > 0) {
+						values[i] = fragments;
+						slot += fragments.slotCount();
+					}
+				}
+			}
+			return new Template(filter, List.copyOf(copy), values);
+		}
+
+		Queries toQueries(final String[] bound) {
+			final List<Query> result = new ArrayList<>(this.queries.size());
+			for (int i = 0; i < this.values.length; i++) {
+				final Query query = this.queries.get(i);
+				result.add(this.values[i] == null
+						? Query.from(query.getKey(), query.getOp(), query.getValue())
+						: Query.from(query.getKey(), query.getOp(), this.values[i].render(bound)));
+			}
+			return new Queries(result, this.filter.render(bound));
+		}
+	}
+
+}
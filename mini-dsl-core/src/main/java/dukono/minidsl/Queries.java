@@ -1,11 +1,19 @@
 package dukono.minidsl;
 
 import com.google.common.collect.Lists;
+import dukono.minidsl.ast.Expression;
+import dukono.minidsl.ast.Expressions;
+import dukono.minidsl.util.Fingerprints;
+import dukono.minidsl.util.Shapes;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.apache.commons.collections4.CollectionUtils;
 
 import java.util.ArrayList;
@@ -32,21 +40,62 @@ public class Queries implements Comparable<Queries> {
 	private transient String cachedFilterString;
 	private transient int cachedHashCode = 0;
 	private transient boolean hashCodeCached = false;
+	// ⚡ Valores derivados de las queries. Final e inicializado: fuera del builder y del constructor
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	private final transient Memo memo = new Memo();
+
+	/**
+	 * Values derived from the queries, dropped when they change. Each one is a
+	 * single reference to an immutable value, so a thread reading it sees the
+	 * whole value or null, never half of it.
+	 */
+	private static final class Memo {
+		private Long fingerprint;
+		// Clave de orden: los 8 primeros caracteres Latin-1 del filtro, comparados sin signo
+		private Long sortPrefix;
+		private Expression expression;
+		// Forma y el ListArity con que se calculó
+		private Shape shape;
+
+		void clear() {
+			this.fingerprint = null;
+			this.sortPrefix = null;
+			this.expression = null;
+			this.shape = null;
+		}
+	}
+
+	private record Shape(ListArity arity, long fingerprint) {
+	}
 
 	Queries(final List<Query> queries) {
 		this.queries = queries;
 	}
+
+	/**
+	 * Builds a Queries whose filter string is already known (e.g. rendered from a
+	 * {@link PreparedFilter}), so it is not rendered again on sort or compare.
+	 */
+	Queries(final List<Query> queries, final String filterString) {
+		this.queries = queries;
+		this.cachedFilterString = filterString;
+	}
 	public void add(final Query filter) {
 		Optional.ofNullable(filter).ifPresent(s -> {
+			final Shape shape = this.memo.shape;
 			this.getQueries().add(s);
 			this.invalidateCache();
+			this.extendShape(shape, s);
 		});
 	}
 
 	public void addAll(final Queries filter) {
 		Optional.ofNullable(filter).filter(Queries::notEmpty).ifPresent(s -> {
+			final Shape shape = this.memo.shape;
 			this.getQueries().addAll(s.getQueries());
 			this.invalidateCache();
+			this.extendShape(shape, s.getQueries());
 		});
 	}
 
@@ -63,8 +112,10 @@ public class Queries implements Comparable<Queries> {
 
 	public void addLast(final Query filter) {
 		Optional.ofNullable(filter).ifPresent(s -> {
+			final Shape shape = this.memo.shape;
 			this.queries.addLast(s);
 			this.invalidateCache();
+			this.extendShape(shape, s);
 		});
 	}
 
@@ -135,8 +186,11 @@ public class Queries implements Comparable<Queries> {
 		return v.stream().map(Query::formatString).collect(Collectors.joining(" "));
 	}
 
+	/**
+	 * @return the rendered filter, cached until the queries change
+	 */
 	public String filtersAsString() {
-		return this.getQueries().stream().map(Query::formatString).collect(Collectors.joining(" "));
+		return this.getCachedFilterString();
 	}
 
 	public List<Queries> toList() {
@@ -157,6 +211,124 @@ public class Queries implements Comparable<Queries> {
 		this.cachedFilterString = null;
 		this.hashCodeCached = false;
 		this.cachedHashCode = 0;
+		this.memo.clear();
+	}
+
+	/**
+	 * ⚡ Appending keeps the shape: it is extended with the new queries instead of
+	 * recomputed, so an anchor adding query by query never walks the filter again.
+	 */
+	private void extendShape(final Shape previous, final Query added) {
+		if (previous != null) {
+			this.memo.shape = new Shape(previous.arity(),
+					Fingerprints.combine(previous.fingerprint(), Shapes.atom(added, previous.arity())));
+		}
+	}
+
+	private void extendShape(final Shape previous, final List<Query> added) {
+		if (previous != null) {
+			long fingerprint = previous.fingerprint();
+			for (final Query q : added) {
+				fingerprint = Fingerprints.combine(fingerprint, Shapes.atom(q, previous.arity()));
+			}
+			this.memo.shape = new Shape(previous.arity(), fingerprint);
+		}
+	}
+
+	/**
+	 * Expression tree of these queries, built on first use and cached until they
+	 * change. {@link Expression#tokens()} gives back the same tokens.
+	 * 
+	 * @return the tree, empty when there are no queries
+	 * @throws IllegalArgumentException
+	 *             when the tokens do not form a valid expression
+	 */
+	public Optional<Expression> toExpression() {
+		Expression expression = this.memo.expression;
+		if (expression == null) {
+			expression = Expressions.of(this.getQueries()).orElse(null);
+			this.memo.expression = expression;
+		}
+		return Optional.ofNullable(expression);
+	}
+
+	/**
+	 * 64-bit fingerprint of the rendered filter, cached until the queries change.
+	 * Two Queries with the same filter string have the same fingerprint.
+	 * 
+	 * @return content fingerprint
+	 */
+	public long fingerprint() {
+		Long fingerprint = this.memo.fingerprint;
+		if (fingerprint == null) {
+			fingerprint = Fingerprints.hash64(this.getCachedFilterString());
+			this.memo.fingerprint = fingerprint;
+		}
+		return fingerprint;
+	}
+
+	/**
+	 * Shape fingerprint, every value counted as a single value. See
+	 * {@link #shapeFingerprint(ListArity)}.
+	 */
+	public long shapeFingerprint() {
+		return this.shapeFingerprint(ListArity.NONE);
+	}
+
+	/**
+	 * 64-bit fingerprint of the structure of these queries: keys, operators,
+	 * parentheses, logical operators and list arity buckets, not the values. Two
+	 * filters that only differ in their values have the same shape; the values
+	 * are given apart by {@link #shapeValues()}.
+	 *
+	 * Cached for the last {@code arity} used and extended, not recomputed, when
+	 * queries are appended.
+	 *
+	 * @param arity
+	 *            list arity of the domain, see {@link ListArity}
+	 * @return shape fingerprint
+	 * @see Shapes
+	 */
+	public long shapeFingerprint(final ListArity arity) {
+		final Shape shape = this.memo.shape;
+		if (shape != null && shape.arity() == arity) {
+			return shape.fingerprint();
+		}
+		long fingerprint = Shapes.SEED;
+		for (final Query q : this.getQueries()) {
+			fingerprint = Fingerprints.combine(fingerprint, Shapes.atom(q, arity));
+		}
+		this.memo.shape = new Shape(arity, fingerprint);
+		return fingerprint;
+	}
+
+	/**
+	 * @return the values left out of the shape, in query order: one entry per
+	 *         query with a value, a list as its rendered value
+	 */
+	public List<Object> shapeValues() {
+		final List<Object> values = new ArrayList<>();
+		for (final Query q : this.getQueries()) {
+			if (q.getValue() != null) {
+				q.getValue().ifPresent(values::add);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Deep copy: the Query instances are copied too, so mutating the copy never
+	 * affects this instance.
+	 */
+	Queries copy() {
+		final List<Query> copied = new ArrayList<>(this.getQueries().size());
+		for (final Query q : this.getQueries()) {
+			copied.add(Query.from(q.getKey(), q.getOp(), q.getValue()));
+		}
+		final Queries copy = new Queries(copied, this.cachedFilterString);
+		// Misma estructura: la forma sigue valiendo
+		copy.memo.shape = this.memo.shape;
+		return copy;
 	}
 
 	/**
@@ -168,15 +340,53 @@ public class Queries implements Comparable<Queries> {
 	 */
 	private String getCachedFilterString() {
 		if (this.cachedFilterString == null) {
-			this.cachedFilterString = this.filtersAsString();
+			this.cachedFilterString = this.filtersAsString(this.getQueries());
 		}
 		return this.cachedFilterString;
 	}
 
+	/**
+	 * Orders by the rendered filter string. The packed prefix of each side
+	 * decides most comparisons with one primitive compare; only filters sharing
+	 * their first 8 characters compare the strings.
+	 */
 	@Override
 	public int compareTo(final Queries o) {
+		if (this == o) {
+			return 0;
+		}
+		final int prefix = Long.compareUnsigned(this.sortPrefix(), o.sortPrefix());
+		return prefix != 0 ? prefix : this.getCachedFilterString().compareTo(o.getCachedFilterString());
+	}
+
+	long sortPrefix() {
+		Long prefix = this.memo.sortPrefix;
+		if (prefix == null) {
+			prefix = sortPrefix(this.getCachedFilterString());
+			this.memo.sortPrefix = prefix;
+		}
+		return prefix;
+	}
 
-		return this.getCachedFilterString().compareTo(o.getCachedFilterString());
+	/**
+	 * Packs the first 8 characters, one byte each, so that comparing two
+	 * prefixes unsigned agrees with {@link String#compareTo} whenever they
+	 * differ. Missing characters are 0. A character above Latin-1 is stored as
+	 * 0xFF and ends the prefix: from there on two prefixes can only tie, and
+	 * ties fall back to the strings.
+	 */
+	static long sortPrefix(final String s) {
+		long prefix = 0L;
+		final int length = Math.min(s.length(), Long.BYTES);
+		for (int i = 0; i < length; i++) {
+			final char c = s.charAt(i);
+			if (c >= 0xFF) {
+				prefix |= 0xFFL << (Long.SIZE - Byte.SIZE * (i + 1));
+				break;
+			}
+			prefix |= (long) c << (Long.SIZE - Byte.SIZE * (i + 1));
+		}
+		return prefix;
 	}
 
 	@Override
@@ -193,10 +403,10 @@ public class Queries implements Comparable<Queries> {
 		if (this == obj) {
 			return true;
 		}
-		if (obj == null || this.getClass() != obj.getClass()) {
+		// instanceof: un filtro congelado es igual al original que lo rinde igual
+		if (!(obj instanceof final Queries other)) {
 			return false;
 		}
-		final Queries other = (Queries) obj;
 		return this.getCachedFilterString().equals(other.getCachedFilterString());
 	}
 
@@ -6,7 +6,6 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -29,7 +28,7 @@ public class Query implements Comparable<Query> {
 	@Data
 	@lombok.AllArgsConstructor(access = lombok.AccessLevel.PUBLIC)
 	@lombok.NoArgsConstructor
-	public static class ParseConfig {
+	public static class ParseConfig implements QueryParser.TokenClassifier {
 		/**
 		 * Operators that require a value (e.g., "eq", "like", "gt").
 		 */
@@ -78,6 +77,26 @@ public class Query implements Comparable<Query> {
 			}
 			return this.validFields.stream().anyMatch(v -> v.equalsIgnoreCase(fieldName));
 		}
+
+		@Override
+		public String logical(final String token) {
+			return this.isLogicalOperator(token) ? token : null;
+		}
+
+		@Override
+		public String field(final String token) {
+			return this.isValidField(token) ? token : null;
+		}
+
+		@Override
+		public String valueOperator(final String token) {
+			return this.isValueOperator(token) ? token : null;
+		}
+
+		@Override
+		public String noValueOperator(final String token) {
+			return this.isNoValueOperator(token) ? token : null;
+		}
 	}
 
 	public static final Query OR = Query.from("or");
@@ -134,9 +153,32 @@ public class Query implements Comparable<Query> {
 		return new Query(null, op, Optional.empty());
 	}
 
+	/**
+	 * Same order as comparing {@link #toCompare()}, without building the
+	 * strings: key and value are walked as one text.
+	 */
 	@Override
 	public int compareTo(final Query o) {
-		return this.toCompare().compareTo(o.toCompare());
+		final String key = ObjectUtils.defaultIfNull(this.getKey(), "");
+		final String value = valueText(this);
+		final String otherKey = ObjectUtils.defaultIfNull(o.getKey(), "");
+		final String otherValue = valueText(o);
+		final int length = key.length() + value.length();
+		final int otherLength = otherKey.length() + otherValue.length();
+		final int common = Math.min(length, otherLength);
+		for (int i = 0; i < common; i++) {
+			final char c = i < key.length() ? key.charAt(i) : value.charAt(i - key.length());
+			final char other = i < otherKey.length() ? otherKey.charAt(i) : otherValue.charAt(i - otherKey.length());
+			if (c != other) {
+				return c - other;
+			}
+		}
+		return length - otherLength;
+	}
+
+	private static String valueText(final Query query) {
+		final Object value = query.getValue().orElse("");
+		return value instanceof final String text ? text : String.valueOf(value);
 	}
 
 	public String toCompare() {
@@ -154,101 +196,7 @@ public class Query implements Comparable<Query> {
 	 * @return List of parsed Query objects
 	 */
 	public static List<Query> parseQueries(final String input, final ParseConfig config) {
-		final List<Query> result = new ArrayList<>();
-		if (input == null || input.isBlank()) {
-			return result;
-		}
-		// Normalizar espacios alrededor de paréntesis para tokenización limpia
-		final String normalized = input.trim().replace("(", " ( ").replace(")", " ) ").replaceAll("\\s+", " ").trim();
-		final String[] tokens = normalized.split(" ");
-		int i = 0;
-		while (i < tokens.length) {
-			final String token = tokens[i];
-			// Operadores lógicos y paréntesis como tokens independientes
-			if (config.isLogicalOperator(token)) {
-				result.add(Query.from(token));
-				i++;
-				continue;
-			}
-			if (token.equals("(")) {
-				result.add(OPEN);
-				i++;
-				continue;
-			}
-			if (token.equals(")")) {
-				result.add(CLOSE);
-				i++;
-				continue;
-			}
-			// token se interpreta como clave potencial
-			final String key = token;
-
-			// Validar si el campo es válido según la configuración
-			if (!config.isValidField(key)) {
-				// Campo no válido, saltar este token
-				i++;
-				continue;
-			}
-
-			// Mirar siguiente token como posible operador
-			if (i + 1 < tokens.length) {
-				final String maybeOp = tokens[i + 1];
-				// Parada si el siguiente es lógico o paréntesis: solo clave (justAdd)
-				if (config.isLogicalOperator(maybeOp) || maybeOp.equals("(") || maybeOp.equals(")")) {
-					result.add(new Query(key, null, Optional.empty()));
-					i++;
-					continue;
-				}
-				// Operadores que NO requieren valor
-				if (config.isNoValueOperator(maybeOp)) {
-					result.add(Query.from(key, maybeOp, Optional.empty()));
-					i += 2;
-					continue;
-				}
-				// Operadores que requieren valor
-				if (config.isValueOperator(maybeOp)) {
-					if (i + 2 < tokens.length) {
-						final String valueToken = tokens[i + 2];
-						result.add(Query.from(key, maybeOp, valueToken));
-						i += 3;
-						continue;
-					} else {
-						// No hay valor suficiente, se agrega la clave sola para no perder contexto
-						result.add(new Query(key, null, Optional.empty()));
-						i++;
-						continue;
-					}
-				}
-				// Si allowUnknownOperators está activado, tratar el siguiente token como
-				// operador
-				// y buscar un valor
-				if (config.isAllowUnknownOperators()) {
-					// Asumir que maybeOp es un operador personalizado
-					if (i + 2 < tokens.length) {
-						final String valueToken = tokens[i + 2];
-						// Verificar que el valueToken no sea un operador lógico o paréntesis
-						if (!config.isLogicalOperator(valueToken) && !valueToken.equals("(")
-								&& !valueToken.equals(")")) {
-							result.add(Query.from(key, maybeOp, valueToken));
-							i += 3;
-							continue;
-						}
-					}
-					// Si no hay valor válido, tratar como operador sin valor (tipo NO_OP_WITH_ARG)
-					result.add(Query.from(key, null, maybeOp));
-					i += 2;
-					continue;
-				}
-				// Si no es operador reconocido y allowUnknownOperators es false,
-				// ignorar este campo y el operador inválido
-				i += 2;
-			} else {
-				// Último token sin pareja
-				result.add(new Query(key, null, Optional.empty()));
-				i++;
-			}
-		}
-		return result;
+		return QueryParser.parse(input, config);
 	}
 
 	private static boolean equalsAnyIgnoreCase(final String token, final String... values) {
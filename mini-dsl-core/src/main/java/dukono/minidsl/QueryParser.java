@@ -0,0 +1,247 @@
+package dukono.minidsl;
+
+import dukono.minidsl.jfr.DslEvents;
+import dukono.minidsl.jfr.ParseEvent;
+import dukono.minidsl.metrics.Metric;
+import dukono.minidsl.metrics.Metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Single pass tokenizer and parse loop behind {@link Query#parseQueries}.
+ *
+ * The grammar is fixed; what is a field, an operator or a logical operator is
+ * decided by a {@link TokenClassifier}. {@link Query.ParseConfig} is the
+ * generic one, generated domains with {@code generateParser = true} get a
+ * classifier with the tokens compiled into switches.
+ */
+public final class QueryParser {
+
+	private QueryParser() {
+	}
+
+	/**
+	 * Decides the role of a token. Each method returns the string to store in the
+	 * {@link Query}, or {@code null} when the token does not have that role.
+	 * Matching is case insensitive; implementations may return an interned
+	 * constant when the token is equal to it.
+	 */
+	public interface TokenClassifier {
+
+		String logical(String token);
+
+		String field(String token);
+
+		String valueOperator(String token);
+
+		String noValueOperator(String token);
+
+		boolean isAllowUnknownOperators();
+	}
+
+	/**
+	 * Splits on whitespace and around parentheses, same tokens as normalizing the
+	 * spaces and splitting on {@code " "}, without regex nor intermediate strings.
+	 *
+	 * @param input
+	 *            query string
+	 * @return the tokens, empty for blank input
+	 */
+	public static List<String> tokenize(final String input) {
+		final List<String> tokens = new ArrayList<>();
+		if (input == null) {
+			return tokens;
+		}
+		final int length = input.length();
+		int start = -1;
+		for (int i = 0; i < length; i++) {
+			final char c = input.charAt(i);
+			if (isSeparator(c)) {
+				if (start >= 0) {
+					tokens.add(input.substring(start, i));
+					start = -1;
+				}
+			} else if (c == '(' || c == ')') {
+				if (start >= 0) {
+					tokens.add(input.substring(start, i));
+					start = -1;
+				}
+				tokens.add(c == '(' ? "(" : ")");
+			} else if (start < 0) {
+				start = i;
+			}
+		}
+		if (start >= 0) {
+			tokens.add(input.substring(start));
+		}
+		return tokens;
+	}
+
+	/**
+	 * The tokens of {@link #tokenize(String)} joined by a single space: the text
+	 * {@link Queries#filtersAsString()} renders for a well-formed input.
+	 *
+	 * @param input
+	 *            query string
+	 * @return normalized query string, empty for blank input
+	 */
+	public static String normalize(final String input) {
+		if (input == null) {
+			return "";
+		}
+		final int length = input.length();
+		final StringBuilder sb = new StringBuilder(length + 8);
+		boolean pendingSpace = false;
+		for (int i = 0; i < length; i++) {
+			final char c = input.charAt(i);
+			if (isSeparator(c)) {
+				pendingSpace = true;
+			} else {
+				final boolean paren = c == '(' || c == ')';
+				if ((pendingSpace || paren) && !sb.isEmpty()) {
+					sb.append(' ');
+				}
+				sb.append(c);
+				// Tras un paréntesis siempre empieza un token nuevo
+				pendingSpace = paren;
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Parses a query string with the given classifier.
+	 *
+	 * @param input
+	 *            query string
+	 * @param classifier
+	 *            token roles of the domain
+	 * @return parsed queries
+	 */
+	public static List<Query> parse(final String input, final TokenClassifier classifier) {
+		if (input == null || input.isBlank()) {
+			return new ArrayList<>();
+		}
+		final ParseEvent event = new ParseEvent();
+		event.begin();
+		final long start = Metrics.start();
+		final List<String> tokens = tokenize(input);
+		final List<Query> queries = parseTokens(tokens, classifier);
+		if (Metrics.ENABLED) {
+			Metrics.stop(Metric.PARSE_TIME, start);
+			Metrics.record(Metric.PARSE_TOKENS, tokens.size());
+		}
+		if (event.shouldCommit()) {
+			event.domain = DslEvents.domain(classifier.getClass());
+			event.inputLength = input.length();
+			event.tokens = tokens.size();
+			event.atoms = queries.size();
+			event.commit();
+		}
+		return queries;
+	}
+
+	/**
+	 * Parse loop over already split tokens.
+	 */
+	static List<Query> parseTokens(final List<String> tokens, final TokenClassifier classifier) {
+		final List<Query> result = new ArrayList<>();
+		final int size = tokens.size();
+		int i = 0;
+		while (i < size) {
+			final String token = tokens.get(i);
+			// Operadores lógicos y paréntesis como tokens independientes
+			final String logical = classifier.logical(token);
+			if (logical != null) {
+				result.add(Query.from(logical));
+				i++;
+				continue;
+			}
+			if (isOpen(token)) {
+				result.add(Query.OPEN);
+				i++;
+				continue;
+			}
+			if (isClose(token)) {
+				result.add(Query.CLOSE);
+				i++;
+				continue;
+			}
+			// token se interpreta como clave potencial
+			final String key = classifier.field(token);
+			if (key == null) {
+				// Campo no válido, saltar este token
+				i++;
+				continue;
+			}
+			if (i + 1 >= size) {
+				// Último token sin pareja
+				result.add(new Query(key, null, Optional.empty()));
+				i++;
+				continue;
+			}
+			final String maybeOp = tokens.get(i + 1);
+			// Parada si el siguiente es lógico o paréntesis: solo clave (justAdd)
+			if (classifier.logical(maybeOp) != null || isOpen(maybeOp) || isClose(maybeOp)) {
+				result.add(new Query(key, null, Optional.empty()));
+				i++;
+				continue;
+			}
+			// Operadores que NO requieren valor
+			final String noValueOp = classifier.noValueOperator(maybeOp);
+			if (noValueOp != null) {
+				result.add(Query.from(key, noValueOp, Optional.empty()));
+				i += 2;
+				continue;
+			}
+			// Operadores que requieren valor
+			final String valueOp = classifier.valueOperator(maybeOp);
+			if (valueOp != null) {
+				if (i + 2 < size) {
+					result.add(Query.from(key, valueOp, tokens.get(i + 2)));
+					i += 3;
+				} else {
+					// No hay valor suficiente, se agrega la clave sola para no perder contexto
+					result.add(new Query(key, null, Optional.empty()));
+					i++;
+				}
+				continue;
+			}
+			if (classifier.isAllowUnknownOperators()) {
+				// Asumir que maybeOp es un operador personalizado
+				if (i + 2 < size) {
+					final String valueToken = tokens.get(i + 2);
+					if (classifier.logical(valueToken) == null && !isOpen(valueToken) && !isClose(valueToken)) {
+						result.add(Query.from(key, maybeOp, valueToken));
+						i += 3;
+						continue;
+					}
+				}
+				// Si no hay valor válido, tratar como operador sin valor (tipo NO_OP_WITH_ARG)
+				result.add(Query.from(key, null, maybeOp));
+				i += 2;
+				continue;
+			}
+			// Operador no reconocido: ignorar el campo y el operador inválido
+			i += 2;
+		}
+		return result;
+	}
+
+	private static boolean isOpen(final String token) {
+		return token.length() == 1 && token.charAt(0) == '(';
+	}
+
+	private static boolean isClose(final String token) {
+		return token.length() == 1 && token.charAt(0) == ')';
+	}
+
+	/**
+	 * Same characters as {@code \s} in a regex.
+	 */
+	static boolean isSeparator(final int c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+}
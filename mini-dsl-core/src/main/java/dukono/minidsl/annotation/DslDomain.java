@@ -214,4 +214,16 @@ public @interface DslDomain {
 	 */
 	Class<?> dtoClass() default void.class;
 
+	/**
+	 * Whether to generate a domain specific parser. When enabled the Api gets a
+	 * nested {@code Parser} that classifies fields and operators with switches on
+	 * the token length and characters, compiled from the known fields and
+	 * operations, instead of looking them up in a ParseConfig for every token.
+	 * 
+	 * {@code XxxApi.parse(...)} and {@code XxxApi.from(Collection)} use it.
+	 * 
+	 * @return true to generate the specialized parser
+	 */
+	boolean generateParser() default false;
+
 }
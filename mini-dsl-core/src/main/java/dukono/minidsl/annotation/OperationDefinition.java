@@ -92,4 +92,16 @@ public interface OperationDefinition {
 	default String getListBrackets() {
 		return "";
 	}
+
+	/**
+	 * For WITH_ARG operations, the operator of the WITH_LIST operation that an OR
+	 * of this operation over the same field is equivalent to (e.g. "in" for "eq").
+	 * When set, collapsing a list with OR emits a single list atom instead of N
+	 * atoms joined by "or".
+	 * 
+	 * @return the list operator, or null (default) to disable the compaction
+	 */
+	default String getListOperator() {
+		return null;
+	}
 }
@@ -0,0 +1,50 @@
+package dukono.minidsl.ast;
+
+import dukono.minidsl.Query;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A single condition, e.g. {@code status eq NEW}.
+ */
+public final class Atom implements Expression {
+
+	private final Query query;
+
+	private final Set<String> fields;
+
+	public Atom(final Query query) {
+		this.query = query;
+		this.fields = query.getKey() == null ? Set.of() : Set.of(query.getKey());
+	}
+
+	public Query getQuery() {
+		return this.query;
+	}
+
+	@Override
+	public int depth() {
+		return 1;
+	}
+
+	@Override
+	public int atomCount() {
+		return 1;
+	}
+
+	@Override
+	public Set<String> fields() {
+		return this.fields;
+	}
+
+	@Override
+	public void appendTo(final List<Query> tokens) {
+		tokens.add(this.query);
+	}
+
+	@Override
+	public String toString() {
+		return this.query.formatString();
+	}
+}
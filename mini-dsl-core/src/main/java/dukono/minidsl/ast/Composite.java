@@ -0,0 +1,61 @@
+package dukono.minidsl.ast;
+
+import dukono.minidsl.Query;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Children and cached facts shared by the n-ary nodes. {@code operators} holds
+ * the token between each pair of children, empty for {@link Seq}.
+ */
+final class Composite {
+
+	final List<Expression> operands;
+
+	final List<Query> operators;
+
+	final int depth;
+
+	final int atomCount;
+
+	final Set<String> fields;
+
+	Composite(final List<Expression> operands, final List<Query> operators, final boolean withOperators) {
+		if (operands.size() < 2) {
+			throw new IllegalArgumentException("Expected at least 2 operands but got " + operands.size());
+		}
+		final int expected = withOperators ? operands.size() - 1 : 0;
+		if (operators.size() != expected) {
+			throw new IllegalArgumentException("Expected " + expected + " operators but got " + operators.size());
+		}
+		this.operands = List.copyOf(operands);
+		this.operators = List.copyOf(operators);
+		int maxDepth = 0;
+		int atoms = 0;
+		final Set<String> keys = new LinkedHashSet<>();
+		for (final Expression operand : this.operands) {
+			maxDepth = Math.max(maxDepth, operand.depth());
+			atoms += operand.atomCount();
+			keys.addAll(operand.fields());
+		}
+		this.depth = maxDepth + 1;
+		this.atomCount = atoms;
+		this.fields = Collections.unmodifiableSet(keys);
+	}
+
+	void appendTo(final List<Query> tokens) {
+		for (int i = 0; i < this.operands.size(); i++) {
+			if (i > 0 && !this.operators.isEmpty()) {
+				tokens.add(this.operators.get(i - 1));
+			}
+			this.operands.get(i).appendTo(tokens);
+		}
+	}
+
+	String toString(final String name) {
+		return name + this.operands;
+	}
+}
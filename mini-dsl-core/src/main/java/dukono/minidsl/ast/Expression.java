@@ -0,0 +1,57 @@
+package dukono.minidsl.ast;
+
+import dukono.minidsl.Queries;
+import dukono.minidsl.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Node of the expression tree of a filter: {@link Atom} for a condition,
+ * {@link And}, {@link Or}, {@link Not}, {@link Group} for parentheses and
+ * {@link Seq} for conditions written side by side without operator.
+ *
+ * Nodes are immutable and keep the original {@link Query} tokens, including
+ * the operators and parentheses, so {@link #tokens()} gives back exactly the
+ * flat list the tree was built from. Depth, atom count and referenced fields
+ * are computed once when the node is built.
+ */
+public sealed interface Expression permits Atom, And, Or, Not, Group, Seq {
+
+	/**
+	 * @return logical nesting depth; an atom is 1, parentheses add nothing
+	 */
+	int depth();
+
+	/**
+	 * @return number of atoms under this node
+	 */
+	int atomCount();
+
+	/**
+	 * @return keys of the atoms under this node, in first appearance order
+	 */
+	Set<String> fields();
+
+	/**
+	 * Appends the flat tokens of this node, in order.
+	 */
+	void appendTo(List<Query> tokens);
+
+	/**
+	 * @return the flat tokens this node was built from
+	 */
+	default List<Query> tokens() {
+		final List<Query> tokens = new ArrayList<>();
+		this.appendTo(tokens);
+		return tokens;
+	}
+
+	/**
+	 * @return a new Queries holding {@link #tokens()}
+	 */
+	default Queries toQueries() {
+		return Queries.builder().queries(this.tokens()).build();
+	}
+}
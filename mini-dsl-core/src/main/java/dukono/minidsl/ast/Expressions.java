@@ -0,0 +1,160 @@
+package dukono.minidsl.ast;
+
+import dukono.minidsl.Queries;
+import dukono.minidsl.Query;
+import dukono.minidsl.QueryParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds {@link Expression} trees from the flat token lists of {@link Queries}.
+ *
+ * Precedence, from tighter to looser: parentheses, {@code not}, side by side
+ * operands ({@link Seq}), {@code and}, {@code or}. Chains of the same operator
+ * become a single n-ary node. Logical operators and parentheses are recognized
+ * case insensitively among the queries with no key, like the parser emits
+ * them.
+ */
+public final class Expressions {
+
+	private Expressions() {
+	}
+
+	/**
+	 * @param tokens
+	 *            flat tokens, as in {@link Queries#getQueries()}
+	 * @return the tree, empty when there are no tokens
+	 * @throws IllegalArgumentException
+	 *             when parentheses are unbalanced or an operator has no operand
+	 */
+	public static Optional<Expression> of(final List<Query> tokens) {
+		if (tokens == null || tokens.isEmpty()) {
+			return Optional.empty();
+		}
+		final Builder builder = new Builder(tokens);
+		final Expression expression = builder.or();
+		if (builder.position < tokens.size()) {
+			throw builder.unexpected();
+		}
+		return Optional.of(expression);
+	}
+
+	/**
+	 * Parses the input and builds its tree in one step.
+	 */
+	public static Optional<Expression> parse(final String input, final QueryParser.TokenClassifier classifier) {
+		return of(QueryParser.parse(input, classifier));
+	}
+
+	// -----------------------------
+
+	private enum Kind {
+		AND, OR, NOT, OPEN, CLOSE, ATOM
+	}
+
+	private static Kind kind(final Query query) {
+		if (query.getKey() != null || query.getOp() == null) {
+			return Kind.ATOM;
+		}
+		final String op = query.getOp();
+		if (op.equalsIgnoreCase("and")) {
+			return Kind.AND;
+		}
+		if (op.equalsIgnoreCase("or")) {
+			return Kind.OR;
+		}
+		if (op.equalsIgnoreCase("not")) {
+			return Kind.NOT;
+		}
+		if (op.equals("(")) {
+			return Kind.OPEN;
+		}
+		return op.equals(")") ? Kind.CLOSE : Kind.ATOM;
+	}
+
+	/**
+	 * Recursive descent over the token list, one method per precedence level.
+	 */
+	private static final class Builder {
+
+		private final List<Query> tokens;
+
+		private int position;
+
+		Builder(final List<Query> tokens) {
+			this.tokens = tokens;
+		}
+
+		Expression or() {
+			return this.chain(Kind.OR);
+		}
+
+		private Expression chain(final Kind operator) {
+			final Expression first = operator == Kind.OR ? this.chain(Kind.AND) : this.seq();
+			if (this.peek() != operator) {
+				return first;
+			}
+			final List<Expression> operands = new ArrayList<>();
+			final List<Query> operators = new ArrayList<>();
+			operands.add(first);
+			while (this.peek() == operator) {
+				operators.add(this.tokens.get(this.position++));
+				operands.add(operator == Kind.OR ? this.chain(Kind.AND) : this.seq());
+			}
+			return operator == Kind.OR ? new Or(operands, operators) : new And(operands, operators);
+		}
+
+		private Expression seq() {
+			final Expression first = this.unary();
+			if (!this.startsOperand()) {
+				return first;
+			}
+			final List<Expression> operands = new ArrayList<>();
+			operands.add(first);
+			while (this.startsOperand()) {
+				operands.add(this.unary());
+			}
+			return new Seq(operands);
+		}
+
+		private Expression unary() {
+			final Kind kind = this.peek();
+			if (kind == Kind.NOT) {
+				final Query operator = this.tokens.get(this.position++);
+				return new Not(operator, this.unary());
+			}
+			if (kind == Kind.OPEN) {
+				final Query open = this.tokens.get(this.position++);
+				final Expression inner = this.or();
+				if (this.peek() != Kind.CLOSE) {
+					throw this.position < this.tokens.size()
+							? this.unexpected()
+							: new IllegalArgumentException("Unbalanced parenthesis: missing ')'");
+				}
+				return new Group(open, inner, this.tokens.get(this.position++));
+			}
+			if (kind == Kind.ATOM) {
+				return new Atom(this.tokens.get(this.position++));
+			}
+			throw this.position < this.tokens.size()
+					? this.unexpected()
+					: new IllegalArgumentException("Expected an operand at the end of the filter");
+		}
+
+		private boolean startsOperand() {
+			final Kind kind = this.peek();
+			return kind == Kind.ATOM || kind == Kind.NOT || kind == Kind.OPEN;
+		}
+
+		private Kind peek() {
+			return this.position < this.tokens.size() ? kind(this.tokens.get(this.position)) : null;
+		}
+
+		IllegalArgumentException unexpected() {
+			return new IllegalArgumentException("Unexpected '" + this.tokens.get(this.position).formatString()
+					+ "' at token " + this.position);
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package dukono.minidsl.ast;
+
+import dukono.minidsl.Query;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A parenthesized expression. Kept as a node so the parentheses survive the
+ * round trip; it adds no logical depth.
+ */
+public final class Group implements Expression {
+
+	private final Query open;
+
+	private final Expression inner;
+
+	private final Query close;
+
+	public Group(final Query open, final Expression inner, final Query close) {
+		this.open = open;
+		this.inner = inner;
+		this.close = close;
+	}
+
+	public Expression getInner() {
+		return this.inner;
+	}
+
+	@Override
+	public int depth() {
+		return this.inner.depth();
+	}
+
+	@Override
+	public int atomCount() {
+		return this.inner.atomCount();
+	}
+
+	@Override
+	public Set<String> fields() {
+		return this.inner.fields();
+	}
+
+	@Override
+	public void appendTo(final List<Query> tokens) {
+		tokens.add(this.open);
+		this.inner.appendTo(tokens);
+		tokens.add(this.close);
+	}
+
+	@Override
+	public String toString() {
+		return "(" + this.inner + ")";
+	}
+}
@@ -0,0 +1,56 @@
+package dukono.minidsl.ast;
+
+import dukono.minidsl.Query;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Negation of its operand. Only built when {@code not} is one of the logical
+ * operators of the domain.
+ */
+public final class Not implements Expression {
+
+	private final Query operator;
+
+	private final Expression operand;
+
+	public Not(final Query operator, final Expression operand) {
+		this.operator = operator;
+		this.operand = operand;
+	}
+
+	public Query getOperator() {
+		return this.operator;
+	}
+
+	public Expression getOperand() {
+		return this.operand;
+	}
+
+	@Override
+	public int depth() {
+		return this.operand.depth() + 1;
+	}
+
+	@Override
+	public int atomCount() {
+		return this.operand.atomCount();
+	}
+
+	@Override
+	public Set<String> fields() {
+		return this.operand.fields();
+	}
+
+	@Override
+	public void appendTo(final List<Query> tokens) {
+		tokens.add(this.operator);
+		this.operand.appendTo(tokens);
+	}
+
+	@Override
+	public String toString() {
+		return "Not[" + this.operand + "]";
+	}
+}
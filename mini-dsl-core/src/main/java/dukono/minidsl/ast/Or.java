@@ -0,0 +1,52 @@
+package dukono.minidsl.ast;
+
+import dukono.minidsl.Query;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Disjunction of two or more operands, e.g. {@code a or b or c}. The
+ * operator tokens are kept as written.
+ */
+public final class Or implements Expression {
+
+	private final Composite composite;
+
+	public Or(final List<Expression> operands, final List<Query> operators) {
+		this.composite = new Composite(operands, operators, true);
+	}
+
+	public List<Expression> getOperands() {
+		return this.composite.operands;
+	}
+
+	public List<Query> getOperators() {
+		return this.composite.operators;
+	}
+
+	@Override
+	public int depth() {
+		return this.composite.depth;
+	}
+
+	@Override
+	public int atomCount() {
+		return this.composite.atomCount;
+	}
+
+	@Override
+	public Set<String> fields() {
+		return this.composite.fields;
+	}
+
+	@Override
+	public void appendTo(final List<Query> tokens) {
+		this.composite.appendTo(tokens);
+	}
+
+	@Override
+	public String toString() {
+		return this.composite.toString("Or");
+	}
+}
@@ -0,0 +1,48 @@
+package dukono.minidsl.ast;
+
+import dukono.minidsl.Query;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Operands written side by side without a logical operator, e.g. a condition
+ * followed by a group. Binds tighter than {@link And}.
+ */
+public final class Seq implements Expression {
+
+	private final Composite composite;
+
+	public Seq(final List<Expression> operands) {
+		this.composite = new Composite(operands, List.of(), false);
+	}
+
+	public List<Expression> getOperands() {
+		return this.composite.operands;
+	}
+
+	@Override
+	public int depth() {
+		return this.composite.depth;
+	}
+
+	@Override
+	public int atomCount() {
+		return this.composite.atomCount;
+	}
+
+	@Override
+	public Set<String> fields() {
+		return this.composite.fields;
+	}
+
+	@Override
+	public void appendTo(final List<Query> tokens) {
+		this.composite.appendTo(tokens);
+	}
+
+	@Override
+	public String toString() {
+		return this.composite.toString("Seq");
+	}
+}
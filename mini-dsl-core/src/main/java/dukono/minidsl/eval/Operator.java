@@ -0,0 +1,70 @@
+package dukono.minidsl.eval;
+
+import dukono.minidsl.OperationArgMode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * In-memory semantics of one DSL operator: how a field value is tested
+ * against the bound {@link Value}, {@link Values} or nothing.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Operator {
+
+	/**
+	 * Semantics used for operators not configured in the cache.
+	 */
+	static final Map<String, Operator> DEFAULTS = Map.ofEntries(
+			Map.entry("eq", single((actual, value) -> value.matches(actual))),
+			Map.entry("ne", single((actual, value) -> actual != null && !value.matches(actual))),
+			Map.entry("gt", single((actual, value) -> actual != null && value.compare(actual) > 0)),
+			Map.entry("ge", single((actual, value) -> actual != null && value.compare(actual) >= 0)),
+			Map.entry("lt", single((actual, value) -> actual != null && value.compare(actual) < 0)),
+			Map.entry("le", single((actual, value) -> actual != null && value.compare(actual) <= 0)),
+			Map.entry("like", single((actual, value) -> actual != null && actual.toString().contains(value.text()))),
+			Map.entry("in", list((actual, values) -> values.contains(actual))),
+			Map.entry("not_in", list((actual, values) -> actual != null && !values.contains(actual))),
+			Map.entry("is_null", unary(actual -> actual == null)),
+			Map.entry("is_not_null", unary(actual -> actual != null)));
+
+	private final OperationArgMode argMode;
+
+	/**
+	 * Field value and bound argument: a {@link Value}, {@link Values} or
+	 * {@code null} by {@link #argMode}.
+	 */
+	private final BiPredicate<Object, Object> test;
+
+	/**
+	 * Tested against one value, e.g. {@code single((actual, v) -> v.matches(actual))}.
+	 */
+	public static Operator single(final BiPredicate<Object, Value> test) {
+		return new Operator(OperationArgMode.SINGLE, (actual, bound) -> test.test(actual, (Value) bound));
+	}
+
+	/**
+	 * Tested against the values of a list, e.g.
+	 * {@code list((actual, vs) -> vs.contains(actual))}.
+	 */
+	public static Operator list(final BiPredicate<Object, Values> test) {
+		return new Operator(OperationArgMode.LIST, (actual, bound) -> test.test(actual, (Values) bound));
+	}
+
+	/**
+	 * Tested without values, e.g. {@code unary(Objects::isNull)}.
+	 */
+	public static Operator unary(final Predicate<Object> test) {
+		return new Operator(OperationArgMode.NONE, (actual, bound) -> test.test(actual));
+	}
+
+	static Operator defaultFor(final String operator) {
+		return DEFAULTS.get(operator.toLowerCase(Locale.ROOT));
+	}
+}
@@ -0,0 +1,575 @@
+package dukono.minidsl.eval;
+
+import dukono.minidsl.Dto;
+import dukono.minidsl.ListArity;
+import dukono.minidsl.OperationArgMode;
+import dukono.minidsl.Queries;
+import dukono.minidsl.Query;
+import dukono.minidsl.annotation.OperationDefinition;
+import dukono.minidsl.ast.And;
+import dukono.minidsl.ast.Atom;
+import dukono.minidsl.ast.Expression;
+import dukono.minidsl.ast.Group;
+import dukono.minidsl.ast.Not;
+import dukono.minidsl.ast.Or;
+import dukono.minidsl.ast.Seq;
+import dukono.minidsl.jfr.DslEvents;
+import dukono.minidsl.jfr.EvaluationEvent;
+import dukono.minidsl.metrics.Metric;
+import dukono.minidsl.metrics.Metrics;
+import dukono.minidsl.util.DomainRegistry;
+import dukono.minidsl.util.LruCache;
+import dukono.minidsl.util.Shapes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates the filters of a {@link Dto} against in-memory objects.
+ *
+ * Filters are compiled once per {@link Dto#shapeFingerprint(ListArity) shape}
+ * into a template with one slot per condition; a later DTO of the same shape
+ * only parses its values into the slots ({@link Value}, {@link Values}) and
+ * reuses the template. Templates live in a size-bounded {@link LruCache}.
+ *
+ * A template starts interpreted, walking the expression tree of its filters
+ * for each candidate. After {@link Builder#promoteAfter(int) promoteAfter}
+ * reuses it is compiled to a tree of closures specialized by node type, field
+ * and operator, which the JIT inlines as one predicate; one-off shapes never
+ * pay that compilation. The filters of a DTO are combined with {@code and}.
+ * Instances are thread-safe.
+ *
+ * <pre>
+ * PredicateCache&lt;Order&gt; orders = PredicateCache.builder(Order.class, OrderOperationsEnum.class)
+ * 		.field("status", Order::getStatus).field("totalAmount", Order::getTotalAmount).build();
+ * List&lt;Order&gt; matches = orders.filter(dto, allOrders);
+ * </pre>
+ *
+ * @param <T>
+ *            type of the evaluated objects
+ */
+public final class PredicateCache<T> {
+
+	/**
+	 * Key-only conditions ({@code NO_OP_NO_VALUE}) include the field without
+	 * filtering.
+	 */
+	private static final Operator ANY = Operator.unary(actual -> true);
+
+	private final Map<String, Function<? super T, ?>> fields;
+
+	private final Map<String, Operation> operations;
+
+	private final int promoteAfter;
+
+	private final LruCache<Long, Template<T>> templates;
+
+	private record Operation(OperationDefinition definition, Operator operator) {
+	}
+
+	/**
+	 * One query of a template: what the filters must hold at that position for
+	 * the template to apply, and for conditions the operation of its slot.
+	 */
+	private record Step(String key, String op, Operation operation, boolean atom) {
+	}
+
+	/**
+	 * Compiled form of a filter: tests a candidate with the bound slot values.
+	 */
+	@FunctionalInterface
+	private interface Node<T> {
+		boolean test(T candidate, Object[] bound);
+	}
+
+	private PredicateCache(final Map<String, Function<? super T, ?>> fields, final Map<String, Operation> operations,
+			final int promoteAfter, final int maximumSize) {
+		this.fields = fields;
+		this.operations = operations;
+		this.promoteAfter = promoteAfter;
+		this.templates = new LruCache<>("PredicateTemplate", maximumSize);
+	}
+
+	/**
+	 * @param type
+	 *            type of the evaluated objects
+	 * @param operationEnumClass
+	 *            operations of the domain
+	 * @return builder without field accessors
+	 */
+	public static <T> Builder<T> builder(final Class<T> type,
+			final Class<? extends Enum<? extends OperationDefinition>> operationEnumClass) {
+		return new Builder<>(operationEnumClass);
+	}
+
+	/**
+	 * @return predicate for the current filters of the DTO, always true without
+	 *         filters; later changes to the DTO do not affect it
+	 * @throws IllegalArgumentException
+	 *             for fields without accessor, operators without semantics and
+	 *             malformed filters
+	 */
+	public Predicate<T> predicate(final Dto dto) {
+		final Bound<T> bound = this.bind(dto);
+		if (bound == null) {
+			return candidate -> true;
+		}
+		final Node<T> node = bound.template().node();
+		final Object[] values = bound.values();
+		return candidate -> node.test(candidate, values);
+	}
+
+	/**
+	 * Candidates matching the filters of the DTO, in iteration order. Commits an
+	 * {@link EvaluationEvent} when a recording wants it.
+	 */
+	public List<T> filter(final Dto dto, final Collection<? extends T> candidates) {
+		final EvaluationEvent event = new EvaluationEvent();
+		event.begin();
+		final Bound<T> bound = this.bind(dto);
+		final List<T> matches = new ArrayList<>();
+		if (bound == null) {
+			matches.addAll(candidates);
+		} else {
+			final Node<T> node = bound.template().node();
+			final Object[] values = bound.values();
+			for (final T candidate : candidates) {
+				if (node.test(candidate, values)) {
+					matches.add(candidate);
+				}
+			}
+		}
+		if (event.shouldCommit()) {
+			event.domain = DslEvents.domain(dto.getClass());
+			event.atoms = bound == null ? 0 : bound.values().length;
+			event.candidates = candidates.size();
+			event.matches = matches.size();
+			event.commit();
+		}
+		return matches;
+	}
+
+	/**
+	 * @return number of cached templates
+	 */
+	public int templateCount() {
+		return this.templates.size();
+	}
+
+	/**
+	 * @return lookups that found a template for their shape
+	 */
+	public long hits() {
+		return this.templates.hits();
+	}
+
+	/**
+	 * @return lookups that compiled a template
+	 */
+	public long misses() {
+		return this.templates.misses();
+	}
+
+	// -----------------------------
+
+	private record Bound<T>(Template<T> template, Object[] values) {
+	}
+
+	private Bound<T> bind(final Dto dto) {
+		// Orden por forma: la misma plantilla para los mismos filtros en cualquier orden
+		final List<Queries> ordered = dto.filtersByShape(ListArity.NONE);
+		if (ordered.isEmpty()) {
+			return null;
+		}
+		final long shape = Shapes.combine(ordered, ListArity.NONE);
+
+		Template<T> template = this.templates.get(shape);
+		Object[] values = template == null ? null : template.bind(ordered);
+		if (values == null) {
+			// Sin plantilla, o colisión de fingerprint: se compila y se reemplaza
+			Metrics.increment(Metric.PREDICATE_CACHE_MISS);
+			template = this.compile(ordered);
+			values = template.bind(ordered);
+			this.templates.put(shape, template);
+		} else {
+			Metrics.increment(Metric.PREDICATE_CACHE_HIT);
+		}
+		template.used();
+		return new Bound<>(template, values);
+	}
+
+	private Template<T> compile(final List<Queries> filters) {
+		final List<Step> steps = new ArrayList<>();
+		final List<Function<? super T, ?>> accessors = new ArrayList<>();
+		final List<Operator> operators = new ArrayList<>();
+		final Map<Atom, Integer> slots = new IdentityHashMap<>();
+		final Expression[] trees = new Expression[filters.size()];
+		final int[] sizes = new int[filters.size()];
+		for (int f = 0; f < trees.length; f++) {
+			final Queries filter = filters.get(f);
+			trees[f] = filter.toExpression().orElseThrow();
+			sizes[f] = filter.getQueries().size();
+			final Map<Query, Atom> atoms = new IdentityHashMap<>();
+			collectAtoms(trees[f], atoms);
+			for (final Query q : filter.getQueries()) {
+				final Atom atom = atoms.get(q);
+				if (atom == null) {
+					steps.add(new Step(null, lower(q.getOp()), null, false));
+					continue;
+				}
+				if (q.getKey() == null) {
+					throw new IllegalArgumentException("Unexpected token in filter: " + q);
+				}
+				final Function<? super T, ?> accessor = this.fields.get(lower(q.getKey()));
+				if (accessor == null) {
+					throw new IllegalArgumentException("No accessor for field '" + q.getKey() + "'");
+				}
+				final Operation operation;
+				if (q.getOp() == null) {
+					// Sin operador: con valor es igualdad, sin valor no filtra
+					operation = new Operation(null,
+							q.getValue() != null && q.getValue().isPresent() ? Operator.defaultFor("eq") : ANY);
+				} else {
+					operation = this.operations.get(lower(q.getOp()));
+					if (operation == null) {
+						throw new IllegalArgumentException("No semantics for operator '" + q.getOp() + "' in " + q);
+					}
+				}
+				slots.put(atom, accessors.size());
+				accessors.add(accessor);
+				operators.add(operation.operator());
+				steps.add(new Step(lower(q.getKey()), lower(q.getOp()), operation, true));
+			}
+		}
+		return new Template<>(steps.toArray(Step[]::new), sizes, trees, slots, accessors, operators,
+				this.promoteAfter);
+	}
+
+	private static void collectAtoms(final Expression expression, final Map<Query, Atom> atoms) {
+		switch (expression) {
+			case Atom atom -> atoms.put(atom.getQuery(), atom);
+			case And and -> and.getOperands().forEach(operand -> collectAtoms(operand, atoms));
+			case Or or -> or.getOperands().forEach(operand -> collectAtoms(operand, atoms));
+			case Seq seq -> seq.getOperands().forEach(operand -> collectAtoms(operand, atoms));
+			case Not not -> collectAtoms(not.getOperand(), atoms);
+			case Group group -> collectAtoms(group.getInner(), atoms);
+		}
+	}
+
+	private static String value(final Query q) {
+		return q.getValue() == null ? "" : q.getValue().map(Object::toString).map(String::trim).orElse("");
+	}
+
+	private static String lower(final String token) {
+		return token == null ? null : token.toLowerCase(Locale.ROOT);
+	}
+
+	// -----------------------------
+
+	private static final class Template<T> {
+
+		private final Step[] steps;
+
+		private final int[] sizes;
+
+		private final Expression[] trees;
+
+		private final Map<Atom, Integer> slots;
+
+		private final Function<? super T, ?>[] accessors;
+
+		private final BiPredicate<Object, Object>[] tests;
+
+		private final int promoteAfter;
+
+		private final AtomicInteger uses = new AtomicInteger();
+
+		private final Node<T> interpreted = this::interpret;
+
+		private volatile Node<T> compiled;
+
+		@SuppressWarnings("unchecked")
+		Template(final Step[] steps, final int[] sizes, final Expression[] trees, final Map<Atom, Integer> slots,
+				final List<Function<? super T, ?>> accessors, final List<Operator> operators, final int promoteAfter) {
+			this.steps = steps;
+			this.sizes = sizes;
+			this.trees = trees;
+			this.slots = slots;
+			this.accessors = accessors.toArray(Function[]::new);
+			this.tests = operators.stream().map(Operator::getTest).toArray(BiPredicate[]::new);
+			this.promoteAfter = promoteAfter;
+		}
+
+		Node<T> node() {
+			final Node<T> node = this.compiled;
+			return node != null ? node : this.interpreted;
+		}
+
+		/**
+		 * Counts a use and promotes the template to the compiled tier on the
+		 * {@code promoteAfter}-th one; exactly one caller compiles.
+		 */
+		void used() {
+			if (this.compiled == null && this.uses.incrementAndGet() == this.promoteAfter + 1) {
+				final List<Node<T>> filters = new ArrayList<>(this.trees.length);
+				for (final Expression tree : this.trees) {
+					filters.add(this.compile(tree));
+				}
+				this.compiled = all(filters);
+				Metrics.increment(Metric.PREDICATE_PROMOTED);
+			}
+		}
+
+		/**
+		 * Slot values of the filters, in query order.
+		 *
+		 * @return the values, {@code null} when the filters do not have the
+		 *         structure of the template
+		 */
+		Object[] bind(final List<Queries> filters) {
+			if (filters.size() != this.sizes.length) {
+				return null;
+			}
+			final Object[] values = new Object[this.accessors.length];
+			int s = 0;
+			int slot = 0;
+			for (int f = 0; f < filters.size(); f++) {
+				final List<Query> queries = filters.get(f).getQueries();
+				if (queries.size() != this.sizes[f]) {
+					return null;
+				}
+				for (final Query q : queries) {
+					final Step step = this.steps[s++];
+					if (!same(step.op(), q.getOp()) || !same(step.key(), q.getKey())) {
+						return null;
+					}
+					if (!step.atom()) {
+						continue;
+					}
+					final Operation operation = step.operation();
+					values[slot++] = switch (operation.operator().getArgMode()) {
+						case SINGLE -> Value.of(value(q));
+						case LIST -> Values.of(Shapes.split(value(q), operation.definition().getListDelimiter(),
+								operation.definition().getListBrackets()));
+						case NONE -> null;
+					};
+				}
+			}
+			return values;
+		}
+
+		// ---- Tier 0: árbol interpretado
+
+		private boolean interpret(final T candidate, final Object[] bound) {
+			for (final Expression tree : this.trees) {
+				if (!this.interpret(tree, candidate, bound)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean interpret(final Expression expression, final T candidate, final Object[] bound) {
+			return switch (expression) {
+				case Atom atom -> {
+					final int slot = this.slots.get(atom);
+					yield this.tests[slot].test(this.accessors[slot].apply(candidate), bound[slot]);
+				}
+				case And and -> this.interpretAll(and.getOperands(), candidate, bound);
+				case Seq seq -> this.interpretAll(seq.getOperands(), candidate, bound);
+				case Or or -> {
+					for (final Expression operand : or.getOperands()) {
+						if (this.interpret(operand, candidate, bound)) {
+							yield true;
+						}
+					}
+					yield false;
+				}
+				case Not not -> !this.interpret(not.getOperand(), candidate, bound);
+				case Group group -> this.interpret(group.getInner(), candidate, bound);
+			};
+		}
+
+		private boolean interpretAll(final List<Expression> operands, final T candidate, final Object[] bound) {
+			for (final Expression operand : operands) {
+				if (!this.interpret(operand, candidate, bound)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		// ---- Tier 1: closures especializadas
+
+		private Node<T> compile(final Expression expression) {
+			return switch (expression) {
+				case Atom atom -> {
+					final int slot = this.slots.get(atom);
+					final Function<? super T, ?> accessor = this.accessors[slot];
+					final BiPredicate<Object, Object> test = this.tests[slot];
+					yield (candidate, bound) -> test.test(accessor.apply(candidate), bound[slot]);
+				}
+				case And and -> all(and.getOperands().stream().map(this::compile).toList());
+				case Seq seq -> all(seq.getOperands().stream().map(this::compile).toList());
+				case Or or -> any(or.getOperands().stream().map(this::compile).toList());
+				case Not not -> {
+					final Node<T> operand = this.compile(not.getOperand());
+					yield (candidate, bound) -> !operand.test(candidate, bound);
+				}
+				case Group group -> this.compile(group.getInner());
+			};
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> Node<T> all(final List<Node<T>> operands) {
+			if (operands.size() == 1) {
+				return operands.getFirst();
+			}
+			if (operands.size() == 2) {
+				// ⚡ El caso habitual sin bucle: a and b
+				final Node<T> first = operands.get(0);
+				final Node<T> second = operands.get(1);
+				return (candidate, bound) -> first.test(candidate, bound) && second.test(candidate, bound);
+			}
+			final Node<T>[] nodes = operands.toArray(Node[]::new);
+			return (candidate, bound) -> {
+				for (final Node<T> node : nodes) {
+					if (!node.test(candidate, bound)) {
+						return false;
+					}
+				}
+				return true;
+			};
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> Node<T> any(final List<Node<T>> operands) {
+			if (operands.size() == 2) {
+				final Node<T> first = operands.get(0);
+				final Node<T> second = operands.get(1);
+				return (candidate, bound) -> first.test(candidate, bound) || second.test(candidate, bound);
+			}
+			final Node<T>[] nodes = operands.toArray(Node[]::new);
+			return (candidate, bound) -> {
+				for (final Node<T> node : nodes) {
+					if (node.test(candidate, bound)) {
+						return true;
+					}
+				}
+				return false;
+			};
+		}
+
+		private static boolean same(final String expected, final String actual) {
+			return expected == null ? actual == null : expected.equalsIgnoreCase(actual);
+		}
+	}
+
+	// -----------------------------
+
+	/**
+	 * Field accessors and operator semantics of a domain. Operators without
+	 * semantics use {@link Operator#DEFAULTS} and must have one there.
+	 *
+	 * @param <T>
+	 *            type of the evaluated objects
+	 */
+	public static final class Builder<T> {
+
+		private final Class<? extends Enum<? extends OperationDefinition>> operationEnumClass;
+
+		private final Map<String, Function<? super T, ?>> fields = new HashMap<>();
+
+		private final Map<String, Operator> operators = new HashMap<>();
+
+		private int maximumSize = 1024;
+
+		private int promoteAfter = 16;
+
+		private Builder(final Class<? extends Enum<? extends OperationDefinition>> operationEnumClass) {
+			this.operationEnumClass = operationEnumClass;
+		}
+
+		/**
+		 * @param accessor
+		 *            reads the field from an object, e.g. {@code Order::getStatus}
+		 */
+		public Builder<T> field(final String field, final Function<? super T, ?> accessor) {
+			this.fields.put(lower(field), accessor);
+			return this;
+		}
+
+		public Builder<T> operator(final String operator, final Operator semantics) {
+			this.operators.put(lower(operator), semantics);
+			return this;
+		}
+
+		/**
+		 * @param maximumSize
+		 *            cached shapes, least recently used evicted first (default 1024)
+		 */
+		public Builder<T> maximumSize(final int maximumSize) {
+			if (maximumSize < 1) {
+				throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+			}
+			this.maximumSize = maximumSize;
+			return this;
+		}
+
+		/**
+		 * @param promoteAfter
+		 *            reuses of a template before it is compiled to closures, 0 to
+		 *            compile on first use (default 16)
+		 */
+		public Builder<T> promoteAfter(final int promoteAfter) {
+			if (promoteAfter < 0) {
+				throw new IllegalArgumentException("promoteAfter must not be negative: " + promoteAfter);
+			}
+			this.promoteAfter = promoteAfter;
+			return this;
+		}
+
+		/**
+		 * @throws IllegalArgumentException
+		 *             when a semantics names an unknown operator, an operator of the
+		 *             domain has no semantics, or one takes a different number of
+		 *             values than its operation
+		 */
+		public PredicateCache<T> build() {
+			final Map<String, Operation> resolved = new HashMap<>();
+			DomainRegistry.of(this.operationEnumClass).operators().forEach((operator, definition) -> {
+				final Operator configured = this.operators.get(operator);
+				final Operator semantics = configured != null ? configured : Operator.defaultFor(operator);
+				if (semantics == null) {
+					throw new IllegalArgumentException(
+							"No semantics for operator '" + operator + "', configure it with operator(...)");
+				}
+				final OperationArgMode expected = switch (definition.getType()) {
+					case WITH_LIST, NO_OP_WITH_LIST -> OperationArgMode.LIST;
+					case NO_VALUE, NO_OP_NO_VALUE -> OperationArgMode.NONE;
+					case WITH_ARG, NO_OP_WITH_ARG -> OperationArgMode.SINGLE;
+				};
+				if (semantics.getArgMode() != expected) {
+					throw new IllegalArgumentException("Operator '" + operator + "' is " + definition.getType()
+							+ " but its semantics takes " + semantics.getArgMode());
+				}
+				resolved.put(operator, new Operation(definition, semantics));
+			});
+			this.operators.keySet().stream().filter(operator -> !resolved.containsKey(operator)).findFirst()
+					.ifPresent(operator -> {
+						throw new IllegalArgumentException("Unknown operator: " + operator);
+					});
+			return new PredicateCache<T>(Map.copyOf(this.fields), Map.copyOf(resolved), this.promoteAfter,
+					this.maximumSize);
+		}
+	}
+}
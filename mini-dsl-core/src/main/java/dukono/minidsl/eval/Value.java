@@ -0,0 +1,109 @@
+package dukono.minidsl.eval;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * A filter value prepared for comparison against field values: its text and,
+ * when it is a number, its numeric form, parsed once when the value is bound
+ * instead of once per candidate.
+ *
+ * Numbers compare numerically against {@link Number} fields and numeric
+ * strings ({@code 10} equals {@code 10.0}); anything else compares by text
+ * against {@code String.valueOf(actual)}, which orders ISO dates and times.
+ */
+public final class Value {
+
+	private final String text;
+
+	private final BigDecimal number;
+
+	/**
+	 * {@code number} as a long when it is integral and fits, for the usual
+	 * {@code int}/{@code long} fields.
+	 */
+	private final long integral;
+
+	private final boolean isIntegral;
+
+	private Value(final String text) {
+		this.text = text;
+		this.number = parse(text);
+		boolean fits = false;
+		long exact = 0;
+		if (this.number != null) {
+			try {
+				exact = this.number.longValueExact();
+				fits = true;
+			} catch (final ArithmeticException notIntegral) {
+				// Con decimales o fuera de rango: solo BigDecimal
+			}
+		}
+		this.integral = exact;
+		this.isIntegral = fits;
+	}
+
+	public static Value of(final String text) {
+		return new Value(Objects.requireNonNull(text, "text"));
+	}
+
+	public String text() {
+		return this.text;
+	}
+
+	/**
+	 * @return the numeric form, {@code null} when the text is not a number
+	 */
+	public BigDecimal number() {
+		return this.number;
+	}
+
+	/**
+	 * @return whether the field value equals this value; {@code null} never
+	 *         does
+	 */
+	public boolean matches(final Object actual) {
+		return actual != null && this.compare(actual) == 0;
+	}
+
+	/**
+	 * @return negative, zero or positive as the field value is less than, equal
+	 *         to or greater than this value
+	 * @throws NullPointerException
+	 *             for a {@code null} field value
+	 */
+	public int compare(final Object actual) {
+		if (this.number != null) {
+			// ⚡ Enteros sin BigDecimal: el caso habitual de int/long
+			if (this.isIntegral && (actual instanceof Integer || actual instanceof Long || actual instanceof Short
+					|| actual instanceof Byte)) {
+				return Long.compare(((Number) actual).longValue(), this.integral);
+			}
+			final BigDecimal other = actual instanceof final BigDecimal decimal ? decimal : parse(actual.toString());
+			if (other != null) {
+				return other.compareTo(this.number);
+			}
+		}
+		return actual.toString().compareTo(this.text);
+	}
+
+	@Override
+	public String toString() {
+		return this.text;
+	}
+
+	static BigDecimal parse(final String text) {
+		if (text.isEmpty()) {
+			return null;
+		}
+		final char first = text.charAt(0);
+		if (first != '-' && first != '+' && first != '.' && (first < '0' || first > '9')) {
+			return null;
+		}
+		try {
+			return new BigDecimal(text);
+		} catch (final NumberFormatException notANumber) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package dukono.minidsl.eval;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The values of a list filter, prepared for membership tests: a text set and
+ * a numeric set, so {@link #contains} is two hash probes whatever the length
+ * of the list.
+ */
+public final class Values {
+
+	private final List<Value> values;
+
+	private final Set<String> texts;
+
+	/**
+	 * Numbers without trailing zeros: {@code 10} and {@code 10.0} are one entry.
+	 */
+	private final Set<BigDecimal> numbers;
+
+	private Values(final List<Value> values) {
+		this.values = values;
+		this.texts = new HashSet<>(values.size() * 2);
+		this.numbers = new HashSet<>();
+		for (final Value value : values) {
+			this.texts.add(value.text());
+			if (value.number() != null) {
+				this.numbers.add(value.number().stripTrailingZeros());
+			}
+		}
+	}
+
+	public static Values of(final List<String> texts) {
+		final List<Value> values = new ArrayList<>(texts.size());
+		texts.forEach(text -> values.add(Value.of(text)));
+		return new Values(Collections.unmodifiableList(values));
+	}
+
+	/**
+	 * @return the values in filter order
+	 */
+	public List<Value> values() {
+		return this.values;
+	}
+
+	/**
+	 * @return whether the field value equals one of the values; {@code null}
+	 *         never does
+	 */
+	public boolean contains(final Object actual) {
+		if (actual == null) {
+			return false;
+		}
+		if (!this.numbers.isEmpty()) {
+			final BigDecimal number = actual instanceof final BigDecimal decimal
+					? decimal
+					: actual instanceof Number || actual instanceof String ? Value.parse(actual.toString()) : null;
+			if (number != null && this.numbers.contains(number.stripTrailingZeros())) {
+				return true;
+			}
+		}
+		return this.texts.contains(actual.toString());
+	}
+
+	@Override
+	public String toString() {
+		return this.values.toString();
+	}
+}
@@ -0,0 +1,26 @@
+package dukono.minidsl.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Entries dropped from one of the library caches.
+ */
+@Name("dukono.minidsl.CacheEviction")
+@Label("DSL Cache Eviction")
+@Category({"Mini-DSL", "Cache"})
+@Description("Entries dropped from a library cache")
+public class CacheEvictionEvent extends jdk.jfr.Event {
+
+	@Label("Cache")
+	public String cache;
+
+	@Label("Reason")
+	@Description("clear, size or expired")
+	public String reason;
+
+	@Label("Entries")
+	public long entries;
+}
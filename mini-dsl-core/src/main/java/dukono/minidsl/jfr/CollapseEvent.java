@@ -0,0 +1,32 @@
+package dukono.minidsl.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A list collapsed into one filter by {@code listCollapseAnd/Or} or
+ * {@code collapse()}.
+ */
+@Name("dukono.minidsl.Collapse")
+@Label("DSL Collapse")
+@Category({"Mini-DSL", "Build"})
+@Description("List items or filters collapsed into one filter")
+public class CollapseEvent extends jdk.jfr.Event {
+
+	@Label("Domain")
+	public String domain;
+
+	@Label("Logical Operator")
+	@Description("and, or, or null when filters are joined without operator")
+	public String operator;
+
+	@Label("Items")
+	@Description("List items or filters collapsed, -1 for streams")
+	public int items;
+
+	@Label("Atoms")
+	@Description("Atoms added to the filter")
+	public int atoms;
+}
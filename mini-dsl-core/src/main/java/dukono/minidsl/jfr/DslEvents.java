@@ -0,0 +1,51 @@
+package dukono.minidsl.jfr;
+
+/**
+ * Helpers shared by the JDK Flight Recorder events of the library.
+ *
+ * Events follow the usual JFR pattern: created and begun on the hot path, and
+ * only filled and committed when {@code shouldCommit()} says a recording wants
+ * them. With no recording running the event is never filled and the JIT
+ * removes the allocation.
+ */
+public final class DslEvents {
+
+	private static final String LIBRARY_PACKAGE = "dukono.minidsl";
+
+	private static final ClassValue<String> DOMAINS = new ClassValue<>() {
+		@Override
+		protected String computeValue(final Class<?> type) {
+			// Clases generadas anidadas (OrderApi.Parser, OrderApi.OrderDto): el Api.
+			// Las de la librería (Query.ParseConfig) se nombran por sí mismas
+			final Class<?> enclosing = type.getEnclosingClass();
+			return enclosing != null && !LIBRARY_PACKAGE.equals(type.getPackageName())
+					? enclosing.getSimpleName()
+					: type.getSimpleName();
+		}
+	};
+
+	private DslEvents() {
+	}
+
+	/**
+	 * @return domain name reported for instances of the type: the enclosing
+	 *         class of a nested generated class ({@code OrderApi} for
+	 *         {@code OrderApi.Parser}), else its simple name
+	 */
+	public static String domain(final Class<?> type) {
+		return type == null ? null : DOMAINS.get(type);
+	}
+
+	/**
+	 * Commits a {@link CacheEvictionEvent} when a recording wants it.
+	 */
+	public static void evicted(final String cache, final String reason, final long entries) {
+		final CacheEvictionEvent event = new CacheEvictionEvent();
+		if (event.shouldCommit()) {
+			event.cache = cache;
+			event.reason = reason;
+			event.entries = entries;
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package dukono.minidsl.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A filter evaluated against a batch of candidates.
+ */
+@Name("dukono.minidsl.Evaluation")
+@Label("DSL Evaluation")
+@Category({"Mini-DSL", "Evaluation"})
+@Description("A filter evaluated against candidates")
+@StackTrace(false)
+public class EvaluationEvent extends jdk.jfr.Event {
+
+	@Label("Domain")
+	public String domain;
+
+	@Label("Atoms")
+	@Description("Atoms of the evaluated filter")
+	public int atoms;
+
+	@Label("Candidates")
+	public long candidates;
+
+	@Label("Matches")
+	public long matches;
+}
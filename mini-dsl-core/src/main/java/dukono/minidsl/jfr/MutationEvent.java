@@ -0,0 +1,29 @@
+package dukono.minidsl.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A {@code replace}, {@code modify} or {@code remove} applied to a DTO.
+ */
+@Name("dukono.minidsl.Mutation")
+@Label("DSL Mutation")
+@Category({"Mini-DSL", "Mutation"})
+@Description("Filters of a DTO replaced, modified or removed")
+public class MutationEvent extends jdk.jfr.Event {
+
+	@Label("Domain")
+	public String domain;
+
+	@Label("Operation")
+	@Description("replace, modify or remove")
+	public String operation;
+
+	@Label("Filters Before")
+	public int filtersBefore;
+
+	@Label("Filters After")
+	public int filtersAfter;
+}
@@ -0,0 +1,35 @@
+package dukono.minidsl.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One query string parsed into {@code Query} atoms.
+ */
+@Name("dukono.minidsl.Parse")
+@Label("DSL Parse")
+@Category({"Mini-DSL", "Parse"})
+@Description("A query string parsed into atoms")
+@StackTrace(false)
+public class ParseEvent extends jdk.jfr.Event {
+
+	@Label("Domain")
+	@Description("Generated Api of the classifier, or the classifier class")
+	public String domain;
+
+	@Label("Input Length")
+	@Description("Characters, or bytes for UTF-8 input")
+	@DataAmount(DataAmount.BYTES)
+	public int inputLength;
+
+	@Label("Tokens")
+	public int tokens;
+
+	@Label("Atoms")
+	@Description("Parsed queries, logical operators and parentheses included")
+	public int atoms;
+}
@@ -0,0 +1,22 @@
+package dukono.minidsl.metrics;
+
+/**
+ * Metrics SPI. Implementations are found with {@link java.util.ServiceLoader}
+ * once, when {@link Metrics} is initialized: list the class in
+ * {@code META-INF/services/dukono.minidsl.metrics.DslMetrics}. Without one the
+ * library records nothing.
+ *
+ * {@link #record} is called on the hot paths, from any thread: it must be
+ * thread-safe, cheap and must not throw.
+ */
+public interface DslMetrics {
+
+	/**
+	 * @param metric
+	 *            what was measured
+	 * @param value
+	 *            increment for counters, nanoseconds for timers, sample for
+	 *            histograms (see {@link Metric.Kind})
+	 */
+	void record(Metric metric, long value);
+}
@@ -0,0 +1,146 @@
+package dukono.minidsl.metrics;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free in-memory {@link DslMetrics}: count, total, min and max of each
+ * metric plus a power-of-two histogram of the recorded values.
+ *
+ * Meant for tests and as the source of an exporter: install it through
+ * {@code META-INF/services} and read {@link #snapshot()} periodically.
+ */
+public class InMemoryMetrics implements DslMetrics {
+
+	/**
+	 * Bucket {@code i} holds values in {@code [2^(i-1), 2^i)}, bucket 0 values
+	 * {@code <= 0}.
+	 */
+	public static final int BUCKETS = 64;
+
+	private final Map<Metric, Series> series = new EnumMap<>(Metric.class);
+
+	/**
+	 * Values of one metric at snapshot time.
+	 *
+	 * @param count
+	 *            number of recorded values
+	 * @param total
+	 *            sum of the values: the counter value, or the total nanoseconds
+	 *            of a timer
+	 * @param buckets
+	 *            power-of-two histogram, see {@link #BUCKETS}
+	 */
+	public record Stats(Metric metric, long count, long total, long min, long max, long[] buckets) {
+
+		public double mean() {
+			return this.count == 0 ? 0 : this.total / (double) this.count;
+		}
+
+		/**
+		 * @param quantile
+		 *            between 0 and 1
+		 * @return upper bound of the bucket holding the quantile, 0 when empty
+		 */
+		public long percentile(final double quantile) {
+			final long rank = (long) Math.ceil(quantile * this.count);
+			long seen = 0;
+			for (int i = 0; i < this.buckets.length; i++) {
+				seen += this.buckets[i];
+				if (seen >= rank && seen > 0) {
+					return i == 0 ? 0 : i >= Long.SIZE - 1 ? this.max : Math.min(this.max, (1L << i) - 1);
+				}
+			}
+			return this.max;
+		}
+	}
+
+	public InMemoryMetrics() {
+		for (final Metric metric : Metric.values()) {
+			this.series.put(metric, new Series());
+		}
+	}
+
+	@Override
+	public void record(final Metric metric, final long value) {
+		final Series s = this.series.get(metric);
+		s.count.increment();
+		s.total.add(value);
+		s.min.accumulate(value);
+		s.max.accumulate(value);
+		s.buckets.incrementAndGet(value <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value)));
+	}
+
+	/**
+	 * @return the counter value, or the total of a timer or histogram
+	 */
+	public long total(final Metric metric) {
+		return this.series.get(metric).total.sum();
+	}
+
+	/**
+	 * @return number of values recorded
+	 */
+	public long count(final Metric metric) {
+		return this.series.get(metric).count.sum();
+	}
+
+	public Stats snapshot(final Metric metric) {
+		final Series s = this.series.get(metric);
+		final long count = s.count.sum();
+		final long[] buckets = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			buckets[i] = s.buckets.get(i);
+		}
+		return new Stats(metric, count, s.total.sum(), count == 0 ? 0 : s.min.get(), count == 0 ? 0 : s.max.get(),
+				buckets);
+	}
+
+	/**
+	 * @return stats of every metric, in {@link Metric} order
+	 */
+	public List<Stats> snapshot() {
+		final List<Stats> result = new ArrayList<>(this.series.size());
+		for (final Metric metric : Metric.values()) {
+			result.add(this.snapshot(metric));
+		}
+		return result;
+	}
+
+	/**
+	 * Drops every recorded value. Not atomic with concurrent {@link #record}s.
+	 */
+	public void reset() {
+		this.series.values().forEach(Series::reset);
+	}
+
+	// -----------------------------
+
+	private static final class Series {
+
+		private final LongAdder count = new LongAdder();
+
+		private final LongAdder total = new LongAdder();
+
+		private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+
+		private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+		private void reset() {
+			this.count.reset();
+			this.total.reset();
+			this.min.reset();
+			this.max.reset();
+			for (int i = 0; i < BUCKETS; i++) {
+				this.buckets.set(i, 0);
+			}
+		}
+	}
+}
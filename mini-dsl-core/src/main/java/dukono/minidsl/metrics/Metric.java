@@ -0,0 +1,114 @@
+package dukono.minidsl.metrics;
+
+/**
+ * Everything the library measures. Enum constants instead of names: recording
+ * builds no key and allocates nothing.
+ */
+public enum Metric {
+
+	/**
+	 * Duration of each query string parse, in nanoseconds.
+	 */
+	PARSE_TIME("minidsl.parse.time", Kind.TIMER),
+
+	/**
+	 * Tokens per parsed query string.
+	 */
+	PARSE_TOKENS("minidsl.parse.tokens", Kind.HISTOGRAM),
+
+	/**
+	 * Inputs per {@code Dto.parseFilters} call.
+	 */
+	PARSE_FILTERS_BATCH("minidsl.parse.filters.batch", Kind.HISTOGRAM),
+
+	/**
+	 * {@code Dto.filtersAsString} calls.
+	 */
+	RENDER_STRING("minidsl.render.string", Kind.COUNTER),
+
+	/**
+	 * {@code Dto.filtersAsJson} calls.
+	 */
+	RENDER_JSON("minidsl.render.json", Kind.COUNTER),
+
+	/**
+	 * Renders served from the DTO memo or the shared {@code RenderCache}
+	 * instead of rendering again.
+	 */
+	RENDER_CACHE_HIT("minidsl.render.cache.hit", Kind.COUNTER),
+
+	/**
+	 * {@code Dto.getFiltersSorted} calls served from the sorted cache.
+	 */
+	SORTED_CACHE_HIT("minidsl.sorted.cache.hit", Kind.COUNTER),
+
+	/**
+	 * {@code Dto.getFiltersSorted} calls that had to sort.
+	 */
+	SORTED_CACHE_MISS("minidsl.sorted.cache.miss", Kind.COUNTER),
+
+	/**
+	 * ParseConfig lookups served from the domain registry.
+	 */
+	PARSE_CONFIG_HIT("minidsl.parse.config.hit", Kind.COUNTER),
+
+	/**
+	 * ParseConfig lookups that compiled a new config.
+	 */
+	PARSE_CONFIG_MISS("minidsl.parse.config.miss", Kind.COUNTER),
+
+	/**
+	 * {@code PredicateCache} lookups that reused a compiled template.
+	 */
+	PREDICATE_CACHE_HIT("minidsl.predicate.cache.hit", Kind.COUNTER),
+
+	/**
+	 * {@code PredicateCache} lookups that compiled a new template.
+	 */
+	PREDICATE_CACHE_MISS("minidsl.predicate.cache.miss", Kind.COUNTER),
+
+	/**
+	 * Templates promoted from the interpreted to the compiled tier.
+	 */
+	PREDICATE_PROMOTED("minidsl.predicate.promoted", Kind.COUNTER),
+
+	/**
+	 * Anchors and DTOs created by reflection.
+	 */
+	NEW_TYPE("minidsl.new.type", Kind.COUNTER);
+
+	public enum Kind {
+		/**
+		 * Recorded values are increments.
+		 */
+		COUNTER,
+		/**
+		 * Recorded values are durations in nanoseconds.
+		 */
+		TIMER,
+		/**
+		 * Recorded values are samples of a distribution.
+		 */
+		HISTOGRAM
+	}
+
+	private final String key;
+
+	private final Kind kind;
+
+	Metric(final String key, final Kind kind) {
+		this.key = key;
+		this.kind = kind;
+	}
+
+	/**
+	 * @return dotted name for exporters, e.g. {@code minidsl.parse.time}
+	 */
+	public String key() {
+		return this.key;
+	}
+
+	public Kind kind() {
+		return this.kind;
+	}
+}
@@ -0,0 +1,72 @@
+package dukono.minidsl.metrics;
+
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Entry point used by the library to record {@link Metric}s.
+ *
+ * The {@link DslMetrics} implementation is resolved once, in the static
+ * initializer, and kept in static finals. Without a provider
+ * {@link #ENABLED} is a constant {@code false}: the JIT folds every
+ * {@code if (Metrics.ENABLED)} guard and the instrumentation costs nothing, not
+ * even the {@link System#nanoTime()} of the timers.
+ */
+public final class Metrics {
+
+	/**
+	 * {@code true} when a {@link DslMetrics} provider was found.
+	 */
+	public static final boolean ENABLED;
+
+	private static final DslMetrics SINK;
+
+	static {
+		DslMetrics found = null;
+		try {
+			found = ServiceLoader.load(DslMetrics.class).findFirst().orElse(null);
+		} catch (final ServiceConfigurationError e) {
+			// Proveedor mal declarado: sin métricas antes que romper la librería
+		}
+		SINK = found;
+		ENABLED = found != null;
+	}
+
+	private Metrics() {
+	}
+
+	/**
+	 * @return the installed provider, {@code null} when metrics are disabled
+	 */
+	public static DslMetrics provider() {
+		return SINK;
+	}
+
+	public static void record(final Metric metric, final long value) {
+		if (ENABLED) {
+			SINK.record(metric, value);
+		}
+	}
+
+	public static void increment(final Metric counter) {
+		if (ENABLED) {
+			SINK.record(counter, 1);
+		}
+	}
+
+	/**
+	 * @return start time for {@link #stop}, 0 when metrics are disabled
+	 */
+	public static long start() {
+		return ENABLED ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Records the time elapsed since {@link #start()}.
+	 */
+	public static void stop(final Metric timer, final long start) {
+		if (ENABLED) {
+			SINK.record(timer, System.nanoTime() - start);
+		}
+	}
+}
@@ -0,0 +1,288 @@
+package dukono.minidsl.util;
+
+import dukono.minidsl.ListArity;
+import dukono.minidsl.Query;
+import dukono.minidsl.annotation.OperationDefinition;
+import dukono.minidsl.jfr.DslEvents;
+import dukono.minidsl.metrics.Metric;
+import dukono.minidsl.metrics.Metrics;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-class domain metadata: no-args constructor, field table, operator table
+ * and the compiled {@link Query.ParseConfig} of each (operations enum, fields
+ * class) pair.
+ *
+ * Everything hangs from {@link ClassValue}s, so the metadata lives as long as
+ * the class itself: when a domain classloader is dropped its entries go with
+ * it, nothing here pins it. Lookups on a warm entry are two
+ * {@link ClassValue#get} calls and an int compare, no keys are built.
+ */
+public final class DomainRegistry {
+
+	private static final ClassValue<Domain> DOMAINS = new ClassValue<>() {
+		@Override
+		protected Domain computeValue(final Class<?> type) {
+			return new Domain(type);
+		}
+	};
+
+	/**
+	 * Bumped by {@link #clear()}: entries of an older generation are recomputed on
+	 * the next lookup. ClassValue has no way to drop every entry at once.
+	 */
+	private static volatile int generation;
+
+	private static final AtomicInteger PARSE_CONFIGS = new AtomicInteger();
+
+	private DomainRegistry() {
+	}
+
+	public static Domain of(final Class<?> type) {
+		return DOMAINS.get(type);
+	}
+
+	/**
+	 * Compiled ParseConfig for the operations enum, validating fields against the
+	 * given Fields class when not {@code null}.
+	 */
+	public static Query.ParseConfig parseConfig(
+			final Class<? extends Enum<? extends OperationDefinition>> operationEnumClass, final Class<?> fieldsClass) {
+		return DOMAINS.get(operationEnumClass).parseConfig(fieldsClass);
+	}
+
+	/**
+	 * Drops the compiled ParseConfigs. Constructors and tables are derived from the
+	 * class itself and never go stale, so they are kept.
+	 */
+	public static void clear() {
+		generation++;
+		DslEvents.evicted("ParseConfig", "clear", PARSE_CONFIGS.getAndSet(0));
+	}
+
+	/**
+	 * @return number of ParseConfigs compiled since the last {@link #clear()}
+	 */
+	public static int parseConfigCount() {
+		return PARSE_CONFIGS.get();
+	}
+
+	// -----------------------------
+
+	private record Compiled(int generation, Query.ParseConfig config) {
+	}
+
+	/**
+	 * Holder of the compiled config of one (operations enum, fields class) pair.
+	 */
+	private static final class Slot {
+
+		private volatile Compiled compiled;
+	}
+
+	public static final class Domain {
+
+		private final Class<?> type;
+
+		private volatile Constructor<?> constructor;
+
+		private volatile Set<String> fieldNames;
+
+		private volatile Map<String, OperationDefinition> operators;
+
+		private volatile ListArity listArity;
+
+		private final Slot withoutFields = new Slot();
+
+		/**
+		 * ParseConfigs of this operations enum keyed by Fields class. The entries are
+		 * stored on the Fields class, so they are collected with it.
+		 */
+		private final ClassValue<Slot> configs = new ClassValue<>() {
+			@Override
+			protected Slot computeValue(final Class<?> fieldsClass) {
+				return new Slot();
+			}
+		};
+
+		private Domain(final Class<?> type) {
+			this.type = type;
+		}
+
+		public Class<?> getType() {
+			return this.type;
+		}
+
+		/**
+		 * @return the cached no-args constructor
+		 * @throws NoSuchMethodException
+		 *             when the class has none
+		 */
+		@SuppressWarnings("unchecked")
+		public <T> Constructor<T> constructor() throws NoSuchMethodException {
+			Constructor<?> result = this.constructor;
+			if (result == null) {
+				result = this.type.getDeclaredConstructor();
+				this.constructor = result;
+			}
+			return (Constructor<T>) result;
+		}
+
+		/**
+		 * Field names declared by a Fields class: the values of its
+		 * {@code Field.FieldHolder} fields, or of its public static final String
+		 * constants when it has none.
+		 */
+		public Set<String> fieldNames() {
+			Set<String> result = this.fieldNames;
+			if (result == null) {
+				result = Collections.unmodifiableSet(extractFieldNames(this.type));
+				this.fieldNames = result;
+			}
+			return result;
+		}
+
+		/**
+		 * Operators of an operations enum keyed by lower case operator. Constants
+		 * without operator are left out.
+		 */
+		public Map<String, OperationDefinition> operators() {
+			Map<String, OperationDefinition> result = this.operators;
+			if (result == null) {
+				final Map<String, OperationDefinition> table = new HashMap<>();
+				final Object[] constants = this.type.getEnumConstants();
+				if (constants != null) {
+					for (final Object constant : constants) {
+						if (constant instanceof final OperationDefinition op && op.getOperator() != null
+								&& !op.getOperator().isEmpty()) {
+							table.putIfAbsent(op.getOperator().toLowerCase(Locale.ROOT), op);
+						}
+					}
+				}
+				result = Collections.unmodifiableMap(table);
+				this.operators = result;
+			}
+			return result;
+		}
+
+		/**
+		 * {@link ListArity} of the list operations of an operations enum, for shape
+		 * fingerprints.
+		 */
+		public ListArity listArity() {
+			ListArity result = this.listArity;
+			if (result == null) {
+				result = Shapes.listArity(this.operators());
+				this.listArity = result;
+			}
+			return result;
+		}
+
+		Query.ParseConfig parseConfig(final Class<?> fieldsClass) {
+			final int current = generation;
+			final Slot slot = fieldsClass == null ? this.withoutFields : this.configs.get(fieldsClass);
+			Compiled compiled = slot.compiled;
+			if (compiled == null || compiled.generation() != current) {
+				Metrics.increment(Metric.PARSE_CONFIG_MISS);
+				compiled = this.compile(fieldsClass);
+				slot.compiled = compiled;
+			} else {
+				Metrics.increment(Metric.PARSE_CONFIG_HIT);
+			}
+			return compiled.config();
+		}
+
+		private Compiled compile(final Class<?> fieldsClass) {
+			final int current = generation;
+			final Set<String> valueOps = new HashSet<>();
+			final Set<String> noValueOps = new HashSet<>();
+			for (final Object constant : this.type.getEnumConstants()) {
+				final OperationDefinition op = (OperationDefinition) constant;
+				if (op.getOperator() == null || op.getOperator().isEmpty()) {
+					continue;
+				}
+				switch (op.getType()) {
+					case WITH_ARG, WITH_LIST -> valueOps.add(op.getOperator());
+					case NO_VALUE -> noValueOps.add(op.getOperator());
+					case NO_OP_WITH_ARG, NO_OP_WITH_LIST, NO_OP_NO_VALUE -> {
+						// No se agregan a ninguna lista
+					}
+				}
+			}
+			final Set<String> validFields = fieldsClass == null
+					? null
+					: new HashSet<>(DOMAINS.get(fieldsClass).fieldNames());
+			final Query.ParseConfig config = Query.ParseConfig.builder().valueOperators(valueOps)
+					.noValueOperators(noValueOps).validFields(validFields)
+					.logicalOperators(new HashSet<>(Arrays.asList("and", "or"))).allowUnknownOperators(false).build();
+			PARSE_CONFIGS.incrementAndGet();
+			return new Compiled(current, config);
+		}
+	}
+
+	private static Set<String> extractFieldNames(final Class<?> fieldsClass) {
+		final Set<String> validFields = new HashSet<>();
+
+		// Try to extract from Field.FieldHolder fields (generated Fields class)
+		try {
+			final Object fieldsInstance = fieldsClass.getDeclaredConstructor().newInstance();
+			Arrays.stream(fieldsClass.getDeclaredFields())
+					.filter(field -> field.getType().getName().equals("dukono.minidsl.Field$FieldHolder"))
+					.forEach(field -> {
+						try {
+							field.setAccessible(true);
+							final Object fieldHolder = field.get(fieldsInstance);
+							if (fieldHolder != null) {
+								// Obtener el nombre del campo desde FieldHolder
+								final java.lang.reflect.Method getNameMethod = fieldHolder.getClass()
+										.getMethod("getName");
+								final String fieldName = (String) getNameMethod.invoke(fieldHolder);
+								if (fieldName != null && !fieldName.isEmpty()) {
+									validFields.add(fieldName);
+								}
+							}
+						} catch (final Exception e) {
+							// Ignorar campos que no se pueden leer
+						}
+					});
+
+			// If we found FieldHolder fields, return
+			if (!validFields.isEmpty()) {
+				return validFields;
+			}
+		} catch (final Exception e) {
+			// Continue to try extracting from String constants
+		}
+
+		// Try to extract from public static final String constants
+		try {
+			Arrays.stream(fieldsClass.getDeclaredFields())
+					.filter(field -> Modifier.isStatic(field.getModifiers()) && Modifier.isFinal(field.getModifiers())
+							&& Modifier.isPublic(field.getModifiers()) && field.getType().equals(String.class))
+					.forEach(field -> {
+						try {
+							final String fieldValue = (String) field.get(null);
+							if (fieldValue != null && !fieldValue.isEmpty()) {
+								validFields.add(fieldValue);
+							}
+						} catch (final Exception e) {
+							// Ignorar campos que no se pueden leer
+						}
+					});
+		} catch (final Exception e) {
+			// Si no se puede leer, retornar set vacío (no validar)
+		}
+
+		return validFields;
+	}
+}
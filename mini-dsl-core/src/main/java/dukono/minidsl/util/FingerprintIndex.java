@@ -0,0 +1,83 @@
+package dukono.minidsl.util;
+
+/**
+ * Open-addressing map from a 64-bit fingerprint to the position where it was
+ * first seen, on primitive arrays: no boxing and no entry objects, for
+ * de-duplicating a batch in first-seen order.
+ *
+ * Fingerprints are already well mixed, so the slot is taken from their bits
+ * directly and collisions probe linearly. Not thread-safe.
+ */
+public final class FingerprintIndex {
+
+	private long[] keys;
+
+	/**
+	 * Position + 1; 0 marks a free slot, so any fingerprint, 0 included, can be
+	 * a key.
+	 */
+	private int[] positions;
+
+	private int size;
+
+	/**
+	 * @param expected
+	 *            fingerprints expected, sized to stay at most half full
+	 */
+	public FingerprintIndex(final int expected) {
+		final int capacity = Integer.highestOneBit(Math.max(4, expected) * 2 - 1) << 1;
+		this.keys = new long[capacity];
+		this.positions = new int[capacity];
+	}
+
+	/**
+	 * Stores the position of a fingerprint seen for the first time.
+	 *
+	 * @param position
+	 *            non-negative position to store
+	 * @return the stored position when the fingerprint was already there (and
+	 *         it is kept), else -1
+	 */
+	public int putIfAbsent(final long fingerprint, final int position) {
+		final int mask = this.keys.length - 1;
+		int slot = slot(fingerprint) & mask;
+		while (this.positions[slot] != 0) {
+			if (this.keys[slot] == fingerprint) {
+				return this.positions[slot] - 1;
+			}
+			slot = (slot + 1) & mask;
+		}
+		this.keys[slot] = fingerprint;
+		this.positions[slot] = position + 1;
+		if (++this.size * 2 > this.keys.length) {
+			this.grow();
+		}
+		return -1;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	private void grow() {
+		final long[] oldKeys = this.keys;
+		final int[] oldPositions = this.positions;
+		this.keys = new long[oldKeys.length << 1];
+		this.positions = new int[oldKeys.length << 1];
+		final int mask = this.keys.length - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldPositions[i] != 0) {
+				int slot = slot(oldKeys[i]) & mask;
+				while (this.positions[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				this.keys[slot] = oldKeys[i];
+				this.positions[slot] = oldPositions[i];
+			}
+		}
+	}
+
+	private static int slot(final long fingerprint) {
+		return (int) (fingerprint ^ (fingerprint >>> 32));
+	}
+}
@@ -0,0 +1,67 @@
+package dukono.minidsl.util;
+
+/**
+ * 64-bit content fingerprints for rendered filters.
+ *
+ * FNV-1a over the UTF-16 chars followed by the MurmurHash3 finalizer, so short
+ * strings that differ in one char still spread over the whole range. Not a
+ * cryptographic hash: equal fingerprints must still be confirmed with equals
+ * when a collision would matter.
+ */
+public final class Fingerprints {
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private Fingerprints() {
+	}
+
+	public static long hash64(final CharSequence value) {
+		if (value == null) {
+			return 0L;
+		}
+		long h = FNV_OFFSET;
+		for (int i = 0; i < value.length(); i++) {
+			h ^= value.charAt(i);
+			h *= FNV_PRIME;
+		}
+		return mix(h);
+	}
+
+	/**
+	 * {@link #hash64} of the value in lower case, without building the lower case
+	 * string: {@code "IN"} and {@code "in"} have the same fingerprint.
+	 */
+	public static long hash64IgnoreCase(final CharSequence value) {
+		if (value == null) {
+			return 0L;
+		}
+		long h = FNV_OFFSET;
+		for (int i = 0; i < value.length(); i++) {
+			h ^= Character.toLowerCase(value.charAt(i));
+			h *= FNV_PRIME;
+		}
+		return mix(h);
+	}
+
+	/**
+	 * Order-dependent combination of two fingerprints.
+	 */
+	public static long combine(final long seed, final long value) {
+		return mix(seed * 31 + value);
+	}
+
+	/**
+	 * MurmurHash3 fmix64 finalizer.
+	 */
+	public static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+}
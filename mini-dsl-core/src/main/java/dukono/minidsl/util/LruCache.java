@@ -0,0 +1,116 @@
+package dukono.minidsl.util;
+
+import dukono.minidsl.jfr.DslEvents;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded cache that evicts the least recently used entry, for compiled
+ * templates keyed by shape fingerprint.
+ *
+ * Access is synchronized: lookups are a hash probe and a relink, far cheaper
+ * than the compilation they save. Hits, misses and evictions are counted, and
+ * each eviction commits a {@link dukono.minidsl.jfr.CacheEvictionEvent} named
+ * after the cache.
+ *
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type
+ */
+public final class LruCache<K, V> {
+
+	private final String name;
+
+	private final int maximumSize;
+
+	private final Map<K, V> entries;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * @param name
+	 *            cache name reported in eviction events
+	 * @param maximumSize
+	 *            entries kept, at least 1
+	 */
+	public LruCache(final String name, final int maximumSize) {
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+		}
+		this.name = name;
+		this.maximumSize = maximumSize;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+				if (this.size() > LruCache.this.maximumSize) {
+					LruCache.this.evictions.increment();
+					DslEvents.evicted(LruCache.this.name, "size", 1);
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * @return the cached value, {@code null} on a miss
+	 */
+	public V get(final K key) {
+		final V value;
+		synchronized (this.entries) {
+			value = this.entries.get(key);
+		}
+		(value != null ? this.hits : this.misses).increment();
+		return value;
+	}
+
+	/**
+	 * Caches the value, replacing the previous one of the key, and evicts the
+	 * least recently used entry when over the maximum size.
+	 */
+	public void put(final K key, final V value) {
+		synchronized (this.entries) {
+			this.entries.put(key, value);
+		}
+	}
+
+	public void clear() {
+		final int size;
+		synchronized (this.entries) {
+			size = this.entries.size();
+			this.entries.clear();
+		}
+		if (size > 0) {
+			DslEvents.evicted(this.name, "clear", size);
+		}
+	}
+
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	public int maximumSize() {
+		return this.maximumSize;
+	}
+
+	public long hits() {
+		return this.hits.sum();
+	}
+
+	public long misses() {
+		return this.misses.sum();
+	}
+
+	public long evictions() {
+		return this.evictions.sum();
+	}
+}
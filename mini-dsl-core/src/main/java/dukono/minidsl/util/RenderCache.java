@@ -0,0 +1,99 @@
+package dukono.minidsl.util;
+
+import dukono.minidsl.Queries;
+import dukono.minidsl.metrics.Metric;
+import dukono.minidsl.metrics.Metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Rendered filters shared across DTOs, keyed by content fingerprint: equal
+ * filters rendered by different DTOs (retries, fan-out to several backends,
+ * logging) get the same {@code List<String>} instance instead of one copy
+ * each.
+ *
+ * Disabled by default: {@code Dto.filtersAsString()} then only memoizes per
+ * DTO. An entry keeps the fingerprint of each filter and a hit must match all
+ * of them, so two different filter lists never share a rendering.
+ */
+public final class RenderCache {
+
+	private static volatile LruCache<Long, Entry> shared;
+
+	private record Entry(long[] parts, List<String> strings) {
+	}
+
+	private RenderCache() {
+	}
+
+	/**
+	 * Starts sharing renderings, dropping any previous ones.
+	 *
+	 * @param maximumSize
+	 *            renderings kept, least recently used evicted first
+	 */
+	public static void enable(final int maximumSize) {
+		shared = new LruCache<>("RenderedFilters", maximumSize);
+	}
+
+	public static void disable() {
+		final LruCache<Long, Entry> previous = shared;
+		shared = null;
+		if (previous != null) {
+			previous.clear();
+		}
+	}
+
+	public static boolean isEnabled() {
+		return shared != null;
+	}
+
+	/**
+	 * Content fingerprint of a list of filters, in order, like
+	 * {@code FrozenDto.fingerprint()}. Linear in the filters but each one is
+	 * cached by its {@link Queries}, so no string is rendered again.
+	 */
+	public static long fingerprint(final List<Queries> filters) {
+		long combined = filters.size();
+		for (final Queries filter : filters) {
+			combined = Fingerprints.combine(combined, filter.fingerprint());
+		}
+		return combined;
+	}
+
+	/**
+	 * @param filters
+	 *            filters in render order
+	 * @param fingerprint
+	 *            {@link #fingerprint(List)} of the filters
+	 * @return one string per filter, unmodifiable; the shared instance when
+	 *         enabled and equal filters were rendered before
+	 */
+	public static List<String> strings(final List<Queries> filters, final long fingerprint) {
+		final LruCache<Long, Entry> cache = shared;
+		if (cache == null) {
+			return render(filters);
+		}
+		final long[] parts = new long[filters.size()];
+		for (int i = 0; i < parts.length; i++) {
+			parts[i] = filters.get(i).fingerprint();
+		}
+		final Entry entry = cache.get(fingerprint);
+		if (entry != null && Arrays.equals(entry.parts(), parts)) {
+			Metrics.increment(Metric.RENDER_CACHE_HIT);
+			return entry.strings();
+		}
+		final List<String> strings = render(filters);
+		cache.put(fingerprint, new Entry(parts, strings));
+		return strings;
+	}
+
+	private static List<String> render(final List<Queries> filters) {
+		final List<String> strings = new ArrayList<>(filters.size());
+		filters.forEach(filter -> strings.add(filter.filtersAsString()));
+		return Collections.unmodifiableList(strings);
+	}
+}
@@ -0,0 +1,167 @@
+package dukono.minidsl.util;
+
+import dukono.minidsl.ListArity;
+import dukono.minidsl.Queries;
+import dukono.minidsl.Query;
+import dukono.minidsl.annotation.OperationDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Shape fingerprints: the structure of a filter without its values.
+ *
+ * A query contributes its key and operator, case insensitive, and the kind of
+ * value it holds: none, a single one or a list, the list by its arity rounded
+ * up to a power of two. Parentheses and logical operators contribute their
+ * token. Literal values never take part, so {@code status eq 1} and
+ * {@code STATUS eq 2} have the same shape and caches can key on the shape and
+ * bind the values apart.
+ */
+public final class Shapes {
+
+	/**
+	 * Fingerprint of an empty filter, the start of every combination.
+	 */
+	public static final long SEED = 0x9e3779b97f4a7c15L;
+
+	private Shapes() {
+	}
+
+	/**
+	 * @return shape fingerprint of one query
+	 */
+	public static long atom(final Query query, final ListArity arity) {
+		final long value;
+		if (query.getValue() == null || query.getValue().isEmpty()) {
+			value = 0;
+		} else {
+			final int size = arity.arity(query);
+			value = size < 0 ? 1 : 2 + bucket(size);
+		}
+		return Fingerprints.combine(
+				Fingerprints.combine(Fingerprints.hash64IgnoreCase(query.getKey()),
+						Fingerprints.hash64IgnoreCase(query.getOp())),
+				value);
+	}
+
+	/**
+	 * Shape of a set of filters, each one given by its shape: the order the
+	 * filters are combined in is part of the result.
+	 */
+	public static long combine(final List<Queries> filters, final ListArity arity) {
+		long shape = filters.size();
+		for (final Queries filter : filters) {
+			shape = Fingerprints.combine(shape, filter.shapeFingerprint(arity));
+		}
+		return shape;
+	}
+
+	/**
+	 * @return smallest power of two holding {@code size} values, 0 for none
+	 */
+	public static int bucket(final int size) {
+		return size <= 1 ? Math.max(size, 0) : Integer.highestOneBit(size - 1) << 1;
+	}
+
+	/**
+	 * {@link ListArity} of the list operations ({@code WITH_LIST} with operator)
+	 * of a domain, keyed by operator case insensitive.
+	 */
+	public static ListArity listArity(final Map<String, OperationDefinition> operators) {
+		final Map<String, OperationDefinition> lists = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		operators.forEach((operator, definition) -> {
+			switch (definition.getType()) {
+				case WITH_LIST, NO_OP_WITH_LIST -> lists.put(operator, definition);
+				case WITH_ARG, NO_OP_WITH_ARG, NO_VALUE, NO_OP_NO_VALUE -> {
+					// No es una lista
+				}
+			}
+		});
+		if (lists.isEmpty()) {
+			return ListArity.NONE;
+		}
+		return query -> {
+			final OperationDefinition list = query.getKey() == null || query.getOp() == null
+					? null
+					: lists.get(query.getOp());
+			return list == null
+					? -1
+					: count(query.getValue().map(Object::toString).orElse(""), list.getListDelimiter(),
+							list.getListBrackets());
+		};
+	}
+
+	/**
+	 * Number of non-blank values of a rendered list, without splitting it.
+	 */
+	public static int count(final String value, final String delimiter, final String brackets) {
+		final int[] bounds = body(value, brackets);
+		final String separator = separator(delimiter);
+		int count = 0;
+		int from = bounds[0];
+		while (from <= bounds[1]) {
+			final int found = value.indexOf(separator, from);
+			final int to = found < 0 || found > bounds[1] ? bounds[1] : found;
+			if (!isBlank(value, from, to)) {
+				count++;
+			}
+			if (to == bounds[1]) {
+				break;
+			}
+			from = to + separator.length();
+		}
+		return count;
+	}
+
+	/**
+	 * Non-blank values of a rendered list, trimmed, in order.
+	 */
+	public static List<String> split(final String value, final String delimiter, final String brackets) {
+		final int[] bounds = body(value, brackets);
+		final String separator = separator(delimiter);
+		final List<String> values = new ArrayList<>();
+		int from = bounds[0];
+		while (from <= bounds[1]) {
+			final int found = value.indexOf(separator, from);
+			final int to = found < 0 || found > bounds[1] ? bounds[1] : found;
+			if (!isBlank(value, from, to)) {
+				values.add(value.substring(from, to).trim());
+			}
+			if (to == bounds[1]) {
+				break;
+			}
+			from = to + separator.length();
+		}
+		return values;
+	}
+
+	/**
+	 * @return start and end of the list without its brackets
+	 */
+	private static int[] body(final String value, final String brackets) {
+		int start = 0;
+		int end = value.length();
+		if (brackets != null && !brackets.isEmpty() && end >= 2 && value.charAt(0) == brackets.charAt(0)
+				&& value.charAt(end - 1) == brackets.charAt(brackets.length() - 1)) {
+			start = 1;
+			end--;
+		}
+		return new int[]{start, end};
+	}
+
+	private static String separator(final String delimiter) {
+		return delimiter == null || delimiter.isEmpty() ? " " : delimiter;
+	}
+
+	private static boolean isBlank(final String value, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if (!Character.isWhitespace(value.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
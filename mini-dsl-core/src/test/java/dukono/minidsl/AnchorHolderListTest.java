@@ -0,0 +1,52 @@
+package dukono.minidsl;
+
+import dukono.minidsl.example.Api;
+import dukono.minidsl.example.Item;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnchorHolderListTest {
+
+	@Test
+	void when_streaming_collapse_then_same_result_as_list_collapse() {
+		// Más items que un chunk para forzar varios runs en paralelo y el merge
+		final List<Item> items = IntStream.range(0, AnchorHolderList.STREAM_CHUNK_SIZE * 3 + 17)
+				.mapToObj(i -> Item.builder().year((i * 7919) % 5000).build()).toList();
+
+		final List<String> expected = Api.from()
+				.listCollapseOr(items, one -> one.field(f -> f.YEAR).equalTo(Item::getYear)).getDto()
+				.filtersAsString();
+		final List<String> streamed = Api.from()
+				.listCollapseOr(items.stream(), one -> one.field(f -> f.YEAR).equalTo(Item::getYear), false).getDto()
+				.filtersAsString();
+
+		assertThat(streamed).isEqualTo(expected);
+	}
+
+	@Test
+	void when_streaming_collapse_distinct_then_duplicates_removed() {
+		final List<Item> items = IntStream.range(0, 3000).mapToObj(i -> Item.builder().year(i % 3).build()).toList();
+
+		final List<String> streamed = Api.from()
+				.listCollapseOr(items.stream(), one -> one.field(f -> f.YEAR).equalTo(Item::getYear), true).getDto()
+				.filtersAsString();
+
+		assertThat(streamed).containsExactly("YEAR eq 0 or YEAR eq 1 or YEAR eq 2");
+	}
+
+	@Test
+	void when_list_capacity_overflows_int_then_default_capacity() {
+		assertThat(AnchorOperationsBasic.listCapacity(3, 20, ",")).isEqualTo(65);
+		assertThat(AnchorOperationsBasic.listCapacity(0, 20, null)).isEqualTo(2);
+		// 100M valores de 20 dígitos más ", " desbordan int
+		assertThat(AnchorOperationsBasic.listCapacity(100_000_000, 20, ", "))
+				.isEqualTo(AnchorOperationsBasic.DEFAULT_LIST_CAPACITY);
+		assertThat(AnchorOperationsBasic.listCapacity(Integer.MAX_VALUE, 20, "|"))
+				.isEqualTo(AnchorOperationsBasic.DEFAULT_LIST_CAPACITY);
+	}
+
+}
@@ -0,0 +1,59 @@
+package dukono.minidsl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteQueryParserTest {
+
+	private static final Query.ParseConfig CONFIG = Query.ParseConfig.builder().valueOperators(Set.of("eq", "in"))
+			.noValueOperators(Set.of("is_not_null")).validFields(Set.of("name", "city", "tag"))
+			.logicalOperators(Set.of("and", "or")).allowUnknownOperators(false).build();
+
+	private static final List<String> LINES = List.of("name eq José and (city in Cádiz|Sevilla)",
+			"  tag\tis_not_null or NAME eq 名前  ", "", "unknown eq 1 and city", "(name eq a)or(tag eq b)");
+
+	@Test
+	void when_heap_or_direct_buffer_then_same_queries_as_string_parser() {
+		final ByteQueryParser parser = new ByteQueryParser(CONFIG);
+		for (final String line : LINES) {
+			final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+			final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+			final List<Query> expected = Query.parseQueries(line, CONFIG);
+
+			assertThat(parser.parse(ByteBuffer.wrap(bytes))).as(line).isEqualTo(expected);
+			assertThat(parser.parse(direct)).as(line).isEqualTo(expected);
+		}
+		final List<Query> first = parser.parse(ByteBuffer.wrap("name eq x".getBytes(StandardCharsets.UTF_8)));
+		final List<Query> second = parser.parse(ByteBuffer.wrap("name eq y".getBytes(StandardCharsets.UTF_8)));
+		assertThat(second.getFirst().getKey()).isSameAs(first.getFirst().getKey());
+	}
+
+	@Test
+	void when_mapped_in_small_windows_then_lines_are_not_split(@TempDir final Path dir) throws Exception {
+		final Path file = dir.resolve("filters.txt");
+		final List<String> lines = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			lines.add(LINES.get(i % LINES.size()));
+		}
+		Files.write(file, lines, StandardCharsets.UTF_8);
+
+		final List<List<Query>> parsed = new ArrayList<>();
+		final long count = new ByteQueryParser(CONFIG).parseFile(file, parsed::add, 16);
+
+		final List<List<Query>> expected = lines.stream().map(line -> Query.parseQueries(line, CONFIG))
+				.filter(queries -> !queries.isEmpty()).toList();
+		assertThat(count).isEqualTo(expected.size());
+		assertThat(parsed).isEqualTo(expected);
+	}
+
+}
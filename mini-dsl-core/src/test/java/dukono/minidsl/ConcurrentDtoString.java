@@ -0,0 +1,10 @@
+package dukono.minidsl;
+
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@NoArgsConstructor
+public class ConcurrentDtoString extends ConcurrentDto {
+
+}
@@ -0,0 +1,126 @@
+package dukono.minidsl;
+
+import dukono.minidsl.example.Api;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentDtoTest {
+
+	private static final int THREADS = 8;
+	private static final int FILTERS_PER_THREAD = 2_000;
+
+	private static Queries filter(final int thread, final int i) {
+		return Api.from().field(f -> f.YEAR).equalTo(thread * FILTERS_PER_THREAD + i).getDto().getFilters()
+				.getFirst();
+	}
+
+	@Test
+	void when_same_filters_then_same_output_as_sequential_dto() {
+		final DtoString sequential = new DtoString();
+		final ConcurrentDtoString concurrent = new ConcurrentDtoString();
+		IntStream.range(0, 500).forEach(i -> {
+			sequential.addFilter(filter(i % 3, 500 - i));
+			concurrent.addFilter(filter(i % 3, 500 - i));
+		});
+
+		assertThat(concurrent.filtersAsString()).isEqualTo(sequential.filtersAsString());
+		assertThat(concurrent.filtersAsJson()).hasSameSizeAs(sequential.filtersAsJson());
+
+		final List<Queries> toRemove = List.of(filter(0, 500), filter(1, 499));
+		sequential.removeFiltersExactMatch(toRemove);
+		concurrent.removeFiltersExactMatch(toRemove);
+
+		assertThat(concurrent.filtersAsString()).isEqualTo(sequential.filtersAsString()).hasSize(498);
+		assertThat(concurrent.freeze()).isEqualTo(sequential.freeze());
+	}
+
+	@Test
+	void when_replaced_after_read_then_returned_snapshot_unchanged() {
+		final ConcurrentDtoString concurrent = new ConcurrentDtoString();
+		IntStream.range(0, 10).forEach(i -> concurrent.addFilter(filter(0, i)));
+		final List<Queries> sorted = concurrent.getFiltersSorted();
+		final List<String> before = sorted.stream().map(Queries::filtersAsString).toList();
+
+		concurrent.replaceFilters(Map.of(filter(0, 0), filter(1, 0)));
+
+		// El snapshot entregado son copias: replaceFilters no lo reescribe
+		assertThat(sorted).extracting(Queries::filtersAsString).containsExactlyElementsOf(before);
+		assertThat(concurrent.filtersAsString()).contains(filter(1, 0).filtersAsString());
+	}
+
+	@Test
+	void when_mutators_run_while_appending_then_same_result_as_sequential_dto() throws Exception {
+		final List<Queries> victims = IntStream.range(0, 10).mapToObj(i -> filter(-1, i)).toList();
+		final Map<Queries, Queries> replacements = new LinkedHashMap<>();
+		IntStream.range(10, 20).forEach(i -> replacements.put(filter(-1, i),
+				Api.from().field(f -> f.MARCA).equalTo("replaced-" + i).getDto().getFilters().getFirst()));
+
+		final ConcurrentDtoString concurrent = new ConcurrentDtoString();
+		IntStream.range(0, 20).forEach(i -> concurrent.addFilter(filter(-1, i)));
+
+		final ExecutorService executor = Executors.newFixedThreadPool(THREADS + 2);
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Future<?>> appenders = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			final int thread = t;
+			appenders.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < FILTERS_PER_THREAD; i++) {
+					concurrent.addFilter(filter(thread, i));
+				}
+				return null;
+			}));
+		}
+		// Mutaciones y lecturas repetidas mientras los productores siguen añadiendo
+		final Future<?> mutator = executor.submit(() -> {
+			start.await();
+			do {
+				concurrent.removeFiltersExactMatch(victims);
+				concurrent.replaceFilters(replacements);
+			} while (appenders.stream().anyMatch(appender -> !appender.isDone()));
+			return null;
+		});
+		final Future<?> reader = executor.submit(() -> {
+			start.await();
+			do {
+				// replaceFilters cambia las Queries en sitio: el orden solo se comprueba al final
+				assertThat(concurrent.getFiltersSorted()).hasSizeGreaterThanOrEqualTo(replacements.size());
+			} while (appenders.stream().anyMatch(appender -> !appender.isDone()));
+			return null;
+		});
+		start.countDown();
+		for (final Future<?> appender : appenders) {
+			appender.get(1, TimeUnit.MINUTES);
+		}
+		mutator.get(1, TimeUnit.MINUTES);
+		reader.get(1, TimeUnit.MINUTES);
+		executor.shutdown();
+
+		final DtoString sequential = new DtoString();
+		IntStream.range(0, 20).forEach(i -> sequential.addFilter(filter(-1, i)));
+		sequential.removeFiltersExactMatch(victims);
+		sequential.replaceFilters(replacements);
+		for (int t = 0; t < THREADS; t++) {
+			for (int i = 0; i < FILTERS_PER_THREAD; i++) {
+				sequential.addFilter(filter(t, i));
+			}
+		}
+		assertThat(concurrent.getFiltersSorted()).hasSize(THREADS * FILTERS_PER_THREAD + replacements.size())
+				.isSortedAccordingTo(Dto.QUERIES_COMPARATOR);
+		assertThat(concurrent.filtersAsString()).isEqualTo(sequential.filtersAsString())
+				.contains("MARCA eq replaced-10").doesNotContain("YEAR eq -2000");
+	}
+
+}
@@ -0,0 +1,120 @@
+package dukono.minidsl;
+
+import dukono.minidsl.example.Api;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FrozenDtoTest {
+
+	private static DtoString sample() {
+		return Api.from().field(f -> f.YEAR).equalTo(2030).other().field(f -> f.MARCA).equalTo("seat").and()
+				.field(f -> f.YEAR).isNotNull().getDto();
+	}
+
+	@Test
+	void when_frozen_then_same_rendering_as_source() {
+		final DtoString dto = sample();
+		final FrozenDto frozen = dto.freeze();
+
+		assertThat(frozen.filtersAsString()).isEqualTo(dto.filtersAsString());
+		// JSON en orden de los filtros ordenados: el mismo que da un DTO descongelado
+		assertThat(frozen.filtersAsJson()).isEqualTo(frozen.thaw(DtoString::new).filtersAsJson())
+				.isEqualTo(new DtoString().addFilter(dto.getFiltersSorted()).filtersAsJson());
+		assertThat(frozen.fingerprint(0)).isEqualTo(dto.getFiltersSorted().getFirst().fingerprint());
+		assertThat(frozen).isEqualTo(sample().freeze());
+	}
+
+	@Test
+	void when_source_or_snapshot_mutated_then_snapshot_unchanged() {
+		final DtoString dto = sample();
+		final FrozenDto frozen = dto.freeze();
+		final List<String> before = frozen.filtersAsString();
+
+		dto.removeFilters();
+		assertThat(frozen.filtersAsString()).isEqualTo(before);
+
+		assertThatThrownBy(() -> frozen.getFilters().clear()).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> frozen.getFilters().getFirst().add(Query.AND))
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void when_shared_filters_mutated_then_rejected_and_snapshot_unchanged() {
+		final FrozenDto frozen = sample().freeze();
+		final List<String> before = frozen.filtersAsString();
+		final String json = frozen.filtersAsJson();
+		final Queries shared = frozen.thaw(DtoString::new).getFiltersSorted().getFirst();
+		final Query token = shared.getQueries().getFirst();
+
+		assertThatThrownBy(() -> shared.replace(token, Query.from("MARCA", "eq", "evil"), Query.COMPARATOR_FULL))
+				.isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> shared.replace(shared, Queries.builder().build()))
+				.isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> shared.remove(List.of(token), Query.COMPARATOR_KEY))
+				.isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> shared.setQueries(new ArrayList<>())).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> token.set(Query.from("MARCA", "eq", "evil")))
+				.isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> token.setValue(Optional.of("evil"))).isInstanceOf(UnsupportedOperationException.class);
+
+		assertThat(frozen.getFilters().getFirst().filtersAsString()).isEqualTo(before.getFirst());
+		assertThat(frozen.thaw(DtoString::new).filtersAsString()).isEqualTo(before);
+		assertThat(frozen.thaw(DtoString::new).filtersAsJson()).isEqualTo(json).doesNotContain("evil");
+		assertThat(frozen).isEqualTo(sample().freeze());
+	}
+
+	@Test
+	void when_thawed_dto_replaces_then_only_its_copy_changes() {
+		final FrozenDto frozen = sample().freeze();
+		final DtoString thawed = frozen.thaw(DtoString::new);
+
+		thawed.replaceFilters(Map.of(Api.from().field(f -> f.YEAR).equalTo(2030).getDto().getFilters().getFirst(),
+				Api.from().field(f -> f.YEAR).equalTo(1999).getDto().getFilters().getFirst()));
+
+		assertThat(thawed.filtersAsString()).contains("YEAR eq 1999");
+		assertThat(frozen.filtersAsString()).contains("YEAR eq 2030").isEqualTo(sample().filtersAsString());
+		assertThat(frozen.thaw(DtoString::new).getFiltersSorted()).extracting(Queries::filtersAsString)
+				.containsExactlyElementsOf(frozen.filtersAsString());
+	}
+
+	@Test
+	void when_thawed_then_copy_on_write() {
+		final FrozenDto frozen = sample().freeze();
+		final DtoString thawed = frozen.thaw(DtoString::new);
+
+		assertThat(thawed.filtersAsString()).isEqualTo(frozen.filtersAsString());
+
+		thawed.addFilter(Api.from().field(f -> f.MARCA).justAdd().getDto().getFilters());
+		thawed.getFilters().getFirst().add(Query.OR);
+
+		assertThat(thawed.filtersAsString()).hasSize(3);
+		assertThat(frozen.filtersAsString()).hasSize(2).isEqualTo(sample().filtersAsString());
+	}
+
+	@Test
+	void when_read_concurrently_then_consistent() throws Exception {
+		final FrozenDto frozen = sample().freeze();
+		final List<String> expected = frozen.filtersAsString();
+		final ConcurrentHashMap<List<String>, Boolean> seen = new ConcurrentHashMap<>();
+
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			IntStream.range(0, 1_000).forEach(i -> executor.submit(() -> {
+				seen.put(frozen.thaw(DtoString::new).filtersAsString(), Boolean.TRUE);
+				seen.put(frozen.filtersAsString(), Boolean.TRUE);
+			}));
+		}
+
+		assertThat(seen.keySet()).containsExactly(expected);
+	}
+
+}
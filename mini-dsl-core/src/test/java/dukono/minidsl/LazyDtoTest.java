@@ -0,0 +1,69 @@
+package dukono.minidsl;
+
+import dukono.minidsl.example.Api;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LazyDtoTest {
+
+	private static final Query.ParseConfig CONFIG = Query.ParseConfig.builder().valueOperators(Set.of("eq", "in"))
+			.noValueOperators(Set.of("is_not_null")).validFields(Set.of("MARCA", "YEAR"))
+			.logicalOperators(Set.of("and", "or")).allowUnknownOperators(false).build();
+
+	private static final List<String> INPUTS = List.of("YEAR in 2010|2030", "  (MARCA eq seat)or(YEAR is_not_null) ",
+			"MARCA   eq\taudi and YEAR eq 2026");
+
+	@Test
+	void when_untouched_then_strings_match_eager_parse_without_parsing() {
+		final DtoString lazy = new DtoString().parseFiltersLazy(INPUTS, CONFIG);
+		final DtoString eager = new DtoString().parseFilters(INPUTS, CONFIG);
+
+		assertThat(lazy.filtersAsString()).isEqualTo(eager.filtersAsString());
+		// Sigue sin parsear: la lista interna no se ha construido
+		assertThat(lazy.filtersAsString()).isEqualTo(eager.filtersAsString());
+		assertThat(lazy.getFiltersSorted()).hasSize(3);
+		assertThat(lazy.filtersAsJson()).isEqualTo(eager.filtersAsJson());
+	}
+
+	@Test
+	void when_inputs_differ_in_whitespace_then_first_seen_is_kept_in_order() {
+		final List<String> inputs = List.of("YEAR eq 2026", "MARCA eq seat", "YEAR  eq\t2026", " MARCA eq seat ",
+				"YEAR in 1|2");
+		final DtoString eager = new DtoString().parseFilters(inputs, CONFIG);
+		final DtoString lazy = new DtoString().parseFiltersLazy(inputs, CONFIG);
+
+		assertThat(eager.getFilters()).extracting(Queries::filtersAsString).containsExactly("YEAR eq 2026",
+				"MARCA eq seat", "YEAR in 1|2");
+		assertThat(lazy.filtersAsString()).isEqualTo(eager.filtersAsString()).hasSize(3);
+		assertThat(lazy.filtersAsJson()).isEqualTo(eager.filtersAsJson());
+	}
+
+	@Test
+	void when_mutated_then_inputs_are_parsed_first() {
+		final DtoString lazy = new DtoString().parseFiltersLazy(INPUTS, CONFIG);
+		lazy.addFilter(Api.from().field(f -> f.MARCA).equalTo("bmw").getDto().getFilters());
+
+		assertThat(lazy.filtersAsString()).hasSize(4).contains("MARCA eq bmw", "YEAR in 2010|2030");
+
+		final DtoString removed = new DtoString().parseFiltersLazy(INPUTS, CONFIG);
+		removed.removeFilters();
+		assertThat(removed.filtersAsString()).isEmpty();
+	}
+
+	@Test
+	void when_concurrent_dto_then_inputs_are_parsed_right_away() {
+		final ConcurrentDtoString lazy = new ConcurrentDtoString().parseFiltersLazy(INPUTS, CONFIG);
+		final DtoString eager = new DtoString().parseFilters(INPUTS, CONFIG);
+
+		assertThat(lazy.getFiltersSorted()).hasSize(3);
+		assertThat(lazy.filtersAsJson()).isEqualTo(eager.filtersAsJson());
+
+		lazy.addFilter(Api.from().field(f -> f.MARCA).equalTo("bmw").getDto().getFilters());
+		assertThat(lazy.filtersAsString()).hasSize(4).contains("MARCA eq bmw", "YEAR in 2010|2030");
+	}
+
+}
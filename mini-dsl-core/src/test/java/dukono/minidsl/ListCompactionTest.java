@@ -0,0 +1,132 @@
+package dukono.minidsl;
+
+import dukono.minidsl.annotation.OperationDefinition;
+import dukono.minidsl.annotation.OperationType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ListCompactionTest {
+
+	enum Ops implements OperationDefinition {
+		EQ("eq", OperationType.WITH_ARG, "in"), GT("gt", OperationType.WITH_ARG, null), IN("in",
+				OperationType.WITH_LIST, null);
+
+		private final String operator;
+		private final OperationType type;
+		private final String listOperator;
+
+		Ops(final String operator, final OperationType type, final String listOperator) {
+			this.operator = operator;
+			this.type = type;
+			this.listOperator = listOperator;
+		}
+
+		@Override
+		public String getName() {
+			return this.name().toLowerCase();
+		}
+
+		@Override
+		public String getOperator() {
+			return this.operator;
+		}
+
+		@Override
+		public OperationType getType() {
+			return this.type;
+		}
+
+		@Override
+		public String getListDelimiter() {
+			return ",";
+		}
+
+		@Override
+		public String getListBrackets() {
+			return "[]";
+		}
+
+		@Override
+		public String getListOperator() {
+			return this.listOperator;
+		}
+	}
+
+	enum BrokenOps implements OperationDefinition {
+		EQ;
+
+		@Override
+		public String getName() {
+			return "eq";
+		}
+
+		@Override
+		public String getOperator() {
+			return "eq";
+		}
+
+		@Override
+		public OperationType getType() {
+			return OperationType.WITH_ARG;
+		}
+
+		@Override
+		public String getListOperator() {
+			return "in";
+		}
+	}
+
+	private static final ListCompaction COMPACTION = ListCompaction.of(Ops.class);
+
+	@Test
+	void when_or_of_same_key_and_op_then_single_list_atom() {
+		final Queries compacted = COMPACTION.compact(atoms("ORDER_ID", "eq", 3, 1, 2), Query.OR);
+
+		assertThat(compacted.filtersAsString()).isEqualTo("ORDER_ID in [1,2,3]");
+	}
+
+	@Test
+	void when_distinct_then_repeated_values_written_once() {
+		assertThat(COMPACTION.compact(atoms("ORDER_ID", "eq", 2, 1, 1, 2, 1), Query.OR, true).filtersAsString())
+				.isEqualTo("ORDER_ID in [1,2]");
+		assertThat(COMPACTION.compact(atoms("ORDER_ID", "eq", 2, 1, 1), Query.OR, false).filtersAsString())
+				.isEqualTo("ORDER_ID in [1,1,2]");
+	}
+
+	@Test
+	void when_not_compactable_then_null() {
+		assertThat(COMPACTION.compact(atoms("ORDER_ID", "eq", 1, 2), Query.AND)).isNull();
+		assertThat(COMPACTION.compact(atoms("ORDER_ID", "gt", 1, 2), Query.OR)).isNull();
+		assertThat(COMPACTION.compact(atoms("ORDER_ID", "eq", 1), Query.OR)).isNull();
+
+		final List<Queries> mixedKeys = atoms("ORDER_ID", "eq", 1);
+		mixedKeys.addAll(atoms("STATUS", "eq", 2));
+		assertThat(COMPACTION.compact(mixedKeys, Query.OR)).isNull();
+
+		final List<Queries> composite = atoms("ORDER_ID", "eq", 1, 2);
+		composite.getFirst().add(Query.AND);
+		assertThat(COMPACTION.compact(composite, Query.OR)).isNull();
+	}
+
+	@Test
+	void when_list_operator_missing_then_fails() {
+		assertThatThrownBy(() -> ListCompaction.of(BrokenOps.class)).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("'in'");
+	}
+
+	private static List<Queries> atoms(final String key, final String op, final Object... values) {
+		final List<Queries> result = new ArrayList<>();
+		for (final Object value : values) {
+			final Queries q = Queries.builder().build();
+			q.add(Query.from(key, op, value));
+			result.add(q);
+		}
+		return result;
+	}
+
+}
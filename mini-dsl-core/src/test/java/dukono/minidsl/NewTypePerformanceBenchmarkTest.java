@@ -1,21 +1,33 @@
 package dukono.minidsl;
 
+import dukono.minidsl.example.AnchorActions;
 import dukono.minidsl.example.AnchorList;
 import dukono.minidsl.example.AnchorMain;
 import dukono.minidsl.example.AnchorOne;
+import dukono.minidsl.example.Api;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+/**
+ * Relative comparisons of {@link AnchorHolderMain#newType}. Absolute timings
+ * are printed but not asserted: they depend on the machine. Regressions are
+ * checked by the JMH suite in mini-dsl-benchmarks against its committed
+ * baseline ({@code mvn -pl mini-dsl-benchmarks -am verify -Pbench-compare}).
+ */
 class NewTypePerformanceBenchmarkTest {
 
 	private static final int WARMUP_ITERATIONS = 10_000;
@@ -49,9 +61,8 @@ class NewTypePerformanceBenchmarkTest {
 		System.out.printf("Tiempo promedio: %.2f ns por llamada%n", avgNs);
 		System.out.printf("Throughput: %,.0f llamadas/segundo%n%n", (BENCHMARK_ITERATIONS / totalMs) * 1000);
 
-		// Validar que es razonablemente rápido (< 1000 ns promedio es excelente)
-		// Con caché de constructores, esperamos ~100-500 ns en single-thread
-		assertThat(avgNs).as("Performance en single-thread debe ser menor a 1000 ns").isLessThan(1000.0);
+		// Sin umbral absoluto: las regresiones se detectan contra la baseline de
+		// mini-dsl-benchmarks (perfil bench-compare)
 	}
 
 	@Test
@@ -99,11 +110,6 @@ class NewTypePerformanceBenchmarkTest {
 		System.out.printf("Tiempo promedio por thread: %.2f ms%n", totalMs);
 		System.out.printf("Tiempo promedio por llamada: %.2f ns%n", avgNs);
 		System.out.printf("Throughput total: %,.0f llamadas/segundo%n%n", (BENCHMARK_ITERATIONS / totalMs) * 1000);
-
-		// En multi-thread, esperamos overhead debido a contención en ConcurrentHashMap
-		// Valor realista: ~1000 ns es aceptable para 8 threads concurrentes
-		assertThat(avgNs).as("Performance en multi-thread (%d threads) debe ser menor a 2000 ns", CONCURRENT_THREADS)
-				.isLessThan(2000.0);
 	}
 
 	@Test
@@ -207,13 +213,6 @@ class NewTypePerformanceBenchmarkTest {
 		// optimizaciones JIT
 		// El test de múltiples tipos (benchmarkComparison_RealWorldScenario) es más
 		// representativo
-
-		// Assertion mínima: ambos tiempos deben ser positivos y razonables
-		assertThat(avgWithCache).as("Tiempo con caché debe ser positivo y menor a 10000 ns").isPositive()
-				.isLessThan(10000.0);
-
-		assertThat(avgWithoutCache).as("Tiempo sin caché debe ser positivo y menor a 50000 ns").isPositive()
-				.isLessThan(50000.0);
 	}
 
 	@Test
@@ -283,12 +282,6 @@ class NewTypePerformanceBenchmarkTest {
 		// Con múltiples tipos, el caché debe mostrar más beneficio
 		System.out.println(
 				"✅ Escenario real: El caché evita " + types.size() + " búsquedas de constructores repetitivas.");
-
-		// Validar que ambas implementaciones funcionan y tienen tiempos razonables
-		assertThat(avgWithCache).as("Tiempo con caché debe ser positivo y eficiente (< 5000 ns)").isPositive()
-				.isLessThan(5000.0);
-
-		assertThat(avgWithoutCache).as("Tiempo sin caché debe ser positivo").isPositive();
 	}
 
 	@Test
@@ -332,10 +325,6 @@ class NewTypePerformanceBenchmarkTest {
 		System.out.printf("Tiempo total: %.2f ms%n", totalMs);
 		System.out.printf("Tiempo promedio: %.2f ns por llamada%n", avgNs);
 		System.out.printf("Throughput: %,.0f llamadas/segundo%n%n", (BENCHMARK_ITERATIONS / totalMs) * 1000);
-
-		// Validar que el throughput con múltiples tipos es razonable
-		assertThat(avgNs).as("Performance con múltiples tipos debe ser menor a 5000 ns").isPositive()
-				.isLessThan(5000.0);
 	}
 
 	@Test
@@ -370,11 +359,6 @@ class NewTypePerformanceBenchmarkTest {
 		System.out.printf("Segunda llamada (avg):  %.2f ns%n", avgSecond);
 		System.out.printf("Overhead primera:       %.2f ns%n", avgFirst - avgSecond);
 		System.out.printf("Factor:                 %.1fx más lenta%n%n", avgFirst / avgSecond);
-
-		// Validar que ambas llamadas son razonablemente rápidas
-		assertThat(avgFirst).as("Primera llamada debe ser menor a 10000 ns").isPositive().isLessThan(10000.0);
-
-		assertThat(avgSecond).as("Segunda llamada debe ser menor a 5000 ns").isPositive().isLessThan(5000.0);
 	}
 
 	/**
@@ -538,4 +522,91 @@ class NewTypePerformanceBenchmarkTest {
 		assertThat(errors.get()).as("No debe haber errores en stress test con %d threads", threads).isZero();
 	}
 
+	@Test
+	void benchmarkPooledAnchor_AllocationRate() {
+		System.out.println("\n=== BENCHMARK: Anchor reutilizable (pool) vs nuevo ===\n");
+
+		final AnchorPool<AnchorActions> pool = new AnchorPool<>(AnchorActions::new);
+		final Supplier<AnchorActions> fresh = AnchorActions::new;
+
+		// Warmup
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			buildFilter(fresh.get(), i);
+			buildFilter(pool.acquire(), i);
+		}
+
+		final double freshBytes = allocatedBytesPerCall(() -> buildFilter(fresh.get(), 7));
+		final double pooledBytes = allocatedBytesPerCall(() -> buildFilter(pool.acquire(), 7));
+
+		System.out.printf("Nuevo:  %.1f bytes por filtro%n", freshBytes);
+		System.out.printf("Pool:   %.1f bytes por filtro%n", pooledBytes);
+		System.out.printf("Ahorro: %.1f%%%n%n", (1 - pooledBytes / freshBytes) * 100);
+
+		assertThat(pool.acquire().getDto().getFilters()).as("El anchor del pool debe llegar vacío").isEmpty();
+		assertThat(pooledBytes).as("El pool debe asignar menos memoria que crear anchors nuevos")
+				.isLessThan(freshBytes);
+	}
+
+	@Test
+	void benchmarkPrimitiveListFormatting() {
+		System.out.println("\n=== BENCHMARK: IN-list con long[] vs Collection<Long> ===\n");
+
+		final long[] ids = new Random(42).longs(10_000, 0, 1_000_000_000L).toArray();
+		final List<Long> boxed = Arrays.stream(ids).boxed().toList();
+		final int iterations = 200;
+
+		assertThat(Api.from().field(f -> f.YEAR).inValues(new long[]{10, 9}).getDto()
+				.filtersAsString()).as("Orden numérico, no de strings").containsExactly("YEAR in 9|10");
+
+		for (int i = 0; i < iterations; i++) {
+			Api.from().field(f -> f.YEAR).inValues(boxed).getDto();
+			Api.from().field(f -> f.YEAR).inValues(ids).getDto();
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			Api.from().field(f -> f.YEAR).inValues(boxed).getDto();
+		}
+		final double boxedMs = (System.nanoTime() - start) / 1_000_000.0 / iterations;
+
+		start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			Api.from().field(f -> f.YEAR).inValues(ids).getDto();
+		}
+		final double primitiveMs = (System.nanoTime() - start) / 1_000_000.0 / iterations;
+
+		System.out.printf("Collection<Long>: %.3f ms por lista%n", boxedMs);
+		System.out.printf("long[]:           %.3f ms por lista%n", primitiveMs);
+		System.out.printf("Speedup:          %.1fx%n", boxedMs / primitiveMs);
+
+		// La asignación por hilo no depende de la carga de la máquina, el tiempo sí
+		final double boxedBytes = allocatedBytesPerCall(() -> Api.from().field(f -> f.YEAR).inValues(boxed).getDto(),
+				iterations);
+		final double primitiveBytes = allocatedBytesPerCall(
+				() -> Api.from().field(f -> f.YEAR).inValues(ids).getDto(), iterations);
+		System.out.printf("Collection<Long>: %.0f bytes por lista%n", boxedBytes);
+		System.out.printf("long[]:           %.0f bytes por lista%n%n", primitiveBytes);
+
+		assertThat(primitiveBytes).as("long[] debe asignar menos memoria que Collection<Long>").isLessThan(boxedBytes);
+	}
+
+	private static void buildFilter(final AnchorActions anchor, final int value) {
+		anchor.field(f -> f.MARCA).equalTo(value).and().field(f -> f.YEAR).isNotNull().getDto();
+	}
+
+	private static double allocatedBytesPerCall(final Runnable call) {
+		return allocatedBytesPerCall(call, BENCHMARK_ITERATIONS);
+	}
+
+	private static double allocatedBytesPerCall(final Runnable call, final int iterations) {
+		final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		final long threadId = Thread.currentThread().threadId();
+		final long before = threads.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < iterations; i++) {
+			call.run();
+		}
+		return (threads.getThreadAllocatedBytes(threadId) - before) / (double) iterations;
+	}
+
 }
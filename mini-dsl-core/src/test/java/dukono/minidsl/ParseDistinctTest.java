@@ -0,0 +1,72 @@
+package dukono.minidsl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * De-duplication of the filters parsed by {@link Dto#parseFilters}: filters
+ * that render the same are kept once, at the position of the first one seen.
+ */
+class ParseDistinctTest {
+
+	private static final Query.ParseConfig CONFIG = Query.ParseConfig.builder().valueOperators(Set.of("eq", "in"))
+			.noValueOperators(Set.of("is_not_null")).validFields(Set.of("MARCA", "YEAR"))
+			.logicalOperators(Set.of("and", "or")).allowUnknownOperators(false).build();
+
+	@Test
+	void when_whitespace_variants_then_merged_into_first_seen() {
+		final List<String> inputs = List.of("MARCA eq seat and YEAR eq 2026", "YEAR in 1|2",
+				"  MARCA\teq seat  and\nYEAR   eq 2026", "YEAR is_not_null", "YEAR in 1|2 ", "MARCA eq audi",
+				"YEAR\tis_not_null");
+
+		final DtoString dto = new DtoString().parseFilters(inputs, CONFIG);
+
+		assertThat(dto.getFilters()).extracting(Queries::filtersAsString).containsExactly(
+				"MARCA eq seat and YEAR eq 2026", "YEAR in 1|2", "YEAR is_not_null", "MARCA eq audi");
+	}
+
+	@Test
+	void when_many_duplicates_then_first_seen_order_kept() {
+		// Cada valor aparece varias veces, la primera sin espacios extra y las demás con
+		final List<String> inputs = new ArrayList<>();
+		for (int round = 0; round < 20; round++) {
+			for (int year = 0; year < 50; year++) {
+				inputs.add(round == 0 ? "YEAR eq " + year : "  YEAR\teq  " + year + " ".repeat(round));
+			}
+		}
+
+		final DtoString dto = new DtoString().parseFilters(inputs, CONFIG);
+
+		assertThat(dto.getFilters()).extracting(Queries::filtersAsString)
+				.containsExactlyElementsOf(IntStream.range(0, 50).mapToObj(year -> "YEAR eq " + year).toList());
+	}
+
+	@Test
+	void when_fingerprints_collide_then_every_filter_with_that_fingerprint_is_checked() {
+		final List<Queries> parsed = List.of(new Colliding("YEAR eq 1"), new Colliding("YEAR eq 2"));
+
+		assertThat(Dto.seenBefore(parsed, 0, new Colliding("YEAR eq 1"))).isTrue();
+		assertThat(Dto.seenBefore(parsed, 0, new Colliding("YEAR eq 2"))).isTrue();
+		assertThat(Dto.seenBefore(parsed, 0, new Colliding("YEAR eq 3"))).isFalse();
+	}
+
+	/**
+	 * Every instance has the same fingerprint, whatever it renders.
+	 */
+	private static final class Colliding extends Queries {
+		Colliding(final String filter) {
+			super(List.of(Query.from(filter)), filter);
+		}
+
+		@Override
+		public long fingerprint() {
+			return 1L;
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package dukono.minidsl;
+
+import dukono.minidsl.example.Api;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PreparedFilterTest {
+
+	private static final PreparedFilter SHAPE = Api.from().field(f -> f.MARCA).equalTo(PreparedFilter.SLOT).and()
+			.field(f -> f.YEAR).inValues(PreparedFilter.LIST_SLOT).getDto().prepare();
+
+	@Test
+	void when_values_bound_then_rendered_like_fluent_chain() {
+		final List<String> fluent = Api.from().field(f -> f.MARCA).equalTo("seat").and().field(f -> f.YEAR)
+				.inValues(List.of(2030, 2010)).getDto().filtersAsString();
+
+		assertThat(SHAPE.getSlotCount()).isEqualTo(2);
+		assertThat(SHAPE.render("seat", List.of(2030, 2010))).isEqualTo(fluent)
+				.containsExactly("MARCA eq seat and YEAR in 2010|2030");
+	}
+
+	@Test
+	void when_values_bound_to_dto_then_queries_hold_values() {
+		final DtoString dto = SHAPE.toDto(DtoString::new, "audi", List.of(2026));
+
+		assertThat(dto.filtersAsString()).containsExactly("MARCA eq audi and YEAR in 2026");
+		assertThat(dto.getFilters().getFirst().getQueries()).extracting(Query::getValueAsString)
+				.containsExactly("audi", "", "2026");
+	}
+
+	@Test
+	void when_template_reused_then_each_binding_is_independent() {
+		assertThat(SHAPE.render(" a ", List.of())).containsExactly("MARCA eq a and YEAR in ");
+		assertThat(SHAPE.render("b", List.of("z", "y"))).containsExactly("MARCA eq b and YEAR in y|z");
+	}
+
+	@Test
+	void when_wrong_number_of_values_then_fails() {
+		assertThatThrownBy(() -> SHAPE.render("only-one")).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Expected 2");
+	}
+
+}
@@ -0,0 +1,62 @@
+package dukono.minidsl;
+
+import dukono.minidsl.example.Api;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SortKeyTest {
+
+	private static final char[] ALPHABET = {'\0', ' ', 'A', 'a', 'b', 'z', 'é', 'þ', 'ÿ', 'Ā',
+			'中'};
+
+	private static String random(final SplittableRandom random) {
+		final StringBuilder sb = new StringBuilder();
+		final int length = random.nextInt(12);
+		for (int i = 0; i < length; i++) {
+			// Pocos caracteres: muchos prefijos compartidos
+			sb.append(ALPHABET[random.nextInt(random.nextBoolean() ? 3 : ALPHABET.length)]);
+		}
+		return sb.toString();
+	}
+
+	@Test
+	void when_compared_then_same_order_as_rendered_strings() {
+		final SplittableRandom random = new SplittableRandom(7);
+		for (int i = 0; i < 20_000; i++) {
+			final String a = random(random);
+			final String b = random(random);
+			final Queries left = new Queries(List.of(Query.from(a)), a);
+			final Queries right = new Queries(List.of(Query.from(b)), b);
+			assertThat(Integer.signum(left.compareTo(right))).as("%s vs %s", a, b)
+					.isEqualTo(Integer.signum(a.compareTo(b)));
+
+			final Query first = Query.from(a, "eq", Optional.of(b));
+			final Query second = Query.from(b, "eq", Optional.of(a));
+			assertThat(Integer.signum(first.compareTo(second)))
+					.isEqualTo(Integer.signum(first.toCompare().compareTo(second.toCompare())));
+		}
+		assertThat(Query.from("YEAR", "eq", 21).compareTo(Query.from("YEAR2", "eq", 0))).isPositive();
+	}
+
+	@Test
+	void when_sorted_then_filters_keep_insertion_order() {
+		final DtoString dto = Api.from().field(f -> f.YEAR).equalTo(2030).other().field(f -> f.MARCA).equalTo("seat")
+				.getDto();
+		final List<Queries> inserted = new ArrayList<>(dto.getFilters());
+
+		final List<Queries> sorted = dto.getFiltersSorted();
+		assertThat(sorted).isSortedAccordingTo(Dto.QUERIES_COMPARATOR).containsExactlyInAnyOrderElementsOf(inserted);
+		assertThat(dto.getFilters()).containsExactlyElementsOf(inserted);
+		assertThatThrownBy(() -> sorted.add(inserted.getFirst())).isInstanceOf(UnsupportedOperationException.class);
+
+		dto.getFilters().add(Api.from().field(f -> f.MARCA).equalTo("audi").getDto().getFilters().getFirst());
+		assertThat(dto.getFiltersSorted()).hasSize(3).isSortedAccordingTo(Dto.QUERIES_COMPARATOR);
+	}
+}
@@ -0,0 +1,61 @@
+package dukono.minidsl.ast;
+
+import dukono.minidsl.Queries;
+import dukono.minidsl.Query;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExpressionsTest {
+
+	private static final Query.ParseConfig CONFIG = Query.ParseConfig.builder().valueOperators(Set.of("eq", "in"))
+			.noValueOperators(Set.of("is_not_null")).logicalOperators(Set.of("and", "or", "not"))
+			.allowUnknownOperators(false).build();
+
+	@Test
+	void when_mixed_operators_then_and_binds_tighter_than_or() {
+		final Expression expression = Expressions
+				.parse("a eq 1 or b eq 2 AND not (c in x|y or d is_not_null) and a eq 3", CONFIG).orElseThrow();
+
+		assertThat(expression).isInstanceOf(Or.class);
+		final Or or = (Or) expression;
+		assertThat(or.getOperands()).hasSize(2);
+		assertThat(or.getOperands().get(1)).isInstanceOf(And.class);
+		assertThat(((And) or.getOperands().get(1)).getOperands()).hasSize(3);
+		assertThat(((And) or.getOperands().get(1)).getOperands().get(1)).isInstanceOf(Not.class);
+
+		assertThat(expression.atomCount()).isEqualTo(5);
+		assertThat(expression.depth()).isEqualTo(5);
+		assertThat(expression.fields()).containsExactly("a", "b", "c", "d");
+	}
+
+	@Test
+	void when_converted_back_then_tokens_are_the_same_instances() {
+		final Queries queries = Queries.builder()
+				.queries(Query.parseQueries("(a eq 1) (b eq 2 or c eq 3) and d is_not_null", CONFIG)).build();
+
+		final Expression expression = queries.toExpression().orElseThrow();
+
+		assertThat(expression).isInstanceOf(And.class);
+		assertThat(((And) expression).getOperands().getFirst()).isInstanceOf(Seq.class);
+		assertThat(expression.tokens()).containsExactlyElementsOf(queries.getQueries());
+		assertThat(expression.toQueries().filtersAsString()).isEqualTo(queries.filtersAsString());
+		assertThat(queries.toExpression()).containsSame(expression);
+	}
+
+	@Test
+	void when_malformed_then_fails() {
+		assertThat(Expressions.of(List.of())).isEmpty();
+		assertThatThrownBy(() -> Expressions.parse("( a eq 1", CONFIG)).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Unbalanced");
+		assertThatThrownBy(() -> Expressions.parse("a eq 1 and", CONFIG))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> Expressions.parse("a eq 1 )", CONFIG)).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Unexpected ')'");
+	}
+
+}
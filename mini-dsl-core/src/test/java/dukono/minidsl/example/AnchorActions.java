@@ -14,6 +14,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 // @formatter:off
 public class AnchorActions extends
@@ -41,6 +42,11 @@ public class AnchorActions extends
 		return super.collapse(list, operator, Query.OR);
 	}
 
+	public <L> AnchorActions listCollapseOr(final Stream<L> items, final UnaryOperator<AnchorOne<L>> operator,
+			final boolean distinct) {
+		return super.collapse(items, operator, Query.OR, distinct);
+	}
+
 	public <L> AnchorActions listAddForEach(final List<L> list, final UnaryOperator<AnchorOne<L>> operator) {
 		return super.notCollapse(list, operator);
 	}
@@ -48,6 +48,14 @@ public class AnchorOperationsBase<H extends AnchorHolderMain<?, ?, H, ?>>
 		return this.create(Query.from(this.getName(), Operations.IN, this.listFormatting(arg)));
 	}
 
+	/**
+	 * Example: WITH_LIST with a primitive array - sorted numerically, no boxing
+	 * Result: "FIELD in 9|10"
+	 */
+	public H inValues(final long[] arg) {
+		return this.create(Query.from(this.getName(), Operations.IN, this.listFormatting(arg, this.getDelim(), "", true)));
+	}
+
 	/**
 	 * Example: WITH_EMPTY - Operation with operator but no argument Pattern:
 	 * getName() + operator + Optional.empty() Result: "FIELD is_not_null"
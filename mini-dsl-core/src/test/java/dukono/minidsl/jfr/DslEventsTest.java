@@ -0,0 +1,83 @@
+package dukono.minidsl.jfr;
+
+import dukono.minidsl.DtoString;
+import dukono.minidsl.Query;
+import dukono.minidsl.example.Api;
+import dukono.minidsl.example.Item;
+import dukono.minidsl.util.DomainRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DslEventsTest {
+
+	private static final Query.ParseConfig CONFIG = Query.ParseConfig.builder().valueOperators(Set.of("eq"))
+			.noValueOperators(Set.of()).validFields(Set.of("MARCA", "YEAR")).logicalOperators(Set.of("and", "or"))
+			.allowUnknownOperators(false).build();
+
+	@Test
+	void when_recording_then_hot_paths_emit_events(@TempDir final Path dir) throws Exception {
+		final Path file = dir.resolve("dsl.jfr");
+		try (Recording recording = new Recording()) {
+			List.of("dukono.minidsl.Parse", "dukono.minidsl.Collapse", "dukono.minidsl.Mutation",
+					"dukono.minidsl.CacheEviction").forEach(name -> recording.enable(name).withoutThreshold());
+			recording.start();
+
+			new DtoString().parseFilters(List.of("MARCA eq seat and YEAR eq 2020"), CONFIG);
+			final List<Item> items = List.of(Item.builder().year(1).build(), Item.builder().year(2).build());
+			Api.from().listCollapseOr(items, one -> one.field(f -> f.YEAR).equalTo(Item::getYear)).other()
+					.field(f -> f.MARCA).equalTo("audi").other()
+					.remove(remove -> remove.fullLine().byKey(api -> api.field(f -> f.MARCA).equalTo("x")));
+			DomainRegistry.clear();
+
+			recording.stop();
+			recording.dump(file);
+		}
+
+		final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		assertThat(events).anySatisfy(event -> {
+			assertThat(event.getEventType().getName()).isEqualTo("dukono.minidsl.Parse");
+			assertThat(event.getString("domain")).isEqualTo("ParseConfig");
+			assertThat(event.getInt("inputLength")).isEqualTo(30);
+			assertThat(event.getInt("tokens")).isEqualTo(7);
+			assertThat(event.getInt("atoms")).isEqualTo(3);
+		});
+		assertThat(events).anySatisfy(event -> {
+			assertThat(event.getEventType().getName()).isEqualTo("dukono.minidsl.Collapse");
+			assertThat(event.getString("operator")).isEqualTo("or");
+			assertThat(event.getInt("items")).isEqualTo(2);
+			assertThat(event.getInt("atoms")).isEqualTo(3);
+		});
+		assertThat(events).anySatisfy(event -> {
+			assertThat(event.getEventType().getName()).isEqualTo("dukono.minidsl.Mutation");
+			assertThat(event.getString("operation")).isEqualTo("remove");
+			assertThat(event.getInt("filtersBefore")).isEqualTo(2);
+			assertThat(event.getInt("filtersAfter")).isEqualTo(1);
+		});
+		assertThat(events).anySatisfy(event -> {
+			assertThat(event.getEventType().getName()).isEqualTo("dukono.minidsl.CacheEviction");
+			assertThat(event.getString("cache")).isEqualTo("ParseConfig");
+		});
+	}
+
+	@Test
+	void when_generated_nested_class_then_domain_is_the_enclosing_api() {
+		assertThat(DslEvents.domain(Query.ParseConfig.class)).isEqualTo("ParseConfig");
+		assertThat(DslEvents.domain(DtoString.class)).isEqualTo("DtoString");
+		assertThat(DslEvents.domain(Outer.Inner.class)).isEqualTo("Outer");
+	}
+
+	static class Outer {
+		static class Inner {
+		}
+	}
+
+}
@@ -0,0 +1,88 @@
+package dukono.minidsl.metrics;
+
+import dukono.minidsl.DtoString;
+import dukono.minidsl.OrderFieldConstants;
+import dukono.minidsl.OrderOperationsEnum;
+import dukono.minidsl.Query;
+import dukono.minidsl.example.Api;
+import dukono.minidsl.util.DomainRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The core tests install {@link InMemoryMetrics} through
+ * {@code META-INF/services}. Other tests record too, so only deltas are
+ * asserted.
+ */
+class MetricsTest {
+
+	private static final Query.ParseConfig CONFIG = Query.ParseConfig.builder().valueOperators(Set.of("eq"))
+			.noValueOperators(Set.of()).validFields(Set.of("MARCA", "YEAR")).logicalOperators(Set.of("and", "or"))
+			.allowUnknownOperators(false).build();
+
+	private static final InMemoryMetrics METRICS = (InMemoryMetrics) Metrics.provider();
+
+	@Test
+	void when_provider_registered_then_hot_paths_are_recorded() {
+		assertThat(Metrics.ENABLED).isTrue();
+		final long parses = METRICS.count(Metric.PARSE_TIME);
+		final long tokens = METRICS.total(Metric.PARSE_TOKENS);
+		final long batches = METRICS.total(Metric.PARSE_FILTERS_BATCH);
+		final long hits = METRICS.total(Metric.SORTED_CACHE_HIT);
+		final long misses = METRICS.total(Metric.SORTED_CACHE_MISS);
+		final long renders = METRICS.total(Metric.RENDER_STRING);
+		final long newTypes = METRICS.total(Metric.NEW_TYPE);
+
+		final DtoString dto = new DtoString().parseFilters(List.of("MARCA eq seat", "YEAR eq 2020 or MARCA eq audi"),
+				CONFIG);
+		dto.filtersAsString();
+		dto.filtersAsString();
+		Api.from().field(f -> f.MARCA).equalTo("bmw");
+
+		assertThat(METRICS.count(Metric.PARSE_TIME) - parses).isGreaterThanOrEqualTo(2);
+		assertThat(METRICS.total(Metric.PARSE_TOKENS) - tokens).isGreaterThanOrEqualTo(3 + 7);
+		assertThat(METRICS.total(Metric.PARSE_FILTERS_BATCH) - batches).isGreaterThanOrEqualTo(2);
+		assertThat(METRICS.total(Metric.SORTED_CACHE_MISS) - misses).isGreaterThanOrEqualTo(1);
+		assertThat(METRICS.total(Metric.SORTED_CACHE_HIT) - hits).isGreaterThanOrEqualTo(1);
+		assertThat(METRICS.total(Metric.RENDER_STRING) - renders).isGreaterThanOrEqualTo(2);
+		assertThat(METRICS.total(Metric.NEW_TYPE) - newTypes).isPositive();
+	}
+
+	@Test
+	void when_parse_config_looked_up_then_hits_and_misses_are_counted() {
+		final long hits = METRICS.total(Metric.PARSE_CONFIG_HIT);
+		final long misses = METRICS.total(Metric.PARSE_CONFIG_MISS);
+
+		DomainRegistry.clear();
+		DomainRegistry.parseConfig(OrderOperationsEnum.class, OrderFieldConstants.class);
+		DomainRegistry.parseConfig(OrderOperationsEnum.class, OrderFieldConstants.class);
+
+		assertThat(METRICS.total(Metric.PARSE_CONFIG_MISS) - misses).isGreaterThanOrEqualTo(1);
+		assertThat(METRICS.total(Metric.PARSE_CONFIG_HIT) - hits).isGreaterThanOrEqualTo(1);
+	}
+
+	@Test
+	void when_values_recorded_then_histogram_buckets_by_power_of_two() {
+		final InMemoryMetrics metrics = new InMemoryMetrics();
+		for (final long value : new long[]{1, 3, 3, 100, 1000}) {
+			metrics.record(Metric.PARSE_TOKENS, value);
+		}
+		final InMemoryMetrics.Stats stats = metrics.snapshot(Metric.PARSE_TOKENS);
+
+		assertThat(stats.count()).isEqualTo(5);
+		assertThat(stats.total()).isEqualTo(1107);
+		assertThat(stats.min()).isEqualTo(1);
+		assertThat(stats.max()).isEqualTo(1000);
+		assertThat(stats.buckets()[2]).isEqualTo(2);
+		assertThat(stats.percentile(0.5)).isEqualTo(3);
+		assertThat(stats.percentile(1.0)).isEqualTo(1000);
+
+		metrics.reset();
+		assertThat(metrics.snapshot(Metric.PARSE_TOKENS).count()).isZero();
+	}
+
+}
@@ -0,0 +1,34 @@
+package dukono.minidsl.util;
+
+import dukono.minidsl.OrderFieldConstants;
+import dukono.minidsl.Query;
+import dukono.minidsl.example.Fields;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainRegistryTest {
+
+	@Test
+	void when_same_classes_then_same_parse_config_until_cleared() {
+		final Query.ParseConfig first = DomainRegistry.parseConfig(ParseConfigFactoryTest.TestOperationsEnum.class,
+				OrderFieldConstants.class);
+
+		assertThat(DomainRegistry.parseConfig(ParseConfigFactoryTest.TestOperationsEnum.class,
+				OrderFieldConstants.class)).isSameAs(first);
+		assertThat(first.getValidFields()).contains("orderId", "status");
+
+		DomainRegistry.clear();
+		assertThat(DomainRegistry.parseConfig(ParseConfigFactoryTest.TestOperationsEnum.class,
+				OrderFieldConstants.class)).isNotSameAs(first).isEqualTo(first);
+	}
+
+	@Test
+	void when_tables_read_then_built_from_the_class() throws Exception {
+		assertThat(DomainRegistry.of(ParseConfigFactoryTest.TestOperationsEnum.class).operators())
+				.containsOnlyKeys("eq", "gt", "in", "is_not_null");
+		assertThat(DomainRegistry.of(Fields.class).fieldNames()).containsExactlyInAnyOrder("MARCA", "YEAR");
+		assertThat(DomainRegistry.of(Fields.class).<Fields>constructor().newInstance()).isInstanceOf(Fields.class);
+	}
+
+}
@@ -0,0 +1,53 @@
+package dukono.minidsl.util;
+
+import dukono.minidsl.DtoString;
+import dukono.minidsl.Query;
+import dukono.minidsl.example.Api;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RenderCacheTest {
+
+	private static DtoString sample() {
+		return Api.from().field(f -> f.YEAR).equalTo(2030).other().field(f -> f.MARCA).equalTo("seat").getDto();
+	}
+
+	@Test
+	void when_rendered_twice_then_memo_until_filters_change() {
+		final DtoString dto = sample();
+		final List<String> strings = dto.filtersAsString();
+		final String json = dto.filtersAsJson();
+
+		assertThat(dto.filtersAsString()).isSameAs(strings);
+		assertThat(dto.filtersAsJson()).isSameAs(json);
+
+		// Cambio a través de la Queries, sin pasar por el DTO: lo detecta el fingerprint
+		dto.getFiltersSorted().getFirst().add(Query.from("MARCA", "eq", "audi"));
+		assertThat(dto.filtersAsString()).isNotSameAs(strings).anyMatch(s -> s.endsWith("MARCA eq audi"));
+		assertThat(dto.filtersAsJson()).isNotEqualTo(json).contains("audi");
+
+		final List<String> changed = dto.filtersAsString();
+		dto.removeFilters();
+		assertThat(dto.filtersAsString()).isEmpty();
+		assertThat(changed).hasSize(2);
+	}
+
+	@Test
+	void when_shared_then_equal_filters_share_one_rendering() {
+		assertThat(sample().filtersAsString()).isNotSameAs(sample().filtersAsString());
+
+		RenderCache.enable(16);
+		try {
+			final List<String> first = sample().filtersAsString();
+			assertThat(sample().filtersAsString()).isSameAs(first);
+			assertThat(Api.from().field(f -> f.YEAR).equalTo(2031).getDto().filtersAsString()).isNotSameAs(first)
+					.containsExactly("YEAR eq 2031");
+		} finally {
+			RenderCache.disable();
+		}
+		assertThat(RenderCache.isEnabled()).isFalse();
+	}
+}
@@ -0,0 +1,80 @@
+package dukono.minidsl.util;
+
+import dukono.minidsl.DtoString;
+import dukono.minidsl.ListArity;
+import dukono.minidsl.OrderOperationsEnum;
+import dukono.minidsl.Queries;
+import dukono.minidsl.Query;
+import dukono.minidsl.example.Api;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShapesTest {
+
+	private static final Query.ParseConfig CONFIG = Query.ParseConfig.builder().valueOperators(Set.of("eq", "in"))
+			.noValueOperators(Set.of("is_not_null")).logicalOperators(Set.of("and", "or"))
+			.allowUnknownOperators(false).build();
+
+	private static Queries parse(final String input) {
+		return Queries.builder().queries(Query.parseQueries(input, CONFIG)).build();
+	}
+
+	@Test
+	void when_only_values_differ_then_same_shape_and_values_apart() {
+		final Queries first = parse("(status eq 1 or orderId eq A) and total is_not_null");
+		final Queries second = parse("( STATUS EQ 2 or orderId eq B ) and total is_not_null");
+
+		assertThat(second.shapeFingerprint()).isEqualTo(first.shapeFingerprint());
+		assertThat(first.shapeValues()).containsExactly("1", "A");
+		assertThat(second.shapeValues()).containsExactly("2", "B");
+		assertThat(parse("(status eq 1 and orderId eq A) and total is_not_null").shapeFingerprint())
+				.isNotEqualTo(first.shapeFingerprint());
+		assertThat(parse("status eq 1 or orderId eq A and total is_not_null").shapeFingerprint())
+				.isNotEqualTo(first.shapeFingerprint());
+		assertThat(parse("(status eq 1 or orderId eq A) and total eq 3").shapeFingerprint())
+				.isNotEqualTo(first.shapeFingerprint());
+	}
+
+	@Test
+	void when_queries_appended_then_shape_is_extended_not_recomputed() {
+		final Queries built = Api.from().field(f -> f.YEAR).equalTo(1).and().getDto().getFilters().getFirst();
+		final long partial = built.shapeFingerprint();
+		built.add(Query.from("MARCA", "eq", "seat"));
+
+		final Queries parsed = parse("YEAR eq 7 and MARCA eq audi");
+		assertThat(built.shapeFingerprint()).isNotEqualTo(partial).isEqualTo(parsed.shapeFingerprint());
+
+		final List<Query> prefix = new ArrayList<>(parsed.getQueries().subList(0, 2));
+		final Queries appended = Queries.builder().queries(prefix).build();
+		appended.shapeFingerprint();
+		appended.addAll(Queries.builder().queries(new ArrayList<>(parsed.getQueries().subList(2, 3))).build());
+		assertThat(appended.shapeFingerprint()).isEqualTo(parsed.shapeFingerprint());
+	}
+
+	@Test
+	void when_list_arity_known_then_lists_bucket_by_power_of_two() {
+		final ListArity arity = DomainRegistry.of(OrderOperationsEnum.class).listArity();
+		final long three = parse("status in [a|b|c]").shapeFingerprint(arity);
+
+		assertThat(DomainRegistry.of(OrderOperationsEnum.class).listArity()).isSameAs(arity);
+		assertThat(parse("status in [d|e|f|g]").shapeFingerprint(arity)).isEqualTo(three);
+		assertThat(parse("status in [a|b|c|d|e]").shapeFingerprint(arity)).isNotEqualTo(three);
+		assertThat(parse("status in [a|b|c|d|e]").shapeFingerprint())
+				.isEqualTo(parse("status in x").shapeFingerprint());
+		assertThat(Shapes.split("[a| b ||c]", "|", "[]")).containsExactly("a", "b", "c");
+		assertThat(Shapes.count("[a| b ||c]", "|", "[]")).isEqualTo(3);
+		assertThat(Shapes.bucket(0)).isZero();
+		assertThat(Shapes.bucket(5)).isEqualTo(8);
+
+		final DtoString dto = new DtoString().parseFilters(List.of("status eq 1", "status in [a|b]"), CONFIG);
+		final DtoString reversed = new DtoString().parseFilters(List.of("status in [c|d]", "status eq 9"), CONFIG);
+		assertThat(reversed.shapeFingerprint(arity)).isEqualTo(dto.shapeFingerprint(arity));
+		assertThat(reversed.shapeValues(arity)).containsExactlyInAnyOrder("9", "[c|d]");
+		assertThat(reversed.shapeValues(arity).indexOf("9")).isEqualTo(dto.shapeValues(arity).indexOf("1"));
+	}
+}
@@ -0,0 +1,100 @@
+package dukono.minidsl.example.generated;
+
+import dukono.minidsl.annotation.DslDomain;
+import dukono.minidsl.annotation.OperationDefinition;
+import dukono.minidsl.annotation.OperationType;
+
+/**
+ * Ejemplo: dominio de pedidos con parser especializado
+ *
+ * Con generateParser = true el procesador genera OrderApi.Parser, que clasifica
+ * campos y operadores con switches compilados en lugar de consultar un
+ * ParseConfig en cada token. OrderApi.parse(...) y OrderApi.from(Collection)
+ * lo usan directamente.
+ */
+// @formatter:off
+@DslDomain(
+	name = "Order",
+	fieldsConstants = OrderDomainDefinitionConfigConcise.OrderFields.class,
+	operationsEnum = OrderDomainDefinitionConfigConcise.OrderOperationsEnum.class,
+	generateParser = true
+)
+// @formatter:on
+public class OrderDomainDefinitionConfigConcise {
+
+	/**
+	 * Campos del pedido
+	 */
+	public static class OrderFields {
+		public static final String ORDER_ID = "orderId";
+		public static final String CUSTOMER_NAME = "customerName";
+		public static final String TOTAL_AMOUNT = "totalAmount";
+		public static final String STATUS = "status";
+		public static final String CREATED_DATE = "createdDate";
+		public static final String ITEMS = "items";
+	}
+
+	/**
+	 * Operaciones del pedido
+	 */
+	public enum OrderOperationsEnum implements OperationDefinition {
+		NO_OP_VALS("noOpVals", null, OperationType.NO_OP_WITH_ARG, " ", "", "Value without operator"),
+		EQUAL_TO("equalTo", "eq", OperationType.WITH_ARG, " ", "", "Equality comparison"),
+		CONTAINS("contains", "like", OperationType.WITH_ARG, " ", "", "Pattern matching"),
+		IN_VALUES("inValues", "in", OperationType.WITH_LIST, "|", "", "Value in list"),
+		GREATER_THAN_OR_EQUAL("greaterThanOrEqual", "ge", OperationType.WITH_ARG, " ", "", "Greater or equal"),
+		IS_NOT_NULL("isNotNull", "is_not_null", OperationType.NO_VALUE, " ", "", "Check if field is not null");
+
+		private final String name;
+		private final String operator;
+		private final OperationType type;
+		private final String listDelimiter;
+		private final String listBrackets;
+		private final String description;
+
+		OrderOperationsEnum(final String name, final String operator, final OperationType type,
+				final String listDelimiter, final String listBrackets, final String description) {
+			this.name = name;
+			this.operator = operator;
+			this.type = type;
+			this.listDelimiter = listDelimiter;
+			this.listBrackets = listBrackets;
+			this.description = description;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public String getOperator() {
+			return this.operator;
+		}
+
+		@Override
+		public OperationType getType() {
+			return this.type;
+		}
+
+		@Override
+		public String getListDelimiter() {
+			return this.listDelimiter;
+		}
+
+		@Override
+		public String getListBrackets() {
+			return this.listBrackets;
+		}
+
+		@Override
+		public String getDescription() {
+			return this.description;
+		}
+
+		@Override
+		public String getListOperator() {
+			return this == EQUAL_TO ? "in" : null;
+		}
+	}
+}
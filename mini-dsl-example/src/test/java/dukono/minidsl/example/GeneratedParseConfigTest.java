@@ -0,0 +1,61 @@
+package dukono.minidsl.example;
+
+import dukono.minidsl.Query;
+import dukono.minidsl.annotation.OperationDefinition;
+import dukono.minidsl.annotation.OperationType;
+import dukono.minidsl.example.complete.EcommerceCompleteExample;
+import dukono.minidsl.example.complete.EcommerceProductSearchApi;
+import dukono.minidsl.example.fields.ExampleFieldsWithConstants;
+import dukono.minidsl.example.fields.ExampleFieldsWithConstantsApi;
+import dukono.minidsl.util.ParseConfigFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The PARSE_CONFIG, FIELD_NAMES and OPERATORS constants the processor writes
+ * into every Api, for domains without a generated Parser, against what
+ * {@link ParseConfigFactory} builds at runtime from the operations enum and the
+ * generated Fields class, the configuration the Apis used before.
+ */
+class GeneratedParseConfigTest {
+
+	@Test
+	void when_fields_constants_then_generated_config_equals_runtime_config() {
+		final Query.ParseConfig runtime = ParseConfigFactory.fromOperationEnumWithFields(
+				ExampleFieldsWithConstants.SimpleOperations.class, ExampleFieldsWithConstantsApi.Fields.class);
+
+		assertGenerated(ExampleFieldsWithConstantsApi.PARSE_CONFIG, ExampleFieldsWithConstantsApi.FIELD_NAMES,
+				ExampleFieldsWithConstantsApi.OPERATORS, runtime, ExampleFieldsWithConstants.SimpleOperations.class);
+	}
+
+	@Test
+	void when_fields_enum_then_generated_config_equals_runtime_config() {
+		final Query.ParseConfig runtime = ParseConfigFactory.fromOperationEnumWithFields(
+				EcommerceCompleteExample.ProductOperations.class, EcommerceProductSearchApi.Fields.class);
+
+		assertGenerated(EcommerceProductSearchApi.PARSE_CONFIG, EcommerceProductSearchApi.FIELD_NAMES,
+				EcommerceProductSearchApi.OPERATORS, runtime, EcommerceCompleteExample.ProductOperations.class);
+	}
+
+	private static void assertGenerated(final Query.ParseConfig generated, final Set<String> fieldNames,
+			final Map<String, OperationType> operators, final Query.ParseConfig runtime,
+			final Class<? extends Enum<? extends OperationDefinition>> operations) {
+		assertThat(generated).isEqualTo(runtime);
+		assertThat(fieldNames).isEqualTo(runtime.getValidFields()).isNotEmpty();
+
+		// Primera definición de cada operador, las operaciones sin operador quedan fuera
+		final Map<String, OperationType> expected = new LinkedHashMap<>();
+		for (final Enum<? extends OperationDefinition> constant : operations.getEnumConstants()) {
+			final OperationDefinition op = (OperationDefinition) constant;
+			if (op.getOperator() != null && !op.getOperator().isEmpty()) {
+				expected.putIfAbsent(op.getOperator(), op.getType());
+			}
+		}
+		assertThat(operators).isEqualTo(expected);
+	}
+}
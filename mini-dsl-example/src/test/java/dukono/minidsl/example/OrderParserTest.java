@@ -0,0 +1,34 @@
+package dukono.minidsl.example;
+
+import dukono.minidsl.Query;
+import dukono.minidsl.example.generated.OrderApi;
+import dukono.minidsl.example.generated.OrderDomainDefinitionConfigConcise;
+import dukono.minidsl.util.ParseConfigFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderParserTest {
+
+	private static final Query.ParseConfig GENERIC = ParseConfigFactory.fromOperationEnumWithFields(
+			OrderDomainDefinitionConfigConcise.OrderOperationsEnum.class,
+			OrderDomainDefinitionConfigConcise.OrderFields.class);
+
+	private static final List<String> INPUTS = List.of("(orderId in John|Anna)  ",
+			"orderId eq John and customerName LIKE doe or (status is_not_null)",
+			"ORDERID ge 3 and unknown eq 1 and items", "totalAmount xx 3 or createdDate eq 2024-01-01",
+			"status\tin 1|2\n and ( items ge 2 )");
+
+	@Test
+	void when_generated_parser_then_same_queries_as_generic() {
+		for (final String input : INPUTS) {
+			assertThat(OrderApi.parse(input)).as(input).isEqualTo(Query.parseQueries(input, GENERIC));
+		}
+		assertThat(OrderApi.parse("orderId eq 1").getFirst().getKey()).isSameAs("orderId");
+		assertThat(OrderApi.from(List.of("orderId eq John")).getDto().filtersAsString())
+				.containsExactly("orderId eq John");
+	}
+
+}
@@ -0,0 +1,93 @@
+package dukono.minidsl.example;
+
+import dukono.minidsl.eval.Operator;
+import dukono.minidsl.eval.PredicateCache;
+import dukono.minidsl.example.generated.OrderApi;
+import dukono.minidsl.example.generated.OrderDomainDefinitionConfigConcise.OrderFields;
+import dukono.minidsl.example.generated.OrderDomainDefinitionConfigConcise.OrderOperationsEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PredicateCacheTest {
+
+	private static final List<OrderItem> ORDERS = List.of(
+			OrderItem.builder().orderId("A1").customerName("ana").quantity(1).price(10.0).status(1).build(),
+			OrderItem.builder().orderId("A2").customerName("Bob").quantity(3).price(55.5).status(2).build(),
+			OrderItem.builder().orderId("A3").customerName("anabel").quantity(5).price(99.9).status(3).build(),
+			OrderItem.builder().orderId("A4").customerName(null).quantity(7).price(120.0).status(4).build());
+
+	private static PredicateCache.Builder<OrderItem> builder() {
+		return PredicateCache.builder(OrderItem.class, OrderOperationsEnum.class)
+				.field(OrderFields.ORDER_ID, OrderItem::getOrderId)
+				.field(OrderFields.CUSTOMER_NAME, OrderItem::getCustomerName)
+				.field(OrderFields.TOTAL_AMOUNT, OrderItem::getPrice).field(OrderFields.STATUS, OrderItem::getStatus)
+				.field(OrderFields.ITEMS, OrderItem::getQuantity).field(OrderFields.CREATED_DATE, order -> null);
+	}
+
+	private static List<String> ids(final PredicateCache<OrderItem> cache, final String... filters) {
+		return cache.filter(OrderApi.from(List.of(filters)).getDto(), ORDERS).stream().map(OrderItem::getOrderId)
+				.toList();
+	}
+
+	@Test
+	void when_same_shape_then_template_is_reused_with_new_values() {
+		final PredicateCache<OrderItem> cache = builder().build();
+
+		assertThat(ids(cache, "customerName like ana and totalAmount ge 50")).containsExactly("A3");
+		assertThat(ids(cache, "customerName like Bo and totalAmount ge 5")).containsExactly("A2");
+		assertThat(ids(cache, "totalAmount ge 55.50", "customerName like b")).containsExactly("A2", "A3");
+		assertThat(cache.templateCount()).isEqualTo(2);
+		assertThat(cache.misses()).isEqualTo(2);
+		assertThat(cache.hits()).isEqualTo(1);
+
+		assertThat(ids(cache, "(status in 1|2|3) or (items ge 7)")).containsExactly("A1", "A2", "A3", "A4");
+		assertThat(ids(cache, "(status in 2|4|9) or (items ge 100)")).containsExactly("A2", "A4");
+		assertThat(ids(cache, "customerName is_not_null and orderId eq A1")).containsExactly("A1");
+		assertThat(ids(cache)).hasSize(ORDERS.size());
+	}
+
+	@Test
+	void when_promoted_then_compiled_tier_gives_same_matches() {
+		final PredicateCache<OrderItem> interpreted = builder().promoteAfter(1_000).build();
+		final PredicateCache<OrderItem> compiled = builder().promoteAfter(0).build();
+		final String[][] cases = {{"(status in 1|2 or items ge 5) and customerName is_not_null"},
+				{"status ge 2", "totalAmount ge 99.9 or orderId eq A2"}, {"items eq 3.0"},
+				{"(orderId eq A1) or (orderId eq A4 and status in 4)"}};
+		for (int round = 0; round < 3; round++) {
+			for (final String[] filters : cases) {
+				assertThat(ids(compiled, filters)).as(String.join(" / ", filters))
+						.isEqualTo(ids(interpreted, filters)).isNotEmpty();
+			}
+		}
+		assertThat(compiled.templateCount()).isEqualTo(cases.length);
+
+		final PredicateCache<OrderItem> bounded = builder().maximumSize(1).build();
+		ids(bounded, "status ge 1");
+		ids(bounded, "items ge 1");
+		ids(bounded, "status ge 2");
+		assertThat(bounded.templateCount()).isEqualTo(1);
+		assertThat(bounded.misses()).isEqualTo(3);
+	}
+
+	@Test
+	void when_semantics_configured_or_missing_then_used_or_rejected() {
+		final PredicateCache<OrderItem> ignoreCase = builder().operator("like", Operator.single(
+				(actual, value) -> actual != null && actual.toString().toLowerCase(Locale.ROOT).contains(value.text())))
+				.build();
+		assertThat(ids(ignoreCase, "customerName like bo")).containsExactly("A2");
+
+		assertThatThrownBy(() -> builder().operator("in", Operator.unary(actual -> true)).build())
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("WITH_LIST");
+		assertThatThrownBy(() -> builder().operator("unknown", Operator.unary(actual -> true)).build())
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("unknown");
+		final PredicateCache<OrderItem> partial = PredicateCache.builder(OrderItem.class, OrderOperationsEnum.class)
+				.field(OrderFields.STATUS, OrderItem::getStatus).build();
+		assertThatThrownBy(() -> ids(partial, "items ge 1")).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("items");
+	}
+}
@@ -21,11 +21,12 @@ public class DslContext {
 	private final String fieldNameSuffix;
 	private final String fieldValuePrefix;
 	private final String fieldValueSuffix;
+	private final boolean generateParser;
 
 	public DslContext(final String domainName, final String packageName, final DslField[] fields,
 			final DslOperation[] operations, final String dtoClassFullName, final boolean shouldGenerateDto,
 			final ClassName operationsEnumClassName, final String fieldNamePrefix, final String fieldNameSuffix,
-			final String fieldValuePrefix, final String fieldValueSuffix) {
+			final String fieldValuePrefix, final String fieldValueSuffix, final boolean generateParser) {
 		this.domainName = domainName;
 		this.packageName = packageName;
 		this.fields = fields;
@@ -37,6 +38,7 @@ public class DslContext {
 		this.fieldNameSuffix = fieldNameSuffix;
 		this.fieldValuePrefix = fieldValuePrefix;
 		this.fieldValueSuffix = fieldValueSuffix;
+		this.generateParser = generateParser;
 	}
 
 	// Getters
@@ -85,6 +87,10 @@ public class DslContext {
 		return this.fieldValueSuffix;
 	}
 
+	public boolean shouldGenerateParser() {
+		return this.generateParser;
+	}
+
 	// Helper methods for generators
 
 	public String getAnchorClassName() {
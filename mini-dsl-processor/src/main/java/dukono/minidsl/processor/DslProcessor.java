@@ -114,7 +114,7 @@ public class DslProcessor extends AbstractProcessor {
 		// Create context
 		final DslContext context = new DslContext(domainName, packageName, fields, operations, dtoInfo.className,
 				dtoInfo.shouldGenerate, operationsEnumClassName, fieldNamePrefix, fieldNameSuffix, fieldValuePrefix,
-				fieldValueSuffix);
+				fieldValueSuffix, annotation.generateParser());
 
 		// Generate only the Api class which contains all nested classes
 		new ApiGenerator().generate(context, this.filer);
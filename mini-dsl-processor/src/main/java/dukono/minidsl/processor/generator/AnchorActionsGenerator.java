@@ -7,6 +7,7 @@ import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
+import com.squareup.javapoet.WildcardTypeName;
 import dukono.minidsl.processor.DslContext;
 
 import javax.annotation.processing.Filer;
@@ -16,6 +17,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Generates the AnchorActions class for a DSL domain. Provides action
@@ -23,6 +26,8 @@ import java.util.function.UnaryOperator;
  */
 public class AnchorActionsGenerator {
 
+	private static final String LOGICAL_MAIN_TYPE = "LOGICAL_MAIN_TYPE";
+
 	public void generate(final DslContext context, final Filer filer) throws IOException {
 		final TypeSpec typeSpec = this.generateAsNestedClass(context);
 
@@ -55,14 +60,17 @@ public class AnchorActionsGenerator {
 				.addJavadoc("Provides action operations like replace, modify, and remove.\n")
 				.addJavadoc("\n@generated by DslProcessor\n");
 
+		// Shared type metadata (resolved once per domain, not per chain)
+		classBuilder.addField(AnchorMetadataSpecs.metadataField(ClassName.bestGuess(fieldsClassName), dtoClassName,
+				ParameterizedTypeName.get(ClassName.bestGuess(anchorListClassName), WildcardTypeName.subtypeOf(Object.class)),
+				ParameterizedTypeName.get(ClassName.bestGuess(operationsLogicalClassName),
+						ClassName.bestGuess(className))));
+		classBuilder.addField(AnchorMetadataSpecs.typeTokenField(LOGICAL_MAIN_TYPE,
+				ClassName.bestGuess(anchorLogicalMainClassName)));
+
 		// Default constructor
 		final MethodSpec constructor = MethodSpec.constructorBuilder().addModifiers(Modifier.PUBLIC)
-				.addStatement("super(new $T<$T>() {}, new $T<$L<?>>() {}, new $T<$L<$L>>() {}, new $L())",
-						ClassName.get(com.google.common.reflect.TypeToken.class), dtoClassName,
-						ClassName.get(com.google.common.reflect.TypeToken.class), anchorListClassName,
-						ClassName.get(com.google.common.reflect.TypeToken.class), operationsLogicalClassName, className,
-						fieldsClassName)
-				.build();
+				.addStatement("super($L)", AnchorMetadataSpecs.METADATA_CONSTANT).build();
 
 		// Constructor with DTO
 		final MethodSpec constructorWithDto = MethodSpec.constructorBuilder().addModifiers(Modifier.PUBLIC)
@@ -73,8 +81,8 @@ public class AnchorActionsGenerator {
 		final MethodSpec constructorWithCollection = MethodSpec.constructorBuilder().addModifiers(Modifier.PUBLIC)
 				.addParameter(ParameterizedTypeName.get(ClassName.get(Collection.class), ClassName.get(String.class)),
 						"dtoData")
-				.addStatement("this()").addStatement("this.getDto().parseFilters(dtoData, $T.class, $T.class)",
-						context.getOperationsEnumClassName(), ClassName.bestGuess(fieldsClassName))
+				.addStatement("this()")
+				.addStatement("this.getDto().parseFilters(dtoData, $L)", ParseConfigSpecs.classifier(context))
 				.build();
 
 		// listCollapseAnd method
@@ -112,8 +120,7 @@ public class AnchorActionsGenerator {
 						ClassName.bestGuess(anchorLogicalMainClassName)), "toFind")
 				.addParameter(ParameterizedTypeName.get(ClassName.get(UnaryOperator.class),
 						ClassName.bestGuess(anchorLogicalMainClassName)), "newValue")
-				.addStatement("return super.replace(toFind, newValue, new $T<$L>() {})",
-						ClassName.get(com.google.common.reflect.TypeToken.class), anchorLogicalMainClassName)
+				.addStatement("return super.replace(toFind, newValue, $L)", LOGICAL_MAIN_TYPE)
 				.build();
 
 		// modify method
@@ -124,8 +131,7 @@ public class AnchorActionsGenerator {
 				.addParameter(ParameterizedTypeName.get(ClassName.get(Function.class),
 						ClassName.get(dukono.minidsl.Comparator.class),
 						ClassName.get(dukono.minidsl.ComparatorEnum.class)), "comparatorFunction")
-				.addStatement("return super.modify(change, comparatorFunction, new $T<$L>() {})",
-						ClassName.get(com.google.common.reflect.TypeToken.class), anchorLogicalMainClassName)
+				.addStatement("return super.modify(change, comparatorFunction, $L)", LOGICAL_MAIN_TYPE)
 				.build();
 
 		// remove method
@@ -135,8 +141,7 @@ public class AnchorActionsGenerator {
 						ParameterizedTypeName.get(ClassName.get(dukono.minidsl.RemoveBy.class),
 								ClassName.bestGuess(anchorLogicalMainClassName)),
 						ClassName.get(dukono.minidsl.RemoveBy.Remover.class)), "removeFunction")
-				.addStatement("return super.remove(removeFunction, new $T<$L>() {})",
-						ClassName.get(com.google.common.reflect.TypeToken.class), anchorLogicalMainClassName)
+				.addStatement("return super.remove(removeFunction, $L)", LOGICAL_MAIN_TYPE)
 				.build();
 
 		classBuilder.addMethod(constructor);
@@ -145,10 +150,54 @@ public class AnchorActionsGenerator {
 		classBuilder.addMethod(listCollapseAnd);
 		classBuilder.addMethod(listCollapseOr);
 		classBuilder.addMethod(listAddForEach);
+		classBuilder.addMethods(this.streamingCollapseMethods(className, anchorOneClassName));
 		classBuilder.addMethod(replace);
 		classBuilder.addMethod(modify);
 		classBuilder.addMethod(remove);
 
 		return classBuilder.build();
 	}
+
+	/**
+	 * Streaming overloads of listCollapseAnd / listCollapseOr, for Stream and
+	 * Iterable sources.
+	 */
+	private List<MethodSpec> streamingCollapseMethods(final String className, final String anchorOneClassName) {
+		final TypeVariableName l = TypeVariableName.get("L");
+		final List<MethodSpec> methods = new java.util.ArrayList<>();
+		for (final String logical : List.of("And", "Or")) {
+			final String methodName = "listCollapse" + logical;
+			final ParameterizedTypeName operator = ParameterizedTypeName.get(ClassName.get(UnaryOperator.class),
+					ParameterizedTypeName.get(ClassName.bestGuess(anchorOneClassName), l));
+			methods.add(MethodSpec.methodBuilder(methodName).addModifiers(Modifier.PUBLIC).addTypeVariable(l)
+					.returns(ClassName.bestGuess(className))
+					.addParameter(ParameterizedTypeName.get(ClassName.get(Stream.class), l), "items")
+					.addParameter(operator, "operator").addParameter(boolean.class, "distinct")
+					.addJavadoc("Collapses a stream of items with $L logic, evaluating them in parallel chunks.\n",
+							logical.toUpperCase())
+					.addJavadoc("The operator must be safe to run concurrently.\n")
+					.addJavadoc("@param <L> item type\n").addJavadoc("@param items the items to process\n")
+					.addJavadoc("@param operator the operator to apply to each item\n")
+					.addJavadoc("@param distinct whether repeated item filters are kept only once\n")
+					.addJavadoc("@return this anchor for chaining\n")
+					.addStatement("return super.collapse(items, operator, $T.$L, distinct)",
+							ClassName.get(dukono.minidsl.Query.class), logical.toUpperCase())
+					.build());
+			methods.add(MethodSpec.methodBuilder(methodName).addModifiers(Modifier.PUBLIC).addTypeVariable(l)
+					.returns(ClassName.bestGuess(className))
+					.addParameter(ParameterizedTypeName.get(ClassName.get(Iterable.class), l), "items")
+					.addParameter(operator, "operator").addParameter(boolean.class, "distinct")
+					.addJavadoc("Collapses the items with $L logic, evaluating them in parallel chunks.\n",
+							logical.toUpperCase())
+					.addJavadoc("The operator must be safe to run concurrently.\n")
+					.addJavadoc("@param <L> item type\n").addJavadoc("@param items the items to process\n")
+					.addJavadoc("@param operator the operator to apply to each item\n")
+					.addJavadoc("@param distinct whether repeated item filters are kept only once\n")
+					.addJavadoc("@return this anchor for chaining\n")
+					.addStatement("return this.$L($T.stream(items.spliterator(), false), operator, distinct)",
+							methodName, ClassName.get(StreamSupport.class))
+					.build());
+		}
+		return methods;
+	}
 }
@@ -7,6 +7,7 @@ import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
+import com.squareup.javapoet.WildcardTypeName;
 import dukono.minidsl.processor.DslContext;
 
 import javax.annotation.processing.Filer;
@@ -18,6 +19,8 @@ import java.io.IOException;
  */
 public class AnchorListGenerator {
 
+	private static final String ONE_TYPE = "ONE_TYPE";
+
 	public void generate(final DslContext context, final Filer filer) throws IOException {
 		final String className = context.getDomainName() + GeneratedClassNames.ANCHOR_LIST.getClassName();
 		final String fieldsClassName = context.getFieldsClassName();
@@ -86,10 +89,16 @@ public class AnchorListGenerator {
 				.addJavadoc("Handles list operations in the DSL.\n").addJavadoc("\n@param <T> the type of list items\n")
 				.addJavadoc("@generated by DslProcessor\n");
 
+		// Shared AnchorOne type token (resolved once per domain, not per list)
+		classBuilder.addField(AnchorMetadataSpecs.typeTokenField(ONE_TYPE, ParameterizedTypeName
+				.get(ClassName.bestGuess(anchorOneClassName), WildcardTypeName.subtypeOf(Object.class))));
+
 		// Constructor
 		final MethodSpec constructor = MethodSpec.constructorBuilder().addModifiers(Modifier.PUBLIC)
-				.addStatement("super(new $T<>() {}, $L.class)",
-						ClassName.get(com.google.common.reflect.TypeToken.class), anchorLogicalMainClassName)
+				.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "rawtypes")
+						.build())
+				.addStatement("super(($T) $L, $L.class)", ClassName.get(com.google.common.reflect.TypeToken.class),
+						ONE_TYPE, anchorLogicalMainClassName)
 				.build();
 
 		classBuilder.addMethod(constructor);
@@ -7,6 +7,7 @@ import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
+import com.squareup.javapoet.WildcardTypeName;
 import dukono.minidsl.processor.DslContext;
 
 import javax.annotation.processing.Filer;
@@ -14,6 +15,8 @@ import javax.lang.model.element.Modifier;
 import java.io.IOException;
 import java.util.List;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Generates the AnchorLogicalMain class for a DSL domain. Main anchor with
@@ -100,6 +103,7 @@ public class AnchorLogicalMainGenerator {
 		classBuilder.addMethod(listCollapseAnd);
 		classBuilder.addMethod(listCollapseOr);
 		classBuilder.addMethod(listAddForEach);
+		classBuilder.addMethods(this.streamingCollapseMethods(className, anchorOneClassName));
 
 		final TypeSpec typeSpec = classBuilder.build();
 
@@ -130,14 +134,15 @@ public class AnchorLogicalMainGenerator {
 				.addJavadoc("Main anchor with logical operations support.\n")
 				.addJavadoc("\n@generated by DslProcessor\n");
 
+		// Shared type metadata (resolved once per domain, not per chain)
+		classBuilder.addField(AnchorMetadataSpecs.metadataField(ClassName.bestGuess(fieldsClassName), dtoClassName,
+				ParameterizedTypeName.get(ClassName.bestGuess(anchorListClassName), WildcardTypeName.subtypeOf(Object.class)),
+				ParameterizedTypeName.get(ClassName.bestGuess(operationsLogicalClassName),
+						ClassName.bestGuess(className))));
+
 		// Constructor
 		final MethodSpec constructor = MethodSpec.constructorBuilder().addModifiers(Modifier.PUBLIC)
-				.addStatement("super(new $T<$L>() {}, new $T<$L<?>>() {}, new $T<$L<$L>>() {}, new $L())",
-						ClassName.get(com.google.common.reflect.TypeToken.class), dtoClassName,
-						ClassName.get(com.google.common.reflect.TypeToken.class), anchorListClassName,
-						ClassName.get(com.google.common.reflect.TypeToken.class), operationsLogicalClassName, className,
-						fieldsClassName)
-				.build();
+				.addStatement("super($L)", AnchorMetadataSpecs.METADATA_CONSTANT).build();
 
 		// listCollapseAnd method
 		final TypeVariableName l = TypeVariableName.get("L");
@@ -183,7 +188,51 @@ public class AnchorLogicalMainGenerator {
 		classBuilder.addMethod(listCollapseAnd);
 		classBuilder.addMethod(listCollapseOr);
 		classBuilder.addMethod(listAddForEach);
+		classBuilder.addMethods(this.streamingCollapseMethods(className, anchorOneClassName));
 
 		return classBuilder.build();
 	}
+
+	/**
+	 * Streaming overloads of listCollapseAnd / listCollapseOr, for Stream and
+	 * Iterable sources.
+	 */
+	private List<MethodSpec> streamingCollapseMethods(final String className, final String anchorOneClassName) {
+		final TypeVariableName l = TypeVariableName.get("L");
+		final List<MethodSpec> methods = new java.util.ArrayList<>();
+		for (final String logical : List.of("And", "Or")) {
+			final String methodName = "listCollapse" + logical;
+			final ParameterizedTypeName operator = ParameterizedTypeName.get(ClassName.get(UnaryOperator.class),
+					ParameterizedTypeName.get(ClassName.bestGuess(anchorOneClassName), l));
+			methods.add(MethodSpec.methodBuilder(methodName).addModifiers(Modifier.PUBLIC).addTypeVariable(l)
+					.returns(ClassName.bestGuess(className))
+					.addParameter(ParameterizedTypeName.get(ClassName.get(Stream.class), l), "items")
+					.addParameter(operator, "operator").addParameter(boolean.class, "distinct")
+					.addJavadoc("Collapses a stream of items with $L logic, evaluating them in parallel chunks.\n",
+							logical.toUpperCase())
+					.addJavadoc("The operator must be safe to run concurrently.\n")
+					.addJavadoc("@param <L> item type\n").addJavadoc("@param items the items to process\n")
+					.addJavadoc("@param operator the operator to apply to each item\n")
+					.addJavadoc("@param distinct whether repeated item filters are kept only once\n")
+					.addJavadoc("@return this anchor for chaining\n")
+					.addStatement("return super.collapse(items, operator, $T.$L, distinct)",
+							ClassName.get(dukono.minidsl.Query.class), logical.toUpperCase())
+					.build());
+			methods.add(MethodSpec.methodBuilder(methodName).addModifiers(Modifier.PUBLIC).addTypeVariable(l)
+					.returns(ClassName.bestGuess(className))
+					.addParameter(ParameterizedTypeName.get(ClassName.get(Iterable.class), l), "items")
+					.addParameter(operator, "operator").addParameter(boolean.class, "distinct")
+					.addJavadoc("Collapses the items with $L logic, evaluating them in parallel chunks.\n",
+							logical.toUpperCase())
+					.addJavadoc("The operator must be safe to run concurrently.\n")
+					.addJavadoc("@param <L> item type\n").addJavadoc("@param items the items to process\n")
+					.addJavadoc("@param operator the operator to apply to each item\n")
+					.addJavadoc("@param distinct whether repeated item filters are kept only once\n")
+					.addJavadoc("@return this anchor for chaining\n")
+					.addStatement("return this.$L($T.stream(items.spliterator(), false), operator, distinct)",
+							methodName, ClassName.get(StreamSupport.class))
+					.build());
+		}
+		return methods;
+	}
 }
@@ -5,6 +5,7 @@ import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
 import dukono.minidsl.processor.DslContext;
 
 import javax.annotation.processing.Filer;
@@ -106,16 +107,15 @@ public class AnchorMainGenerator {
 				.addJavadoc("    .getDto();\n").addJavadoc("</pre>\n").addJavadoc("\n")
 				.addJavadoc("@generated by DslProcessor\n");
 
+		// Shared type metadata (resolved once per domain, not per chain)
+		classBuilder.addField(AnchorMetadataSpecs.metadataField(ClassName.bestGuess(fieldsClass), dtoClassName,
+				ParameterizedTypeName.get(ClassName.bestGuess(GeneratedClassNames.ANCHOR_LIST.getClassName()),
+						WildcardTypeName.subtypeOf(Object.class)),
+				ParameterizedTypeName.get(ClassName.bestGuess(operationsClass), ClassName.bestGuess(className))));
+
 		// Constructor
 		final MethodSpec constructor = MethodSpec.constructorBuilder().addModifiers(Modifier.PUBLIC)
-				.addStatement(
-						"super(\n" + "    new $T<$T>() {},\n" + "    new $T<AnchorList<?>>() {},\n"
-								+ "    new $T<$L<$L>>() {},\n" + "    new $L()\n" + ")",
-						ClassName.get(com.google.common.reflect.TypeToken.class), dtoClassName,
-						ClassName.get(com.google.common.reflect.TypeToken.class),
-						ClassName.get(com.google.common.reflect.TypeToken.class), operationsClass, className,
-						fieldsClass)
-				.build();
+				.addStatement("super($L)", AnchorMetadataSpecs.METADATA_CONSTANT).build();
 
 		classBuilder.addMethod(constructor);
 
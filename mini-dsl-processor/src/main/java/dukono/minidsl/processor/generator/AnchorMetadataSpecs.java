@@ -0,0 +1,61 @@
+package dukono.minidsl.processor.generator;
+
+import com.google.common.reflect.TypeToken;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import dukono.minidsl.AnchorMetadata;
+
+import javax.lang.model.element.Modifier;
+
+/**
+ * Builds the {@code static final} type metadata shared by the generated
+ * anchors, so that no {@link TypeToken} subclass is instantiated per chain.
+ */
+final class AnchorMetadataSpecs {
+
+	/**
+	 * Name of the shared, immutable Fields instance on the Api class.
+	 */
+	static final String FIELDS_CONSTANT = "FIELDS";
+
+	/**
+	 * Name of the IN-list compaction table on the Api class.
+	 */
+	static final String COMPACTION_CONSTANT = "COMPACTION";
+
+	static final String METADATA_CONSTANT = "METADATA";
+
+	private AnchorMetadataSpecs() {
+	}
+
+	/**
+	 * {@code private static final AnchorMetadata<F, S, W> METADATA = ...}
+	 */
+	static FieldSpec metadataField(final TypeName fields, final TypeName dto, final TypeName list,
+			final TypeName operations) {
+		final CodeBlock listToken = list == null
+				? CodeBlock.of("null")
+				: CodeBlock.of("new $T<$T>() {}", TypeToken.class, list);
+		return FieldSpec
+				.builder(ParameterizedTypeName.get(ClassName.get(AnchorMetadata.class), fields, dto, operations),
+						METADATA_CONSTANT, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+				.initializer("new $T<>(new $T<$T>() {}, $L, new $T<$T>() {}, $L, $L)", AnchorMetadata.class,
+						TypeToken.class, dto, listToken, TypeToken.class, operations, FIELDS_CONSTANT,
+						COMPACTION_CONSTANT)
+				.build();
+	}
+
+	/**
+	 * {@code private static final TypeToken<T> name = new TypeToken<T>() {};}
+	 */
+	static FieldSpec typeTokenField(final String name, final TypeName type) {
+		return FieldSpec
+				.builder(ParameterizedTypeName.get(ClassName.get(TypeToken.class), type), name, Modifier.PRIVATE,
+						Modifier.STATIC, Modifier.FINAL)
+				.initializer("new $T<$T>() {}", TypeToken.class, type).build();
+	}
+
+}
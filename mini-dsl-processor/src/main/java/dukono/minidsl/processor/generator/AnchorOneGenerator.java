@@ -7,6 +7,7 @@ import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
+import com.squareup.javapoet.WildcardTypeName;
 import dukono.minidsl.processor.DslContext;
 
 import javax.annotation.processing.Filer;
@@ -54,11 +55,17 @@ public class AnchorOneGenerator {
 				.addJavadoc("Represents a single item within a list for DSL operations.\n")
 				.addJavadoc("\n@param <T> the type of the list item\n").addJavadoc("@generated by DslProcessor\n");
 
+		// Shared type metadata: the item type T is erased, so it is kept as wildcards
+		final WildcardTypeName any = WildcardTypeName.subtypeOf(Object.class);
+		classBuilder.addField(AnchorMetadataSpecs.metadataField(ClassName.bestGuess(fieldsClassName), dtoClassName,
+				null, ParameterizedTypeName.get(ClassName.bestGuess(operationsOneClassName), any, any)));
+
 		// Constructor
 		final MethodSpec constructor = MethodSpec.constructorBuilder().addModifiers(Modifier.PUBLIC)
-				.addStatement("super(new $T<$T>() {}, new $L(), new $T<$L<$L<T>, T>>() {})",
-						ClassName.get(com.google.common.reflect.TypeToken.class), dtoClassName, fieldsClassName,
-						ClassName.get(com.google.common.reflect.TypeToken.class), operationsOneClassName, className)
+				.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "rawtypes")
+						.build())
+				.addStatement("super(($T) $L)", ClassName.get(dukono.minidsl.AnchorMetadata.class),
+						AnchorMetadataSpecs.METADATA_CONSTANT)
 				.build();
 
 		classBuilder.addMethod(constructor);
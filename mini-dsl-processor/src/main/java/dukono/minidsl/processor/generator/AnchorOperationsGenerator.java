@@ -1,9 +1,11 @@
 package dukono.minidsl.processor.generator;
 
+import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
 import com.squareup.javapoet.WildcardTypeName;
@@ -13,7 +15,9 @@ import dukono.minidsl.processor.DslContext;
 import javax.annotation.processing.Filer;
 import javax.lang.model.element.Modifier;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Generates the AnchorOperationsBase class for a DSL domain.
@@ -69,6 +73,8 @@ public class AnchorOperationsGenerator {
 					|| operation.type() == dukono.minidsl.annotation.OperationType.NO_OP_WITH_LIST) {
 				final MethodSpec overloadedMethod = this.generateListOperationWithCustomFormatting(operation);
 				classBuilder.addMethod(overloadedMethod);
+				// Primitive-array overloads: numeric sort, no boxing
+				classBuilder.addMethods(this.generatePrimitiveListOperations(operation));
 			}
 		}
 
@@ -169,4 +175,40 @@ public class AnchorOperationsGenerator {
 
 		return methodBuilder.build();
 	}
+
+	private List<MethodSpec> generatePrimitiveListOperations(final DslOperation operation) {
+		final List<MethodSpec> methods = new ArrayList<>();
+		for (final TypeName arrayType : List.of(ArrayTypeName.of(int.class), ArrayTypeName.of(long.class))) {
+			final String operator = operation.type() == dukono.minidsl.annotation.OperationType.WITH_LIST
+					? "$S"
+					: "null";
+			final String create = "return this.create($T.from(this.getName(), " + operator
+					+ ", this.listFormatting(arg, $S, $S, sort)))";
+			final Object[] args = operation.type() == dukono.minidsl.annotation.OperationType.WITH_LIST
+					? new Object[]{ClassName.get(dukono.minidsl.Query.class), operation.operator(),
+							operation.listDelimiter(), operation.listBrackets()}
+					: new Object[]{ClassName.get(dukono.minidsl.Query.class), operation.listDelimiter(),
+							operation.listBrackets()};
+
+			final MethodSpec.Builder withSort = MethodSpec.methodBuilder(operation.name())
+					.addModifiers(Modifier.PUBLIC).returns(TypeVariableName.get("H"));
+			if (!operation.description().isEmpty()) {
+				withSort.addJavadoc("$L\n", operation.description());
+			}
+			methods.add(withSort.addJavadoc("@param arg the values, formatted without boxing\n")
+					.addJavadoc("@param sort whether values are sorted numerically (false keeps the given order)\n")
+					.addParameter(arrayType, "arg").addParameter(boolean.class, "sort").addStatement(create, args)
+					.build());
+
+			final MethodSpec.Builder sorted = MethodSpec.methodBuilder(operation.name())
+					.addModifiers(Modifier.PUBLIC).returns(TypeVariableName.get("H"));
+			if (!operation.description().isEmpty()) {
+				sorted.addJavadoc("$L\n", operation.description());
+			}
+			methods.add(sorted.addJavadoc("@param arg the values, sorted numerically\n")
+					.addParameter(arrayType, "arg").addStatement("return this.$L(arg, true)", operation.name())
+					.build());
+		}
+		return methods;
+	}
 }
@@ -1,9 +1,11 @@
 package dukono.minidsl.processor.generator;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import dukono.minidsl.processor.DslContext;
 
@@ -53,6 +55,26 @@ public class ApiGenerator {
 				.addJavadoc("Private constructor to prevent instantiation.\n").build();
 		classBuilder.addMethod(constructor);
 
+		// Shared, immutable Fields instance used by every anchor's metadata
+		classBuilder.addField(FieldSpec
+				.builder(ClassName.get(context.getPackageName(), className,
+						GeneratedClassNames.FIELDS.getClassName()), AnchorMetadataSpecs.FIELDS_CONSTANT,
+						Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+				.initializer("new $L()", GeneratedClassNames.FIELDS.getClassName()).build());
+
+		// IN-list compaction table, read once from the operations enum
+		classBuilder.addField(FieldSpec
+				.builder(ClassName.get(dukono.minidsl.ListCompaction.class), AnchorMetadataSpecs.COMPACTION_CONSTANT,
+						Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+				.initializer("$T.of($T.class)", dukono.minidsl.ListCompaction.class,
+						context.getOperationsEnumClassName())
+				.build());
+
+		// Parse tables resolved at compile time: no reflection when parsing strings
+		classBuilder.addField(ParseConfigSpecs.fieldNamesField(context));
+		classBuilder.addField(ParseConfigSpecs.operatorsField(context));
+		classBuilder.addField(ParseConfigSpecs.parseConfigField(context));
+
 		// Generate all nested inner classes
 		classBuilder.addType(new FieldsGenerator().generateAsNestedClass(context));
 		// Operations class NOT generated - operators are used directly as string
@@ -71,6 +93,9 @@ public class ApiGenerator {
 		classBuilder.addType(new AnchorLogicalMainGenerator().generateAsNestedClass(context));
 		classBuilder.addType(new AnchorMainGenerator().generateAsNestedClass(context));
 		classBuilder.addType(new AnchorActionsGenerator().generateAsNestedClass(context));
+		if (context.shouldGenerateParser()) {
+			classBuilder.addType(new ParserGenerator().generateAsNestedClass(context));
+		}
 
 		// from() method
 		final MethodSpec fromMethod = MethodSpec.methodBuilder("from").addModifiers(Modifier.PUBLIC, Modifier.STATIC)
@@ -79,6 +104,21 @@ public class ApiGenerator {
 				.addJavadoc("@return a new $L instance\n", anchorClass).build();
 		classBuilder.addMethod(fromMethod);
 
+		// Thread-confined pool of reusable anchors for this domain
+		final TypeName poolType = ParameterizedTypeName.get(ClassName.get(dukono.minidsl.AnchorPool.class),
+				anchorClassName);
+		classBuilder.addField(FieldSpec.builder(poolType, "POOL", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+				.initializer("new $T<>($L::new)", dukono.minidsl.AnchorPool.class, anchorClass).build());
+
+		// pooled() method
+		final MethodSpec pooledMethod = MethodSpec.methodBuilder("pooled")
+				.addModifiers(Modifier.PUBLIC, Modifier.STATIC).returns(anchorClassName)
+				.addStatement("return POOL.acquire()")
+				.addJavadoc("Returns the reusable DSL instance of the current thread, reset and empty.\n")
+				.addJavadoc("The instance and its DTO are reused by the next call on the same thread.\n")
+				.addJavadoc("\n").addJavadoc("@return the pooled $L instance\n", anchorClass).build();
+		classBuilder.addMethod(pooledMethod);
+
 		// from(dto) method
 		final MethodSpec fromDtoMethod = MethodSpec.methodBuilder("from").addModifiers(Modifier.PUBLIC, Modifier.STATIC)
 				.returns(anchorClassName).addParameter(context.getDtoClassName(), "dto")
@@ -100,6 +140,32 @@ public class ApiGenerator {
 				.addJavadoc("@return a new $L instance\n", anchorClass).build();
 		classBuilder.addMethod(fromCollectionMethod);
 
+		// fromLazy(Collection<String>) method
+		final MethodSpec fromLazyMethod = MethodSpec.methodBuilder("fromLazy")
+				.addModifiers(Modifier.PUBLIC, Modifier.STATIC).returns(anchorClassName)
+				.addParameter(ParameterizedTypeName.get(ClassName.get(java.util.Collection.class),
+						ClassName.get(String.class)), "queries")
+				.addStatement("final $L anchor = new $L()", anchorClass, anchorClass)
+				.addStatement("anchor.getDto().parseFiltersLazy(queries, $L)", ParseConfigSpecs.classifier(context))
+				.addStatement("return anchor")
+				.addJavadoc("Creates a new DSL instance whose queries are parsed on first structural access.\n")
+				.addJavadoc("Until then the DTO renders the normalized queries as they are.\n").addJavadoc("\n")
+				.addJavadoc("@param queries the collection of queries to parse lazily\n")
+				.addJavadoc("@return a new $L instance\n", anchorClass).build();
+		classBuilder.addMethod(fromLazyMethod);
+
+		// parse(String) method
+		final MethodSpec parseMethod = MethodSpec.methodBuilder("parse")
+				.addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+				.returns(ParameterizedTypeName.get(ClassName.get(java.util.List.class),
+						ClassName.get(dukono.minidsl.Query.class)))
+				.addParameter(String.class, "input")
+				.addStatement("return $T.parse(input, $L)", dukono.minidsl.QueryParser.class,
+						ParseConfigSpecs.classifier(context))
+				.addJavadoc("Parses a query string of this domain.\n").addJavadoc("\n")
+				.addJavadoc("@param input the query string\n").addJavadoc("@return the parsed queries\n").build();
+		classBuilder.addMethod(parseMethod);
+
 		final TypeSpec typeSpec = classBuilder.build();
 
 		final JavaFile javaFile = JavaFile.builder(context.getPackageName(), typeSpec)
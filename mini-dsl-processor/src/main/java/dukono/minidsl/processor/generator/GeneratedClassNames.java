@@ -37,7 +37,10 @@ public enum GeneratedClassNames {
 	ANCHOR_MAIN("AnchorMain"),
 
 	/** The actions anchor with replace, modify, remove operations */
-	ANCHOR_ACTIONS("AnchorActions");
+	ANCHOR_ACTIONS("AnchorActions"),
+
+	/** The domain specific token classifier, only with generateParser */
+	PARSER("Parser");
 
 	private final String className;
 
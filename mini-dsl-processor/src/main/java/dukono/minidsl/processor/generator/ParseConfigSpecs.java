@@ -0,0 +1,141 @@
+package dukono.minidsl.processor.generator;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import dukono.minidsl.Query;
+import dukono.minidsl.annotation.DslField;
+import dukono.minidsl.annotation.DslOperation;
+import dukono.minidsl.annotation.OperationType;
+import dukono.minidsl.processor.DslContext;
+
+import javax.lang.model.element.Modifier;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the parse tables of a domain as compile-time constants, so parsing
+ * strings into a DTO needs no reflection over the Fields class or the
+ * operations enum at runtime.
+ *
+ * <pre>
+ * public static final Set&lt;String&gt; FIELD_NAMES = Set.of("orderId", "status");
+ * public static final Map&lt;String, OperationType&gt; OPERATORS = Map.ofEntries(Map.entry("eq", OperationType.WITH_ARG));
+ * public static final Query.ParseConfig PARSE_CONFIG = Query.ParseConfig.builder()...build();
+ * </pre>
+ */
+final class ParseConfigSpecs {
+
+	static final String FIELD_NAMES_CONSTANT = "FIELD_NAMES";
+
+	static final String OPERATORS_CONSTANT = "OPERATORS";
+
+	static final String PARSE_CONFIG_CONSTANT = "PARSE_CONFIG";
+
+	private ParseConfigSpecs() {
+	}
+
+	/**
+	 * Classifier used by {@code parse} and {@code from(Collection)}: the generated
+	 * Parser when the domain asks for it, PARSE_CONFIG otherwise.
+	 */
+	static String classifier(final DslContext context) {
+		return context.shouldGenerateParser()
+				? GeneratedClassNames.PARSER.getClassName() + ".INSTANCE"
+				: PARSE_CONFIG_CONSTANT;
+	}
+
+	/**
+	 * Field values of the domain, as validated by the parser.
+	 */
+	static FieldSpec fieldNamesField(final DslContext context) {
+		final Set<String> names = new LinkedHashSet<>();
+		for (final DslField field : context.getFields()) {
+			if (field.value() != null && !field.value().isEmpty()) {
+				names.add(field.value());
+			}
+		}
+		return FieldSpec
+				.builder(ParameterizedTypeName.get(Set.class, String.class), FIELD_NAMES_CONSTANT, Modifier.PUBLIC,
+						Modifier.STATIC, Modifier.FINAL)
+				.addJavadoc("Field names accepted when parsing filters of this domain.\n")
+				.initializer("$T.of($L)", Set.class, literals(names)).build();
+	}
+
+	/**
+	 * Operator token to operation type. Operations without operator are left out,
+	 * the first definition of a repeated operator wins.
+	 */
+	static FieldSpec operatorsField(final DslContext context) {
+		final Map<String, OperationType> operators = operators(context);
+		final CodeBlock.Builder entries = CodeBlock.builder();
+		operators.forEach((operator, type) -> {
+			if (!entries.isEmpty()) {
+				entries.add(", ");
+			}
+			entries.add("$T.entry($S, $T.$L)", Map.class, operator, OperationType.class, type.name());
+		});
+		return FieldSpec
+				.builder(ParameterizedTypeName.get(Map.class, String.class, OperationType.class), OPERATORS_CONSTANT,
+						Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+				.addJavadoc("Operators of this domain and their operation type.\n")
+				.initializer("$T.ofEntries($L)", Map.class, entries.build()).build();
+	}
+
+	/**
+	 * Same configuration {@code ParseConfigFactory.fromOperationEnumWithFields}
+	 * builds at runtime from the operations enum and the Fields class.
+	 */
+	static FieldSpec parseConfigField(final DslContext context) {
+		final Set<String> valueOps = new LinkedHashSet<>();
+		final Set<String> noValueOps = new LinkedHashSet<>();
+		for (final DslOperation op : context.getOperations()) {
+			if (op.operator() == null || op.operator().isEmpty()) {
+				continue;
+			}
+			switch (op.type()) {
+				case WITH_ARG, WITH_LIST -> valueOps.add(op.operator());
+				case NO_VALUE -> noValueOps.add(op.operator());
+				case NO_OP_WITH_ARG, NO_OP_WITH_LIST, NO_OP_NO_VALUE -> {
+					// No se agregan a ninguna lista
+				}
+			}
+		}
+		return FieldSpec
+				.builder(ClassName.get(Query.ParseConfig.class), PARSE_CONFIG_CONSTANT, Modifier.PUBLIC,
+						Modifier.STATIC, Modifier.FINAL)
+				.addJavadoc("Precompiled parse configuration of this domain.\n")
+				.initializer(CodeBlock.builder().add("$T.builder()", Query.ParseConfig.class)
+						.add(".valueOperators($T.of($L))", Set.class, literals(valueOps))
+						.add(".noValueOperators($T.of($L))", Set.class, literals(noValueOps))
+						.add(".validFields($L)", FIELD_NAMES_CONSTANT)
+						.add(".logicalOperators($T.of($S, $S))", Set.class, "and", "or")
+						.add(".allowUnknownOperators(false).build()").build())
+				.build();
+	}
+
+	private static Map<String, OperationType> operators(final DslContext context) {
+		final Map<String, OperationType> operators = new LinkedHashMap<>();
+		for (final DslOperation op : context.getOperations()) {
+			if (op.operator() != null && !op.operator().isEmpty()) {
+				operators.putIfAbsent(op.operator(), op.type());
+			}
+		}
+		return operators;
+	}
+
+	private static CodeBlock literals(final Set<String> values) {
+		final CodeBlock.Builder block = CodeBlock.builder();
+		for (final String value : values) {
+			if (!block.isEmpty()) {
+				block.add(", ");
+			}
+			block.add("$S", value);
+		}
+		return block.build();
+	}
+
+}
@@ -0,0 +1,223 @@
+package dukono.minidsl.processor.generator;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+import dukono.minidsl.QueryParser;
+import dukono.minidsl.annotation.DslField;
+import dukono.minidsl.annotation.DslOperation;
+import dukono.minidsl.processor.DslContext;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Modifier;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Generates the Parser class for a DSL domain with {@code generateParser}: a
+ * {@link QueryParser.TokenClassifier} with the fields and operators of the
+ * domain compiled into switches.
+ *
+ * Each role switches on the token length and then, inside the bucket, on the
+ * first char position that tells every candidate apart (a perfect hash over
+ * the bucket). Only the candidate that survives is compared, and a token equal
+ * to the constant returns the constant itself, so parsed queries share the
+ * interned literals.
+ *
+ * Example generated code:
+ *
+ * <pre>
+ * public String valueOperator(String token) {
+ * 	switch (token.length()) {
+ * 		case 2 :
+ * 			switch (fold(token.charAt(0))) {
+ * 				case 'e' :
+ * 					return match(token, "eq");
+ * 				case 'g' :
+ * 					return match(token, "ge");
+ * 				default :
+ * 					return null;
+ * 			}
+ * 		default :
+ * 			return null;
+ * 	}
+ * }
+ * </pre>
+ */
+public class ParserGenerator {
+
+	public void generate(final DslContext context, final Filer filer) throws IOException {
+		final TypeSpec typeSpec = this.generateAsNestedClass(context);
+
+		final JavaFile javaFile = JavaFile.builder(context.getPackageName(), typeSpec)
+				.addFileComment("Generated by Mini-DSL Processor")
+				.addFileComment("\nDO NOT EDIT - This file is auto-generated").build();
+
+		javaFile.writeTo(filer);
+	}
+
+	public TypeSpec generateAsNestedClass(final DslContext context) {
+		final String className = GeneratedClassNames.PARSER.getClassName();
+		final ClassName parserClassName = ClassName.bestGuess(className);
+
+		final List<String> fields = new ArrayList<>();
+		for (final DslField field : context.getFields()) {
+			if (field.value() != null && !field.value().isEmpty()) {
+				fields.add(field.value());
+			}
+		}
+		final List<String> valueOps = new ArrayList<>();
+		final List<String> noValueOps = new ArrayList<>();
+		for (final DslOperation op : context.getOperations()) {
+			if (op.operator() == null || op.operator().isEmpty()) {
+				continue;
+			}
+			switch (op.type()) {
+				case WITH_ARG, WITH_LIST -> valueOps.add(op.operator());
+				case NO_VALUE -> noValueOps.add(op.operator());
+				case NO_OP_WITH_ARG, NO_OP_WITH_LIST, NO_OP_NO_VALUE -> {
+					// No se agregan a ninguna lista
+				}
+			}
+		}
+
+		final TypeSpec.Builder classBuilder = TypeSpec.classBuilder(className)
+				.addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+				.addSuperinterface(ClassName.get(QueryParser.TokenClassifier.class))
+				.addJavadoc("Generated token classifier for $L domain.\n", context.getDomainName()).addJavadoc("\n")
+				.addJavadoc("Fields and operators are compiled into switches on the token length and chars.\n")
+				.addJavadoc("\n@generated by DslProcessor\n");
+
+		classBuilder.addField(FieldSpec
+				.builder(parserClassName, "INSTANCE", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+				.initializer("new $L()", className).build());
+
+		classBuilder.addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build());
+
+		classBuilder.addMethod(this.classifyMethod("logical", List.of("and", "or")));
+		// Sin campos declarados no se valida (modo permisivo), igual que ParseConfig
+		classBuilder.addMethod(fields.isEmpty()
+				? this.classifyMethodBuilder("field").addStatement("return token").build()
+				: this.classifyMethod("field", fields));
+		classBuilder.addMethod(this.classifyMethod("valueOperator", valueOps));
+		classBuilder.addMethod(this.classifyMethod("noValueOperator", noValueOps));
+
+		classBuilder.addMethod(MethodSpec.methodBuilder("isAllowUnknownOperators").addAnnotation(Override.class)
+				.addModifiers(Modifier.PUBLIC).returns(boolean.class).addStatement("return false").build());
+
+		classBuilder.addMethod(MethodSpec.methodBuilder("match").addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+				.returns(String.class).addParameter(String.class, "token").addParameter(String.class, "constant")
+				.addStatement("return token.equals(constant) ? constant : token.equalsIgnoreCase(constant) ? token : null")
+				.build());
+
+		// Misma equivalencia de caracteres que String.equalsIgnoreCase
+		classBuilder.addMethod(MethodSpec.methodBuilder("fold").addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+				.returns(char.class).addParameter(char.class, "c")
+				.addStatement("return $T.toLowerCase($T.toUpperCase(c))", Character.class, Character.class).build());
+
+		return classBuilder.build();
+	}
+
+	private MethodSpec.Builder classifyMethodBuilder(final String name) {
+		return MethodSpec.methodBuilder(name).addAnnotation(Override.class).addModifiers(Modifier.PUBLIC)
+				.returns(String.class).addParameter(String.class, "token");
+	}
+
+	private MethodSpec classifyMethod(final String name, final List<String> candidates) {
+		final MethodSpec.Builder method = this.classifyMethodBuilder(name);
+		final Map<Integer, List<String>> byLength = byLength(candidates);
+		if (byLength.isEmpty()) {
+			return method.addStatement("return null").build();
+		}
+		final CodeBlock.Builder body = CodeBlock.builder().beginControlFlow("switch (token.length())");
+		byLength.forEach((length, bucket) -> {
+			body.add("case $L:\n", length).indent();
+			body.add(this.bucket(bucket));
+			body.unindent();
+		});
+		body.add("default:\n").indent().addStatement("return null").unindent().endControlFlow();
+		return method.addCode(body.build()).build();
+	}
+
+	/**
+	 * Candidates of the same length: a switch on the first position whose folded
+	 * chars are all different, or sequential matches when there is none.
+	 */
+	private CodeBlock bucket(final List<String> bucket) {
+		if (bucket.size() == 1) {
+			return CodeBlock.builder().addStatement("return match(token, $S)", bucket.get(0)).build();
+		}
+		final int position = distinguishingPosition(bucket);
+		final CodeBlock.Builder block = CodeBlock.builder();
+		if (position < 0) {
+			block.add("{\n").indent().addStatement("$T result", String.class);
+			for (final String candidate : bucket) {
+				block.addStatement("if ((result = match(token, $S)) != null) return result", candidate);
+			}
+			return block.addStatement("return null").unindent().add("}\n").build();
+		}
+		block.beginControlFlow("switch (fold(token.charAt($L)))", position);
+		for (final String candidate : bucket) {
+			block.add("case $L:\n", charLiteral(fold(candidate.charAt(position)))).indent()
+					.addStatement("return match(token, $S)", candidate).unindent();
+		}
+		return block.add("default:\n").indent().addStatement("return null").unindent().endControlFlow().build();
+	}
+
+	/**
+	 * Groups by length, dropping candidates equal ignoring case to an earlier one:
+	 * the runtime check is case insensitive, so only the first could ever match.
+	 */
+	private static Map<Integer, List<String>> byLength(final List<String> candidates) {
+		final Map<Integer, List<String>> byLength = new TreeMap<>();
+		final Set<String> seen = new HashSet<>();
+		for (final String candidate : candidates) {
+			if (seen.add(foldAll(candidate))) {
+				byLength.computeIfAbsent(candidate.length(), k -> new ArrayList<>()).add(candidate);
+			}
+		}
+		return byLength;
+	}
+
+	private static int distinguishingPosition(final List<String> bucket) {
+		final int length = bucket.get(0).length();
+		for (int position = 0; position < length; position++) {
+			final Set<Character> chars = new HashSet<>();
+			boolean distinct = true;
+			for (final String candidate : bucket) {
+				distinct &= chars.add(fold(candidate.charAt(position)));
+			}
+			if (distinct) {
+				return position;
+			}
+		}
+		return -1;
+	}
+
+	private static char fold(final char c) {
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	private static String foldAll(final String value) {
+		final StringBuilder sb = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			sb.append(fold(value.charAt(i)));
+		}
+		return sb.toString();
+	}
+
+	private static String charLiteral(final char c) {
+		if (c < 128 && Character.isLetterOrDigit(c)) {
+			return "'" + c + "'";
+		}
+		return Integer.toString(c);
+	}
+}
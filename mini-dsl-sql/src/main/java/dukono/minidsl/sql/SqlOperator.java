@@ -0,0 +1,89 @@
+package dukono.minidsl.sql;
+
+import dukono.minidsl.OperationArgMode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * SQL rendering of one DSL operator: {@code column = ?},
+ * {@code column IN (?, ?)} or {@code column IS NULL}.
+ *
+ * The SQL text only depends on the operator and the number of values, never on
+ * the values themselves: those go to the bind list, after {@link #mapValue}.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SqlOperator {
+
+	/**
+	 * Mappings used for operators not configured in the translator.
+	 */
+	static final Map<String, SqlOperator> DEFAULTS = Map.ofEntries(Map.entry("eq", binary("=")),
+			Map.entry("ne", binary("<>")), Map.entry("gt", binary(">")), Map.entry("ge", binary(">=")),
+			Map.entry("lt", binary("<")), Map.entry("le", binary("<=")), Map.entry("like", binary("LIKE")),
+			Map.entry("in", list("IN")), Map.entry("not_in", list("NOT IN")), Map.entry("is_null", unary("IS NULL")),
+			Map.entry("is_not_null", unary("IS NOT NULL")));
+
+	private final OperationArgMode argMode;
+
+	private final String sql;
+
+	private final UnaryOperator<String> value;
+
+	/**
+	 * {@code column <sql> ?}, e.g. {@code binary("=")}.
+	 */
+	public static SqlOperator binary(final String sql) {
+		return new SqlOperator(OperationArgMode.SINGLE, sql, UnaryOperator.identity());
+	}
+
+	/**
+	 * {@code column <sql> (?, ?, ...)}, e.g. {@code list("IN")}.
+	 */
+	public static SqlOperator list(final String sql) {
+		return new SqlOperator(OperationArgMode.LIST, sql, UnaryOperator.identity());
+	}
+
+	/**
+	 * {@code column <sql>} without values, e.g. {@code unary("IS NOT NULL")}.
+	 */
+	public static SqlOperator unary(final String sql) {
+		return new SqlOperator(OperationArgMode.NONE, sql, UnaryOperator.identity());
+	}
+
+	/**
+	 * @param mapper
+	 *            applied to each value before the column converter, e.g.
+	 *            {@code v -> "%" + v + "%"} for a contains LIKE
+	 * @return a copy of this operator with the value mapping
+	 */
+	public SqlOperator mapValue(final UnaryOperator<String> mapper) {
+		return new SqlOperator(this.argMode, this.sql, mapper);
+	}
+
+	static SqlOperator defaultFor(final String operator) {
+		return DEFAULTS.get(operator.toLowerCase(Locale.ROOT));
+	}
+
+	void render(final StringBuilder sb, final String column, final int values) {
+		sb.append(column).append(' ').append(this.sql);
+		switch (this.argMode) {
+			case SINGLE -> sb.append(" ?");
+			case LIST -> {
+				sb.append(" (");
+				for (int i = 0; i < values; i++) {
+					sb.append(i == 0 ? "?" : ", ?");
+				}
+				sb.append(')');
+			}
+			case NONE -> {
+				// Sin valores
+			}
+		}
+	}
+}
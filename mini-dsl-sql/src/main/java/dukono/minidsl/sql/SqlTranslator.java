@@ -0,0 +1,365 @@
+package dukono.minidsl.sql;
+
+import dukono.minidsl.Dto;
+import dukono.minidsl.ListArity;
+import dukono.minidsl.OperationArgMode;
+import dukono.minidsl.Queries;
+import dukono.minidsl.Query;
+import dukono.minidsl.annotation.OperationDefinition;
+import dukono.minidsl.util.DomainRegistry;
+import dukono.minidsl.util.LruCache;
+import dukono.minidsl.util.Shapes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Translates the filters of a {@link Dto} to a parameterized SQL condition.
+ *
+ * Values never reach the SQL text: each one becomes a {@code ?} and goes to the
+ * bind list, so structurally identical filters give the same SQL and the
+ * database reuses its plan. That includes the order of the filters, which are
+ * laid out by shape, and list lengths, which are padded to the next power of
+ * two by repeating the last value ({@code IN (?, ?, ?, ?)} for 3 or 4 values).
+ *
+ * The rendered template is cached by
+ * {@link Dto#shapeFingerprint(ListArity) shape fingerprint}, so a repeated
+ * shape only walks the filters to collect the values. Instances are
+ * thread-safe.
+ *
+ * <pre>
+ * SqlTranslator sql = SqlTranslator.builder(OrderOperationsEnum.class, OrderFields.class)
+ * 		.column("totalAmount", "total_amount", BigDecimal::new)
+ * 		.operator("like", SqlOperator.binary("LIKE").mapValue(v -&gt; "%" + v + "%")).build();
+ * SqlWhere where = sql.translate(dto);
+ * </pre>
+ */
+public final class SqlTranslator {
+
+	private static final Pattern IDENTIFIER = Pattern
+			.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)*|\"[^\"]+\"");
+
+	private final Map<String, Column> columns;
+
+	private final Map<String, Operation> operations;
+
+	private final ListArity listArity;
+
+	private final LruCache<Long, Template> templates;
+
+	private record Column(String name, Function<String, ?> converter) {
+	}
+
+	private record Operation(OperationDefinition definition, SqlOperator sql) {
+	}
+
+	/**
+	 * One query of a template: what the filters must hold at that position for
+	 * the template to apply.
+	 */
+	private record Step(String key, String op, int arity, Column column, Operation operation) {
+	}
+
+	private record Template(String sql, Step[] steps, int[] sizes) {
+	}
+
+	private SqlTranslator(final Map<String, Column> columns, final Map<String, Operation> operations,
+			final ListArity listArity, final int maxTemplates) {
+		this.columns = columns;
+		this.operations = operations;
+		this.listArity = listArity;
+		this.templates = new LruCache<>("SqlTemplate", maxTemplates);
+	}
+
+	/**
+	 * @param operationEnumClass
+	 *            operations of the domain
+	 * @param fieldsClass
+	 *            Fields class of the domain
+	 * @return builder with every field mapped to a column of the same name
+	 */
+	public static Builder builder(final Class<? extends Enum<? extends OperationDefinition>> operationEnumClass,
+			final Class<?> fieldsClass) {
+		return new Builder(operationEnumClass, fieldsClass);
+	}
+
+	/**
+	 * @return the condition and its bind values, {@link SqlWhere#EMPTY} without
+	 *         filters
+	 * @throws IllegalArgumentException
+	 *             for fields or operators without mapping and malformed filters
+	 */
+	public SqlWhere translate(final Dto dto) {
+		// Orden por forma: mismo SQL para los mismos filtros en cualquier orden
+		final List<Queries> ordered = dto.filtersByShape(this.listArity);
+		if (ordered.isEmpty()) {
+			return SqlWhere.EMPTY;
+		}
+		final long shape = Shapes.combine(ordered, this.listArity);
+
+		Template template = this.templates.get(shape);
+		List<Object> binds = template == null ? null : this.bind(template, ordered);
+		if (binds == null) {
+			// Sin plantilla, o colisión de fingerprint: se compila y se reemplaza
+			template = this.compile(ordered);
+			binds = this.bind(template, ordered);
+			this.templates.put(shape, template);
+		}
+		return new SqlWhere(template.sql(), binds);
+	}
+
+	/**
+	 * @return number of cached templates
+	 */
+	public int templateCount() {
+		return this.templates.size();
+	}
+
+	// -----------------------------
+
+	private Template compile(final List<Queries> filters) {
+		final StringBuilder sql = new StringBuilder(64);
+		final List<Step> steps = new ArrayList<>();
+		final int[] sizes = new int[filters.size()];
+		final boolean wrap = filters.size() > 1;
+		for (int f = 0; f < sizes.length; f++) {
+			final List<Query> queries = filters.get(f).getQueries();
+			sizes[f] = queries.size();
+			if (f > 0) {
+				sql.append(" AND ");
+			}
+			if (wrap) {
+				sql.append('(');
+			}
+			final int start = sql.length();
+			for (final Query q : queries) {
+				if (q.getKey() == null) {
+					final String op = q.getOp() == null ? "" : lower(q.getOp());
+					final String token = switch (op) {
+						case "(", ")" -> op;
+						case "and", "or" -> op.toUpperCase(Locale.ROOT);
+						default -> throw new IllegalArgumentException("Unexpected token in filter: " + q);
+					};
+					append(sql, start, token);
+					steps.add(new Step(null, op, 0, null, null));
+					continue;
+				}
+				final Column column = this.columns.get(lower(q.getKey()));
+				if (column == null) {
+					throw new IllegalArgumentException("No column for field '" + q.getKey() + "'");
+				}
+				final Operation operation = q.getOp() == null ? null : this.operations.get(lower(q.getOp()));
+				if (operation == null) {
+					throw new IllegalArgumentException("No SQL mapping for operator '" + q.getOp() + "' in " + q);
+				}
+				int arity = 0;
+				if (operation.sql().getArgMode() == OperationArgMode.LIST) {
+					arity = Shapes.bucket(split(operation.definition(), value(q)).size());
+					if (arity == 0) {
+						throw new IllegalArgumentException("Empty list in " + q);
+					}
+				}
+				append(sql, start, "");
+				operation.sql().render(sql, column.name(), arity);
+				steps.add(new Step(lower(q.getKey()), lower(q.getOp()), arity, column, operation));
+			}
+			if (wrap) {
+				sql.append(')');
+			}
+		}
+		return new Template(sql.toString(), steps.toArray(Step[]::new), sizes);
+	}
+
+	/**
+	 * Values of the filters in placeholder order.
+	 *
+	 * @return the values, {@code null} when the filters do not have the structure
+	 *         of the template
+	 */
+	private List<Object> bind(final Template template, final List<Queries> filters) {
+		if (filters.size() != template.sizes().length) {
+			return null;
+		}
+		final List<Object> binds = new ArrayList<>();
+		int s = 0;
+		for (int f = 0; f < filters.size(); f++) {
+			final List<Query> queries = filters.get(f).getQueries();
+			if (queries.size() != template.sizes()[f]) {
+				return null;
+			}
+			for (final Query q : queries) {
+				final Step step = template.steps()[s++];
+				if (!step.op().equalsIgnoreCase(q.getOp())
+						|| (step.key() == null ? q.getKey() != null : !step.key().equalsIgnoreCase(q.getKey()))) {
+					return null;
+				}
+				if (step.key() == null) {
+					continue;
+				}
+				final SqlOperator sql = step.operation().sql();
+				switch (sql.getArgMode()) {
+					case SINGLE -> binds.add(step.column().converter().apply(sql.getValue().apply(value(q))));
+					case LIST -> {
+						final List<String> values = split(step.operation().definition(), value(q));
+						if (Shapes.bucket(values.size()) != step.arity()) {
+							return null;
+						}
+						Object last = null;
+						for (final String v : values) {
+							last = step.column().converter().apply(sql.getValue().apply(v));
+							binds.add(last);
+						}
+						// ⚡ Relleno hasta el bucket: IN (a, b, c, c) es el mismo filtro
+						for (int i = values.size(); i < step.arity(); i++) {
+							binds.add(last);
+						}
+					}
+					case NONE -> {
+						// Sin valores
+					}
+				}
+			}
+		}
+		return binds;
+	}
+
+	private static void append(final StringBuilder sql, final int start, final String token) {
+		final boolean afterOpen = sql.length() > start && sql.charAt(sql.length() - 1) == '(';
+		if (sql.length() > start && !afterOpen && !")".equals(token)) {
+			sql.append(' ');
+		}
+		sql.append(token);
+	}
+
+	/**
+	 * Values of a list rendered with the delimiter and brackets of its operation.
+	 */
+	private static List<String> split(final OperationDefinition definition, final String value) {
+		return Shapes.split(value, definition.getListDelimiter(), definition.getListBrackets());
+	}
+
+	private static String value(final Query q) {
+		return q.getValue().map(Object::toString).map(String::trim).orElse("");
+	}
+
+	private static String lower(final String token) {
+		return token.toLowerCase(Locale.ROOT);
+	}
+
+	// -----------------------------
+
+	/**
+	 * Column and operator mappings of a domain. Fields without a column are
+	 * mapped to a column with their own name; operators without a mapping use
+	 * {@link SqlOperator#DEFAULTS} and must have one there.
+	 */
+	public static final class Builder {
+
+		private final Class<? extends Enum<? extends OperationDefinition>> operationEnumClass;
+
+		private final Class<?> fieldsClass;
+
+		private final Map<String, Column> columns = new HashMap<>();
+
+		private final Map<String, SqlOperator> operators = new HashMap<>();
+
+		private int maxTemplates = 1024;
+
+		private Builder(final Class<? extends Enum<? extends OperationDefinition>> operationEnumClass,
+				final Class<?> fieldsClass) {
+			this.operationEnumClass = operationEnumClass;
+			this.fieldsClass = fieldsClass;
+		}
+
+		public Builder column(final String field, final String column) {
+			return this.column(field, column, Function.identity());
+		}
+
+		/**
+		 * @param converter
+		 *            turns each value into the object bound to the placeholder, e.g.
+		 *            {@code Integer::valueOf}
+		 */
+		public Builder column(final String field, final String column, final Function<String, ?> converter) {
+			if (!IDENTIFIER.matcher(column).matches()) {
+				throw new IllegalArgumentException("Invalid column name: " + column);
+			}
+			this.columns.put(lower(field), new Column(column, converter));
+			return this;
+		}
+
+		public Builder operator(final String operator, final SqlOperator sql) {
+			this.operators.put(lower(operator), sql);
+			return this;
+		}
+
+		/**
+		 * @param maxTemplates
+		 *            cached shapes, least recently used evicted first (default 1024)
+		 */
+		public Builder maxTemplates(final int maxTemplates) {
+			if (maxTemplates < 1) {
+				throw new IllegalArgumentException("maxTemplates must be positive: " + maxTemplates);
+			}
+			this.maxTemplates = maxTemplates;
+			return this;
+		}
+
+		/**
+		 * @throws IllegalArgumentException
+		 *             when a mapping names an unknown field or operator, an operator
+		 *             of the domain has no mapping, or a mapping takes a different
+		 *             number of values than its operation
+		 */
+		public SqlTranslator build() {
+			final Map<String, Column> resolvedColumns = new HashMap<>();
+			for (final String field : DomainRegistry.of(this.fieldsClass).fieldNames()) {
+				final Column column = this.columns.get(lower(field));
+				resolvedColumns.put(lower(field),
+						column != null ? column : new Column(checkedColumn(field), Function.identity()));
+			}
+			this.columns.keySet().stream().filter(field -> !resolvedColumns.containsKey(field)).findFirst()
+					.ifPresent(field -> {
+						throw new IllegalArgumentException("Unknown field: " + field);
+					});
+
+			final Map<String, Operation> resolvedOperations = new HashMap<>();
+			DomainRegistry.of(this.operationEnumClass).operators().forEach((operator, definition) -> {
+				final SqlOperator configured = this.operators.get(operator);
+				final SqlOperator sql = configured != null ? configured : SqlOperator.defaultFor(operator);
+				if (sql == null) {
+					throw new IllegalArgumentException(
+							"No SQL mapping for operator '" + operator + "', configure it with operator(...)");
+				}
+				final OperationArgMode expected = switch (definition.getType()) {
+					case WITH_LIST, NO_OP_WITH_LIST -> OperationArgMode.LIST;
+					case NO_VALUE, NO_OP_NO_VALUE -> OperationArgMode.NONE;
+					case WITH_ARG, NO_OP_WITH_ARG -> OperationArgMode.SINGLE;
+				};
+				if (sql.getArgMode() != expected) {
+					throw new IllegalArgumentException("Operator '" + operator + "' is " + definition.getType()
+							+ " but its SQL mapping takes " + sql.getArgMode());
+				}
+				resolvedOperations.put(operator, new Operation(definition, sql));
+			});
+			this.operators.keySet().stream().filter(operator -> !resolvedOperations.containsKey(operator))
+					.findFirst().ifPresent(operator -> {
+						throw new IllegalArgumentException("Unknown operator: " + operator);
+					});
+			return new SqlTranslator(Map.copyOf(resolvedColumns), Map.copyOf(resolvedOperations),
+					DomainRegistry.of(this.operationEnumClass).listArity(), this.maxTemplates);
+		}
+
+		private static String checkedColumn(final String field) {
+			if (!IDENTIFIER.matcher(field).matches()) {
+				throw new IllegalArgumentException("Field '" + field + "' is not a valid column name, map it");
+			}
+			return field;
+		}
+	}
+}
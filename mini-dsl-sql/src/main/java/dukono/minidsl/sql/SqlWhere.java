@@ -0,0 +1,37 @@
+package dukono.minidsl.sql;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Parameterized WHERE condition: SQL text with {@code ?} placeholders, without
+ * the {@code WHERE} keyword, and the values to bind in order.
+ *
+ * @param sql
+ *            condition, empty when there are no filters
+ * @param binds
+ *            one value per placeholder
+ */
+public record SqlWhere(String sql, List<Object> binds) {
+
+	public static final SqlWhere EMPTY = new SqlWhere("", List.of());
+
+	public boolean isEmpty() {
+		return this.sql.isEmpty();
+	}
+
+	/**
+	 * Binds the values starting at {@code firstIndex}, for conditions appended
+	 * after other placeholders of the statement.
+	 *
+	 * @return index of the next placeholder
+	 */
+	public int bind(final PreparedStatement statement, final int firstIndex) throws SQLException {
+		int index = firstIndex;
+		for (final Object value : this.binds) {
+			statement.setObject(index++, value);
+		}
+		return index;
+	}
+}
@@ -0,0 +1,114 @@
+package dukono.minidsl.sql;
+
+import dukono.minidsl.example.generated.OrderApi;
+import dukono.minidsl.example.generated.OrderDomainDefinitionConfigConcise.OrderFields;
+import dukono.minidsl.example.generated.OrderDomainDefinitionConfigConcise.OrderOperationsEnum;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlTranslatorTest {
+
+	private static Connection connection;
+
+	private final SqlTranslator translator = SqlTranslator.builder(OrderOperationsEnum.class, OrderFields.class)
+			.column(OrderFields.ORDER_ID, "order_id").column(OrderFields.CUSTOMER_NAME, "customer_name")
+			.column(OrderFields.TOTAL_AMOUNT, "total_amount", BigDecimal::new)
+			.column(OrderFields.STATUS, "status", Integer::valueOf)
+			.column(OrderFields.CREATED_DATE, "created_date", LocalDate::parse)
+			.column(OrderFields.ITEMS, "items", Integer::valueOf)
+			.operator("like", SqlOperator.binary("LIKE").mapValue(v -> "%" + v + "%")).build();
+
+	@BeforeAll
+	static void createOrders() throws SQLException {
+		connection = DriverManager.getConnection("jdbc:h2:mem:orders");
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE orders (order_id VARCHAR(20), customer_name VARCHAR(50),"
+					+ " total_amount DECIMAL(10, 2), status INT, created_date DATE, items INT)");
+			statement.execute("INSERT INTO orders VALUES ('A1', 'ana', 10.00, 1, DATE '2024-01-01', 1),"
+					+ " ('A2', 'bob', 55.50, 2, DATE '2024-02-01', 3), ('A3', 'anabel', 99.90, 3, NULL, 5),"
+					+ " ('A4', 'carl', 120.00, 4, DATE '2024-03-01', 7)");
+		}
+	}
+
+	@AfterAll
+	static void close() throws SQLException {
+		connection.close();
+	}
+
+	@Test
+	void when_same_shape_then_same_sql_and_rows_match() throws SQLException {
+		final SqlWhere first = this.translator.translate(
+				OrderApi.from(List.of("customerName like ana and totalAmount ge 50", "createdDate is_not_null"))
+						.getDto());
+		final SqlWhere second = this.translator.translate(
+				OrderApi.from(List.of("createdDate is_not_null", "customerName like bo and totalAmount ge 5"))
+						.getDto());
+
+		// El orden de los filtros lo decide su forma, no el orden de entrada
+		assertThat(first.sql()).isEqualTo(second.sql()).contains(" AND ")
+				.contains("(customer_name LIKE ? AND total_amount >= ?)").contains("(created_date IS NOT NULL)");
+		assertThat(first.binds()).containsExactly("%ana%", new BigDecimal("50"));
+		assertThat(second.binds()).containsExactly("%bo%", new BigDecimal("5"));
+		assertThat(this.translator.templateCount()).isEqualTo(1);
+		assertThat(select(first)).isEmpty();
+		assertThat(select(second)).containsExactly("A2");
+	}
+
+	@Test
+	void when_list_lengths_share_a_bucket_then_sql_is_reused() throws SQLException {
+		final SqlWhere three = this.translator
+				.translate(OrderApi.from(List.of("(status in 1|2|3) or (items ge 7)")).getDto());
+		final SqlWhere four = this.translator
+				.translate(OrderApi.from(List.of("(status in 1|2|3|9) or (items ge 100)")).getDto());
+		final SqlWhere five = this.translator.translate(OrderApi.from(List.of("status in 1|2|3|4|5")).getDto());
+
+		assertThat(three.sql()).isEqualTo(four.sql()).isEqualTo("(status IN (?, ?, ?, ?)) OR (items >= ?)");
+		assertThat(three.binds()).containsExactly(1, 2, 3, 3, 7);
+		assertThat(five.sql()).isEqualTo("status IN (?, ?, ?, ?, ?, ?, ?, ?)");
+		assertThat(select(three)).containsExactly("A1", "A2", "A3", "A4");
+		assertThat(select(four)).containsExactly("A1", "A2", "A3");
+		assertThat(select(five)).containsExactly("A1", "A2", "A3", "A4");
+	}
+
+	@Test
+	void when_mapping_is_invalid_then_build_fails() {
+		assertThatThrownBy(() -> SqlTranslator.builder(OrderOperationsEnum.class, OrderFields.class)
+				.column("unknown", "x").build()).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("unknown");
+		assertThatThrownBy(() -> SqlTranslator.builder(OrderOperationsEnum.class, OrderFields.class)
+				.operator("in", SqlOperator.binary("=")).build()).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("WITH_LIST");
+		assertThatThrownBy(() -> SqlTranslator.builder(OrderOperationsEnum.class, OrderFields.class)
+				.column(OrderFields.STATUS, "status; DROP TABLE orders").build())
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static List<String> select(final SqlWhere where) throws SQLException {
+		try (PreparedStatement statement = connection
+				.prepareStatement("SELECT order_id FROM orders WHERE " + where.sql() + " ORDER BY order_id")) {
+			where.bind(statement, 1);
+			final List<String> ids = new ArrayList<>();
+			try (ResultSet rs = statement.executeQuery()) {
+				while (rs.next()) {
+					ids.add(rs.getString(1));
+				}
+			}
+			return ids;
+		}
+	}
+}